@@ -0,0 +1,39 @@
+package safe_automation_utils.safe_command_budget;
+
+import java.io.IOException;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.Response;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Wraps the CommandExecutor of a RemoteWebDriver and counts every command it sends against the scopes that are
+ * open on the calling thread. The command is counted before it is sent so a command that fails still counts.
+ */
+final class CountingCommandExecutor implements CommandExecutor {
+
+	private final CommandExecutor executor;
+
+	CountingCommandExecutor(CommandExecutor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the executor that actually sends the commands.
+	 * @return -> CommandExecutor
+	 */
+	CommandExecutor getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public Response execute(Command command) throws IOException {
+		SafeCommandBudget.recordCommand(command.getName());
+		return executor.execute(command);
+	}
+}
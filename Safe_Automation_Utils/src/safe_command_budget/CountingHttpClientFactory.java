@@ -0,0 +1,48 @@
+package safe_automation_utils.safe_command_budget;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Wraps an HttpClient.Factory so that every client it creates adds the size of each request and response body
+ * to the scopes that are open on the calling thread. HttpMessage.getContent buffers the body the first time it
+ * is read, so reading it here does not take it away from the executor.
+ */
+final class CountingHttpClientFactory implements HttpClient.Factory {
+
+	private final HttpClient.Factory factory;
+
+	CountingHttpClientFactory(HttpClient.Factory factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public HttpClient createClient(URL url) {
+		HttpClient client = factory.createClient(url);
+		return new HttpClient() {
+			@Override
+			public HttpResponse execute(HttpRequest request) throws IOException {
+				if(SafeCommandBudget.isRecording())
+					SafeCommandBudget.recordBytes(request.getContent().length, 0);
+				HttpResponse response = client.execute(request);
+				if(SafeCommandBudget.isRecording())
+					SafeCommandBudget.recordBytes(0, response.getContent().length);
+				return response;
+			}
+		};
+	}
+
+	@Override
+	public void cleanupIdleClients() {
+		factory.cleanupIdleClients();
+	}
+}
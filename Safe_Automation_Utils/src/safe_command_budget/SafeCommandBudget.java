@@ -0,0 +1,323 @@
+package safe_automation_utils.safe_command_budget;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.HttpClient;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Counts the wire commands a driver sends to the browser while a test or a safe operation runs and fails the
+ * operation when it sends more than it is allowed to. Against a remote grid every command is a round trip, so
+ * an operation that starts sending more commands gets slower long before anyone notices, and a budget turns that
+ * into a test failure instead.
+ *
+ * A driver is counted once it has been instrumented with safeInstrument, or when it was created with the
+ * executor returned by createExecutor, which also counts the bytes of every request and response. Commands are
+ * counted against every scope that is open on the thread that sends them:
+ *
+ *   SafeCommandBudget.Scope test = SafeCommandBudget.begin("checkout");
+ *   try(SafeCommandBudget.Scope operation = SafeCommandBudget.begin("pick country", 5).limit("findElement", 1)) {
+ *       Select country = HelperUtils.convertWebElementToSelectObject(SafeGetByID.safeGetByID(driver, "country"));
+ *       SafeSelectActions.safeSetSelectOptionByVisibleText(country, "Canada");
+ *   }
+ *   SafeCommandUsage usage = test.end();
+ *
+ * Closing a scope that went over its budget throws an AssertionError that lists the commands it sent. Scopes
+ * that nothing has opened cost a single thread local read per command.
+ *
+ * All methods in this class are static.
+ */
+public final class SafeCommandBudget {
+
+	/**
+	 * The budget used when a scope only counts and never fails.
+	 */
+	public static final long NO_BUDGET = Long.MAX_VALUE;
+
+	private static final ThreadLocal<Deque<Scope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private SafeCommandBudget() {
+	}
+
+	/**
+	 * Opens a scope with the passed in name that only counts commands. Scopes are closed in the reverse order
+	 * they were opened, on the thread that opened them.
+	 * @param name -> String
+	 * @return -> Scope
+	 */
+	public static Scope begin(String name) {
+		return begin(name, NO_BUDGET);
+	}
+
+	/**
+	 * Opens a scope with the passed in name that fails when it is closed after more than maxCommands commands
+	 * were sent.
+	 * @param name -> String
+	 * @param maxCommands -> long
+	 * @return -> Scope
+	 */
+	public static Scope begin(String name, long maxCommands) {
+		Scope scope = new Scope(name, maxCommands);
+		SCOPES.get().push(scope);
+		return scope;
+	}
+
+	/**
+	 * Runs the passed in operation inside a scope with the passed in budget and returns what it returned. An
+	 * AssertionError is thrown after the operation when it sent more than maxCommands commands.
+	 * @param name -> String
+	 * @param maxCommands -> long
+	 * @param operation -> Supplier<T>
+	 * @return -> T
+	 */
+	public static <T> T measure(String name, long maxCommands, Supplier<T> operation) {
+		try(Scope scope = begin(name, maxCommands)) {
+			return operation.get();
+		}
+	}
+
+	/**
+	 * Returns the innermost scope open on the calling thread or null if there is none.
+	 * @return -> Scope
+	 */
+	public static Scope current() {
+		return SCOPES.get().peek();
+	}
+
+	/**
+	 * Attempts to count the commands the passed in driver sends from now on. Drivers that wrap another driver
+	 * are unwrapped first. Only bytes are not counted this way, see createExecutor. If the driver is null, is not
+	 * a RemoteWebDriver or an exception occurs then false is returned. If the driver is counted, including when
+	 * it already was, then true is returned.
+	 * @param driver -> WebDriver
+	 * @return -> boolean
+	 */
+	public static boolean safeInstrument(WebDriver driver) {
+		while(driver instanceof WrapsDriver && !(driver instanceof RemoteWebDriver))
+			driver = ((WrapsDriver)driver).getWrappedDriver();
+		if(!(driver instanceof RemoteWebDriver))
+			return false;
+		try {
+			RemoteWebDriver remote = (RemoteWebDriver)driver;
+			CommandExecutor executor = remote.getCommandExecutor();
+			if(executor instanceof CountingCommandExecutor)
+				return true;
+			Method setter = RemoteWebDriver.class.getDeclaredMethod("setCommandExecutor", CommandExecutor.class);
+			setter.setAccessible(true);
+			setter.invoke(remote, wrap(executor));
+			return true;
+		}catch(Exception ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns an executor for a remote server that counts both the commands and the bytes it sends, to pass to
+	 * new RemoteWebDriver(executor, capabilities).
+	 * @param remoteAddress -> URL
+	 * @return -> CommandExecutor
+	 */
+	public static CommandExecutor createExecutor(URL remoteAddress) {
+		return wrap(new HttpCommandExecutor(Collections.emptyMap(), remoteAddress, wrap(HttpClient.Factory.createDefault())));
+	}
+
+	/**
+	 * Returns an executor that counts every command sent through the passed in one.
+	 * @param executor -> CommandExecutor
+	 * @return -> CommandExecutor
+	 */
+	public static CommandExecutor wrap(CommandExecutor executor) {
+		if(executor instanceof CountingCommandExecutor)
+			return executor;
+		return new CountingCommandExecutor(executor);
+	}
+
+	/**
+	 * Returns a factory whose clients count the bytes of every request and response, for drivers built on a
+	 * custom HttpCommandExecutor.
+	 * @param factory -> HttpClient.Factory
+	 * @return -> HttpClient.Factory
+	 */
+	public static HttpClient.Factory wrap(HttpClient.Factory factory) {
+		if(factory instanceof CountingHttpClientFactory)
+			return factory;
+		return new CountingHttpClientFactory(factory);
+	}
+
+	static boolean isRecording() {
+		return !SCOPES.get().isEmpty();
+	}
+
+	static void recordCommand(String commandName) {
+		Deque<Scope> scopes = SCOPES.get();
+		if(scopes.isEmpty())
+			return;
+		for(Scope scope:scopes) {
+			scope.addCommand(commandName);
+		}
+	}
+
+	static void recordBytes(long requestBytes, long responseBytes) {
+		for(Scope scope:SCOPES.get()) {
+			scope.addBytes(requestBytes, responseBytes);
+		}
+	}
+
+	/**
+	 * A test or operation that commands are counted against until it is closed. Limits for single command types
+	 * are added with limit. A scope is only counted on the thread that opened it, but its usage can be read from
+	 * any thread.
+	 */
+	public static final class Scope implements AutoCloseable {
+
+		private final String name;
+		private final long maxCommands;
+		private final Map<String, Long> maxCommandCounts = new HashMap<>();
+		private final Map<String, Long> commandCounts = new HashMap<>();
+		private final Map<String, SafeCommandUsage> operations = new LinkedHashMap<>();
+		private long commandCount;
+		private long requestBytes;
+		private long responseBytes;
+		private boolean closed;
+
+		private Scope(String name, long maxCommands) {
+			this.name = name;
+			this.maxCommands = maxCommands;
+		}
+
+		/**
+		 * Fails this scope when more than maxCommands commands with the passed in name are sent and returns the
+		 * scope.
+		 * @param commandName -> String
+		 * @param maxCount -> long
+		 * @return -> Scope
+		 */
+		public synchronized Scope limit(String commandName, long maxCount) {
+			maxCommandCounts.put(commandName, maxCount);
+			return this;
+		}
+
+		/**
+		 * Returns the name this scope was opened with.
+		 * @return -> String
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns what was counted so far.
+		 * @return -> SafeCommandUsage
+		 */
+		public synchronized SafeCommandUsage getUsage() {
+			return new SafeCommandUsage(name, commandCount, commandCounts, requestBytes, responseBytes, operations);
+		}
+
+		/**
+		 * Throws an AssertionError if more commands were sent than the budget of this scope allows, without
+		 * closing it.
+		 */
+		public synchronized void assertWithinBudget() {
+			StringBuilder exceeded = new StringBuilder();
+			if(commandCount>maxCommands)
+				exceeded.append(commandCount).append(" commands, budget ").append(maxCommands);
+			for(Map.Entry<String, Long> limit:maxCommandCounts.entrySet()) {
+				long count = commandCounts.getOrDefault(limit.getKey(), 0L);
+				if(count>limit.getValue()) {
+					if(exceeded.length()>0)
+						exceeded.append(", ");
+					exceeded.append(count).append(' ').append(limit.getKey()).append(", budget ").append(limit.getValue());
+				}
+			}
+			if(exceeded.length()>0)
+				throw new AssertionError(name + " went over its command budget with " + exceeded + " " + commandCounts);
+		}
+
+		/**
+		 * Stops counting, adds the usage of this scope to the scope it was opened in and returns it. Scopes that
+		 * were opened inside this one and not closed yet are closed first without checking their budgets. An
+		 * AssertionError is thrown if more commands were sent than the budget of this scope allows. Ending a scope
+		 * twice returns its usage again.
+		 * @return -> SafeCommandUsage
+		 */
+		public SafeCommandUsage end() {
+			if(finish())
+				assertWithinBudget();
+			return getUsage();
+		}
+
+		/**
+		 * The same as end, for try with resources.
+		 */
+		@Override
+		public void close() {
+			end();
+		}
+
+		/**
+		 * Removes this scope and every scope opened inside it from the calling thread. Returns false if the scope
+		 * was already closed.
+		 */
+		private boolean finish() {
+			synchronized(this) {
+				if(closed)
+					return false;
+				closed = true;
+			}
+			Deque<Scope> scopes = SCOPES.get();
+			if(scopes.contains(this)) {
+				while(scopes.peek()!=this)
+					scopes.peek().finish();
+				scopes.pop();
+				Scope parent = scopes.peek();
+				if(parent!=null)
+					parent.addOperation(getUsage());
+			}
+			if(scopes.isEmpty())
+				SCOPES.remove();
+			return true;
+		}
+
+		private synchronized void addCommand(String commandName) {
+			commandCount++;
+			commandCounts.merge(commandName, 1L, Long::sum);
+		}
+
+		private synchronized void addBytes(long sent, long received) {
+			requestBytes += sent;
+			responseBytes += received;
+		}
+
+		private synchronized void addOperation(SafeCommandUsage usage) {
+			SafeCommandUsage previous = operations.get(usage.getName());
+			if(previous==null) {
+				operations.put(usage.getName(), usage);
+				return;
+			}
+			Map<String, Long> counts = new HashMap<>(previous.getCommandCounts());
+			for(Map.Entry<String, Long> entry:usage.getCommandCounts().entrySet()) {
+				counts.merge(entry.getKey(), entry.getValue(), Long::sum);
+			}
+			operations.put(usage.getName(), new SafeCommandUsage(usage.getName(), previous.getCommandCount()+usage.getCommandCount(), counts,
+					previous.getRequestBytes()+usage.getRequestBytes(), previous.getResponseBytes()+usage.getResponseBytes(),
+					previous.getOperations()));
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package safe_automation_utils.safe_command_budget;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A snapshot of the wire commands sent to the browser while a SafeCommandBudget scope was open. Commands are
+ * counted by the name Selenium gives them, for example findElement or getElementText. Bytes are only counted
+ * when the driver talks to the browser through an executor built by SafeCommandBudget.createExecutor, otherwise
+ * they stay 0.
+ *
+ * Usage of the operations that were opened and closed inside the scope is kept by operation name, so the usage
+ * of a test also shows how many commands each of its safe operations sent in total.
+ */
+public final class SafeCommandUsage {
+
+	private final String name;
+	private final long commandCount;
+	private final Map<String, Long> commandCounts;
+	private final long requestBytes;
+	private final long responseBytes;
+	private final Map<String, SafeCommandUsage> operations;
+
+	SafeCommandUsage(String name, long commandCount, Map<String, Long> commandCounts, long requestBytes, long responseBytes,
+			Map<String, SafeCommandUsage> operations) {
+		this.name = name;
+		this.commandCount = commandCount;
+		this.commandCounts = Collections.unmodifiableMap(new TreeMap<>(commandCounts));
+		this.requestBytes = requestBytes;
+		this.responseBytes = responseBytes;
+		this.operations = Collections.unmodifiableMap(new LinkedHashMap<>(operations));
+	}
+
+	/**
+	 * Returns the name the scope was opened with.
+	 * @return -> String
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of wire commands of every type.
+	 * @return -> long
+	 */
+	public long getCommandCount() {
+		return commandCount;
+	}
+
+	/**
+	 * Returns the number of wire commands with the passed in name, or 0 if none were sent.
+	 * @param commandName -> String
+	 * @return -> long
+	 */
+	public long getCommandCount(String commandName) {
+		Long count = commandCounts.get(commandName);
+		return count==null ? 0 : count;
+	}
+
+	/**
+	 * Returns the number of wire commands by command name, sorted by name.
+	 * @return -> Map<String, Long>
+	 */
+	public Map<String, Long> getCommandCounts() {
+		return commandCounts;
+	}
+
+	/**
+	 * Returns the number of bytes of every request body that was sent.
+	 * @return -> long
+	 */
+	public long getRequestBytes() {
+		return requestBytes;
+	}
+
+	/**
+	 * Returns the number of bytes of every response body that was received.
+	 * @return -> long
+	 */
+	public long getResponseBytes() {
+		return responseBytes;
+	}
+
+	/**
+	 * Returns the combined usage of the operations closed inside this scope by operation name, in the order they
+	 * were first closed.
+	 * @return -> Map<String, SafeCommandUsage>
+	 */
+	public Map<String, SafeCommandUsage> getOperations() {
+		return operations;
+	}
+
+	/**
+	 * Returns the combined usage of the operations with the passed in name, or null if none were closed inside
+	 * this scope.
+	 * @param operationName -> String
+	 * @return -> SafeCommandUsage
+	 */
+	public SafeCommandUsage getOperation(String operationName) {
+		return operations.get(operationName);
+	}
+
+	@Override
+	public String toString() {
+		return name + ": " + commandCount + " commands " + commandCounts + ", " + requestBytes + " bytes sent, "
+				+ responseBytes + " bytes received";
+	}
+}
@@ -0,0 +1,290 @@
+package safe_automation_utils.safe_get_webelement;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.internal.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.internal.WrapsElement;
+
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A WebElement that remembers how it was located and locates itself again when the page has replaced it. When a
+ * call fails with a StaleElementReferenceException the element is located again with the same source, inside its
+ * parent if it has one, and the call is tried once more. Since it is a WebElement it can be passed to every safe
+ * method that takes one:
+ *
+ *   SafeElement row = SafeElement.safeLocate(driver, "orders", Locator_Type_Constants.ID);
+ *   SafeElement total = row.safeLocateChild("td.total", Locator_Type_Constants.CSSSELECTOR);
+ *   SafeClick.safeClickWebElement(total);
+ *
+ * If the element can't be located again the StaleElementReferenceException is thrown as before, so the safe method
+ * returns the same as it does for any stale element. Elements returned by findElement and findElements are plain
+ * WebElements, use safeLocateChild for a child that should locate itself again. An element that goes stale while
+ * it is part of an Actions chain or a script argument is not located again, since the call is already sent.
+ */
+public final class SafeElement implements WebElement, WrapsElement, WrapsDriver, Locatable {
+
+	private static final SafeMethodProbe RELOCATE = SafeMetrics.probe("SafeElement.relocate");
+
+	private final WebDriver driver;
+	private final SafeElement parent;
+	private final String source;
+	private final String sourceType;
+	private volatile WebElement element;
+
+	private SafeElement(WebDriver driver, SafeElement parent, String source, String sourceType, WebElement element) {
+		this.driver = driver;
+		this.parent = parent;
+		this.source = source;
+		this.sourceType = sourceType;
+		this.element = element;
+	}
+
+	/**
+	 * Attempts to locate the WebElement that matches the passed in source String value with the locator that matches
+	 * the sourceType String value, the same as HelperUtils.locateWebElement. If the WebDriver object is null or if the
+	 * source String object or the sourceType String object is null or blank then null is returned. If no element
+	 * matches or an exception occurs during the process then null is returned. If the element is located then a
+	 * SafeElement for it is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeElement
+	 */
+	public static SafeElement safeLocate(WebDriver driver, String source, String sourceType) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty())
+			return null;
+		try {
+			WebElement located = find(driver, null, source, sourceType);
+			return located==null ? null : new SafeElement(driver, null, source, sourceType, located);
+		}catch(WebDriverException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Attempts to locate the child of this element that matches the passed in source String value with the locator
+	 * that matches the sourceType String value. The child is located again inside this element when it goes stale,
+	 * and this element is located again first if it went stale as well. If the source String object or the
+	 * sourceType String object is null or blank then null is returned. If no child matches or an exception occurs
+	 * during the process then null is returned. If the child is located then a SafeElement for it is returned.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeElement
+	 */
+	public SafeElement safeLocateChild(String source, String sourceType) {
+		if(source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty())
+			return null;
+		try {
+			WebElement located = find(driver, this, source, sourceType);
+			return located==null ? null : new SafeElement(driver, this, source, sourceType, located);
+		}catch(WebDriverException ex) {
+			return null;
+		}
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public String getSourceType() {
+		return sourceType;
+	}
+
+	/**
+	 * Returns the element this element was located in, or null if it was located in the page.
+	 * @return -> SafeElement
+	 */
+	public SafeElement getParent() {
+		return parent;
+	}
+
+	@Override
+	public WebElement getWrappedElement() {
+		return element;
+	}
+
+	@Override
+	public WebDriver getWrappedDriver() {
+		return driver;
+	}
+
+	@Override
+	public void click() {
+		run(current -> {
+			current.click();
+			return null;
+		});
+	}
+
+	@Override
+	public void submit() {
+		run(current -> {
+			current.submit();
+			return null;
+		});
+	}
+
+	@Override
+	public void sendKeys(CharSequence... keysToSend) {
+		run(current -> {
+			current.sendKeys(keysToSend);
+			return null;
+		});
+	}
+
+	@Override
+	public void clear() {
+		run(current -> {
+			current.clear();
+			return null;
+		});
+	}
+
+	@Override
+	public String getTagName() {
+		return run(WebElement::getTagName);
+	}
+
+	@Override
+	public String getAttribute(String name) {
+		return run(current -> current.getAttribute(name));
+	}
+
+	@Override
+	public boolean isSelected() {
+		return run(WebElement::isSelected);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return run(WebElement::isEnabled);
+	}
+
+	@Override
+	public String getText() {
+		return run(WebElement::getText);
+	}
+
+	@Override
+	public List<WebElement> findElements(By by) {
+		return run(current -> current.findElements(by));
+	}
+
+	@Override
+	public WebElement findElement(By by) {
+		return run(current -> current.findElement(by));
+	}
+
+	@Override
+	public boolean isDisplayed() {
+		return run(WebElement::isDisplayed);
+	}
+
+	@Override
+	public Point getLocation() {
+		return run(WebElement::getLocation);
+	}
+
+	@Override
+	public Dimension getSize() {
+		return run(WebElement::getSize);
+	}
+
+	@Override
+	public Rectangle getRect() {
+		return run(WebElement::getRect);
+	}
+
+	@Override
+	public String getCssValue(String propertyName) {
+		return run(current -> current.getCssValue(propertyName));
+	}
+
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target) {
+		return run(current -> current.getScreenshotAs(target));
+	}
+
+	@Override
+	public Coordinates getCoordinates() {
+		return run(current -> ((Locatable) current).getCoordinates());
+	}
+
+	@Override
+	public String toString() {
+		return "SafeElement[" + sourceType + ": " + source + (parent==null ? "" : " in " + parent) + "]";
+	}
+
+	/**
+	 * Performs the call on the current element and once more on the element located again if it went stale.
+	 */
+	private <T> T run(Function<WebElement, T> call) {
+		WebElement current = element;
+		try {
+			return call.apply(current);
+		}catch(StaleElementReferenceException ex) {
+			WebElement located = relocate(current);
+			if(located==null)
+				throw ex;
+			return call.apply(located);
+		}
+	}
+
+	/**
+	 * Locates the element again unless another call already did since the passed in element went stale, returns
+	 * null if it is not on the page anymore.
+	 */
+	private synchronized WebElement relocate(WebElement stale) {
+		if(element!=stale)
+			return element;
+		long start = RELOCATE.start();
+		RELOCATE.locator(sourceType, source);
+		Exception swallowed = null;
+		try {
+			WebElement located = find(driver, parent, source, sourceType);
+			if(located!=null)
+				element = located;
+			return located;
+		}catch(WebDriverException ex) {
+			swallowed = ex;
+			return null;
+		}finally {
+			RELOCATE.stop(start, swallowed);
+		}
+	}
+
+	private static WebElement find(WebDriver driver, SafeElement parent, String source, String sourceType) {
+		switch(sourceType) {
+			case Locator_Type_Constants.XPATH:
+				return parent==null ? SafeGetByXPath.safeGetByXPath(driver, source) : SafeGetByXPath.safeGetChildByXPath(parent, source);
+			case Locator_Type_Constants.CLASSNAME:
+				return parent==null ? SafeGetByClassName.safeGetByClassName(driver, source) : SafeGetByClassName.safeGetChildByClassName(parent, source);
+			case Locator_Type_Constants.ID:
+				return parent==null ? SafeGetByID.safeGetByID(driver, source) : SafeGetByID.safeGetChildByID(parent, source);
+			case Locator_Type_Constants.CSSSELECTOR:
+				return parent==null ? SafeGetByCSSSelector.safeGetByCssSelector(driver, source) : SafeGetByCSSSelector.safeGetChildByCssSelector(parent, source);
+			default:
+				return null;
+		}
+	}
+}
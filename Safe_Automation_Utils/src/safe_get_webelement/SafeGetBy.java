@@ -0,0 +1,108 @@
+package safe_automation_utils.safe_get_webelement;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+
+/**
+ * 
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ * 
+ * Contains methods that provide safe ways of searching and getting WebElements based upon a
+ * By that was built once, for example a By constant of a generated page object, instead of
+ * building a new By from a string value on every call.
+ * 
+ * All methods in this class are static.
+ */
+
+public final class SafeGetBy {
+
+	private static final SafeMethodProbe SAFE_GET_BY = SafeMetrics.probe("SafeGetBy.safeGetBy");
+	private static final SafeMethodProbe SAFE_GET_CHILD_BY = SafeMetrics.probe("SafeGetBy.safeGetChildBy");
+
+	/**
+	 * Searches for the WebElement based upon the By passed in using the driver that is passed
+	 * in. Once found that WebElement will be returned. If no WebElement is found and the 
+	 * NoSuchElementException exception is thrown then null is returned instead. If the driver
+	 * object or the By is null then null is returned as well.
+	 * @param driver -> WebDriver
+	 * @param by -> By
+	 * @return -> WebElement
+	 */
+	public static WebElement safeGetBy(WebDriver driver, By by) {
+		if(driver == null || by == null)
+			return null;
+		long start = SAFE_GET_BY.start();
+		//the locator string is only built for a listener, so the lookup stays cheap with metrics off
+		if(SafeMetrics.getListener()!=null)
+			SAFE_GET_BY.locator(locatorType(by), locator(by));
+		Exception swallowed = null;
+		try {
+			return driver.findElement(by);
+		}catch(NoSuchElementException ex) {
+			swallowed = ex;
+			return null;
+		}finally {
+			SAFE_GET_BY.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Searches for the WebElement that matches the By passed in and is a child of the 
+	 * WebElement that is passed in. Once found that WebElement will be returned. If no WebElement
+	 * is found and the NoSuchException exception is thrown then null is returned instead.
+	 * If the element or the By is null then null is returned as well.
+	 * @param element -> WebElement
+	 * @param by -> By
+	 * @return -> WebElement
+	 */
+	public static WebElement safeGetChildBy(WebElement element, By by) {
+		if(element == null || by == null)
+			return null;
+		long start = SAFE_GET_CHILD_BY.start();
+		if(SafeMetrics.getListener()!=null)
+			SAFE_GET_CHILD_BY.locator(locatorType(by), locator(by));
+		Exception swallowed = null;
+		try {
+			return element.findElement(by);
+		}catch(NoSuchElementException ex) {
+			swallowed = ex;
+			return null;
+		}finally {
+			SAFE_GET_CHILD_BY.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * Returns the Locator_Type_Constants value of the By, or the simple name of its class for
+	 * the kinds of By that have none.
+	 */
+	private static String locatorType(By by) {
+		if(by instanceof By.ById)
+			return Locator_Type_Constants.ID;
+		if(by instanceof By.ByXPath)
+			return Locator_Type_Constants.XPATH;
+		if(by instanceof By.ByClassName)
+			return Locator_Type_Constants.CLASSNAME;
+		if(by instanceof By.ByCssSelector)
+			return Locator_Type_Constants.CSSSELECTOR;
+		return by.getClass().getSimpleName();
+	}
+
+	/**
+	 * Returns the string value the By was built from, which Selenium's own Bys print after
+	 * their "By.id: " like prefix.
+	 */
+	private static String locator(By by) {
+		String text = by.toString();
+		int colon = text.indexOf(": ");
+		return colon<0 ? text : text.substring(colon+2);
+	}
+}
@@ -5,11 +5,15 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+
 /**
  * 
  * @author Arthur Reynolds
  * created: 05/31/2019
- * updated: 05/31/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide safe ways of searching and getting WebElements based upon an
  * cssSelector string value.
@@ -19,6 +23,9 @@ import org.openqa.selenium.WebElement;
 
 public final class SafeGetByCSSSelector {
 
+	private static final SafeMethodProbe SAFE_GET_BY_CSS_SELECTOR = SafeMetrics.probe("SafeGetByCSSSelector.safeGetByCssSelector");
+	private static final SafeMethodProbe SAFE_GET_CHILD_BY_CSS_SELECTOR = SafeMetrics.probe("SafeGetByCSSSelector.safeGetChildByCssSelector");
+
 	/**
 	 * Searches for the WebElement based upon the cssSelector passed in using the driver that is passed
 	 * in. Once found that WebElement will be returned. If no WebElement is found and the 
@@ -29,12 +36,18 @@ public final class SafeGetByCSSSelector {
 	 * @return -> WebElement
 	 */
 	public static WebElement safeGetByCssSelector(WebDriver driver, String cssSelector) {
+		long start = SAFE_GET_BY_CSS_SELECTOR.start();
+		SAFE_GET_BY_CSS_SELECTOR.locator(Locator_Type_Constants.CSSSELECTOR, cssSelector);
+		Exception swallowed = null;
 		try {
 			if(driver == null || cssSelector.isEmpty())
 				return null;
 			return driver.findElement(By.cssSelector(cssSelector));
 		}catch(NoSuchElementException ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_BY_CSS_SELECTOR.stop(start, swallowed);
 		}
 	}
 	
@@ -49,12 +62,18 @@ public final class SafeGetByCSSSelector {
 	 * @return -> WebElement
 	 */
 	public static WebElement safeGetChildByCssSelector(WebElement element, String cssSelector) {
+		long start = SAFE_GET_CHILD_BY_CSS_SELECTOR.start();
+		SAFE_GET_CHILD_BY_CSS_SELECTOR.locator(Locator_Type_Constants.CSSSELECTOR, cssSelector);
+		Exception swallowed = null;
 		try {
 			if(element==null || cssSelector.isEmpty())
 				return null;
 			return element.findElement(By.cssSelector(cssSelector));
 		}catch(NoSuchElementException ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_CHILD_BY_CSS_SELECTOR.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
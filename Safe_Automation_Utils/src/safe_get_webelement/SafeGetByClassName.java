@@ -5,11 +5,15 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+
 /**
  * 
  * @author Arthur Reynolds
  * created: 05/31/2019
- * updated: 05/31/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide safe ways of searching and getting WebElements based upon an
  * ClassName string value.
@@ -19,6 +23,9 @@ import org.openqa.selenium.WebElement;
 
 public final class SafeGetByClassName {
 
+	private static final SafeMethodProbe SAFE_GET_BY_CLASS_NAME = SafeMetrics.probe("SafeGetByClassName.safeGetByClassName");
+	private static final SafeMethodProbe SAFE_GET_CHILD_BY_CLASS_NAME = SafeMetrics.probe("SafeGetByClassName.safeGetChildByClassName");
+
 	/**
 	 * Searches for the WebElement based upon the className passed in using the driver that is passed
 	 * in. Once found that WebElement will be returned. If no WebElement is found and the 
@@ -29,12 +36,18 @@ public final class SafeGetByClassName {
 	 * @return -> WebElement
 	 */
 	public static WebElement safeGetByClassName(WebDriver driver, String className) {
+		long start = SAFE_GET_BY_CLASS_NAME.start();
+		SAFE_GET_BY_CLASS_NAME.locator(Locator_Type_Constants.CLASSNAME, className);
+		Exception swallowed = null;
 		try {
 			if(driver == null || className.isEmpty())
 				return null;
 			return driver.findElement(By.className(className));
 		}catch(NoSuchElementException ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_BY_CLASS_NAME.stop(start, swallowed);
 		}
 	}
 	
@@ -49,12 +62,18 @@ public final class SafeGetByClassName {
 	 * @return -> WebElement
 	 */
 	public static WebElement safeGetChildByClassName(WebElement element, String className) {
+		long start = SAFE_GET_CHILD_BY_CLASS_NAME.start();
+		SAFE_GET_CHILD_BY_CLASS_NAME.locator(Locator_Type_Constants.CLASSNAME, className);
+		Exception swallowed = null;
 		try {
 			if(element==null || className.isEmpty())
 				return null;
 			return element.findElement(By.className(className));
 		}catch(NoSuchElementException ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_CHILD_BY_CLASS_NAME.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
@@ -5,11 +5,15 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+
 /**
  * 
  * @author Arthur Reynolds
  * created: 05/31/2019
- * updated: 05/31/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide safe ways of searching and getting WebElements based upon an
  * id string value.
@@ -19,6 +23,9 @@ import org.openqa.selenium.WebElement;
 
 public final class SafeGetByID {
 
+	private static final SafeMethodProbe SAFE_GET_BY_ID = SafeMetrics.probe("SafeGetByID.safeGetByID");
+	private static final SafeMethodProbe SAFE_GET_CHILD_BY_ID = SafeMetrics.probe("SafeGetByID.safeGetChildByID");
+
 	/**
 	 * Searches for the WebElement based upon the id passed in using the driver that is passed
 	 * in. Once found that WebElement will be returned. If no WebElement is found and the 
@@ -29,12 +36,18 @@ public final class SafeGetByID {
 	 * @return -> WebElement
 	 */
 	public static WebElement safeGetByID(WebDriver driver, String id) {
+		long start = SAFE_GET_BY_ID.start();
+		SAFE_GET_BY_ID.locator(Locator_Type_Constants.ID, id);
+		Exception swallowed = null;
 		try {
 			if(driver == null || id.isEmpty())
 				return null;
 			return driver.findElement(By.id(id));
 		}catch(NoSuchElementException ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_BY_ID.stop(start, swallowed);
 		}
 	}
 	
@@ -49,12 +62,18 @@ public final class SafeGetByID {
 	 * @return -> WebElement
 	 */
 	public static WebElement safeGetChildByID(WebElement element, String id) {
+		long start = SAFE_GET_CHILD_BY_ID.start();
+		SAFE_GET_CHILD_BY_ID.locator(Locator_Type_Constants.ID, id);
+		Exception swallowed = null;
 		try {
 			if(element==null || id.isEmpty())
 				return null;
 			return element.findElement(By.id(id));
 		}catch(NoSuchElementException ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_CHILD_BY_ID.stop(start, swallowed);
 		}
 	}
 }
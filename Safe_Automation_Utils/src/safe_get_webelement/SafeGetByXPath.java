@@ -5,11 +5,15 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+
 /**
  * 
  * @author Arthur Reynolds
  * created: 05/31/2019
- * updated: 05/31/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide safe ways of searching and getting WebElements based upon an
  * XPath string value.
@@ -19,6 +23,9 @@ import org.openqa.selenium.WebElement;
 
 public final class SafeGetByXPath {
 
+	private static final SafeMethodProbe SAFE_GET_BY_XPATH = SafeMetrics.probe("SafeGetByXPath.safeGetByXPath");
+	private static final SafeMethodProbe SAFE_GET_CHILD_BY_XPATH = SafeMetrics.probe("SafeGetByXPath.safeGetChildByXPath");
+
 	/**
 	 * Searches for the WebElement based upon the xpath passed in using the driver that is passed
 	 * in. Once found that WebElement will be returned. If no WebElement is found and the 
@@ -29,12 +36,18 @@ public final class SafeGetByXPath {
 	 * @return -> WebElement
 	 */
 	public static WebElement safeGetByXPath(WebDriver driver, String xpath) {
+		long start = SAFE_GET_BY_XPATH.start();
+		SAFE_GET_BY_XPATH.locator(Locator_Type_Constants.XPATH, xpath);
+		Exception swallowed = null;
 		try {
 			if(driver == null || xpath.isEmpty())
 				return null;
 			return driver.findElement(By.xpath(xpath));
 		}catch(NoSuchElementException ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_BY_XPATH.stop(start, swallowed);
 		}
 	}
 	
@@ -49,12 +62,18 @@ public final class SafeGetByXPath {
 	 * @return -> WebElement
 	 */
 	public static WebElement safeGetChildByXPath(WebElement element, String xpath) {
+		long start = SAFE_GET_CHILD_BY_XPATH.start();
+		SAFE_GET_CHILD_BY_XPATH.locator(Locator_Type_Constants.XPATH, xpath);
+		Exception swallowed = null;
 		try {
 			if(element==null || xpath.isEmpty())
 				return null;
 			return element.findElement(By.xpath(xpath));
 		}catch(NoSuchElementException ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_CHILD_BY_XPATH.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
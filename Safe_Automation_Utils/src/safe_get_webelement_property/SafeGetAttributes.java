@@ -3,13 +3,15 @@ package safe_automation_utils.safe_get_webelement_property;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 05/31/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide a safe way to get WebElement's Attribute's values.
  * A list of usual attribute value names are stored in the constants folder of this library.
@@ -19,6 +21,9 @@ import safe_automation_utils.safe_utils.HelperUtils;
 
 public final class SafeGetAttributes {
 
+	private static final SafeMethodProbe SAFE_GET_ATTRIBUTE = SafeMetrics.probe("SafeGetAttributes.safeGetAttribute");
+	private static final SafeMethodProbe SAFE_GET_ATTRIBUTE_BY_STRING = SafeMetrics.probe("SafeGetAttributes.safeGetAttributeByString");
+
 	/**
 	 * Attempts to retrieve the String value of the passed in attribute name for the passed in WebElement
 	 * object. If the WebElement object is null or if the attr String object is null or blank then
@@ -31,10 +36,15 @@ public final class SafeGetAttributes {
 	public static String safeGetAttribute(WebElement element, String attr) {
 		if(element==null || attr.isEmpty())
 			return null;
+		long start = SAFE_GET_ATTRIBUTE.start();
+		Exception swallowed = null;
 		try {
 			return element.getAttribute(attr);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_ATTRIBUTE.stop(start, swallowed);
 		}
 	}
 	
@@ -54,11 +64,16 @@ public final class SafeGetAttributes {
 			String attr) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return null;
+		long start = SAFE_GET_ATTRIBUTE_BY_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
 			return safeGetAttribute(sourceElement, attr);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_ATTRIBUTE_BY_STRING.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
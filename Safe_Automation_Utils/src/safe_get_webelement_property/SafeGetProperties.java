@@ -5,13 +5,15 @@ import org.openqa.selenium.Point;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 05/31/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide a safe way to determine different properties of a WebElement
  * (isDisplayed, isEnabled, isSelected, etc).
@@ -21,6 +23,16 @@ import safe_automation_utils.safe_utils.HelperUtils;
 
 public final class SafeGetProperties {
 
+	private static final SafeMethodProbe SAFE_ELEMENT_IS_DISPLAYED = SafeMetrics.probe("SafeGetProperties.safeElementIsDisplayed");
+	private static final SafeMethodProbe SAFE_IS_DISPLAYED_BY_STRING = SafeMetrics.probe("SafeGetProperties.safeIsDisplayedByString");
+	private static final SafeMethodProbe SAFE_ELEMENT_IS_SELECTED = SafeMetrics.probe("SafeGetProperties.safeElementIsSelected");
+	private static final SafeMethodProbe SAFE_IS_SELECTED_BY_STRING = SafeMetrics.probe("SafeGetProperties.safeIsSelectedByString");
+	private static final SafeMethodProbe SAFE_ELEMENT_IS_ENABLED = SafeMetrics.probe("SafeGetProperties.safeElementIsEnabled");
+	private static final SafeMethodProbe SAFE_IS_ENABLED_BY_STRING = SafeMetrics.probe("SafeGetProperties.safeIsEnabledByString");
+	private static final SafeMethodProbe SAFE_GET_WEB_ELEMENT_SIZE = SafeMetrics.probe("SafeGetProperties.safeGetWebElementSize");
+	private static final SafeMethodProbe SAFE_GET_SIZE_BY_STRING = SafeMetrics.probe("SafeGetProperties.safeGetSizeByString");
+	private static final SafeMethodProbe SAFE_GET_LOCATION_OF_WEB_ELEMENT = SafeMetrics.probe("SafeGetProperties.safeGetLocationOfWebElement");
+
 	/**
 	 * Attempts to check if the passed in WebElement object is currently displayed in the browser.
 	 * If the element is null then false is returned. If an exception occurs during the isDisplay action
@@ -32,10 +44,15 @@ public final class SafeGetProperties {
 	public static boolean safeElementIsDisplayed(WebElement element) {
 		if(element==null)
 			return false;
+		long start = SAFE_ELEMENT_IS_DISPLAYED.start();
+		Exception swallowed = null;
 		try {
 			return element.isDisplayed();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return false;
+		}finally {
+			SAFE_ELEMENT_IS_DISPLAYED.stop(start, swallowed);
 		}
 	}
 	
@@ -52,11 +69,16 @@ public final class SafeGetProperties {
 	public static boolean safeIsDisplayedByString(WebDriver driver, String source, String sourceType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return false;
+		long start = SAFE_IS_DISPLAYED_BY_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
 			return safeElementIsDisplayed(sourceElement);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return false;
+		}finally {
+			SAFE_IS_DISPLAYED_BY_STRING.stop(start, swallowed);
 		}
 	}
 	
@@ -71,10 +93,15 @@ public final class SafeGetProperties {
 	public static boolean safeElementIsSelected(WebElement element) {
 		if(element==null)
 			return false;
+		long start = SAFE_ELEMENT_IS_SELECTED.start();
+		Exception swallowed = null;
 		try {
 			return element.isSelected();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return false;
+		}finally {
+			SAFE_ELEMENT_IS_SELECTED.stop(start, swallowed);
 		}
 	}
 	
@@ -91,11 +118,16 @@ public final class SafeGetProperties {
 	public static boolean safeIsSelectedByString(WebDriver driver, String source, String sourceType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return false;
+		long start = SAFE_IS_SELECTED_BY_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
 			return safeElementIsSelected(sourceElement);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return false;
+		}finally {
+			SAFE_IS_SELECTED_BY_STRING.stop(start, swallowed);
 		}
 	}
 	
@@ -110,10 +142,15 @@ public final class SafeGetProperties {
 	public static boolean safeElementIsEnabled(WebElement element) {
 		if(element==null)
 			return false;
+		long start = SAFE_ELEMENT_IS_ENABLED.start();
+		Exception swallowed = null;
 		try {
 			return element.isEnabled();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return false;
+		}finally {
+			SAFE_ELEMENT_IS_ENABLED.stop(start, swallowed);
 		}
 	}
 	
@@ -130,11 +167,16 @@ public final class SafeGetProperties {
 	public static boolean safeIsEnabledByString(WebDriver driver, String source, String sourceType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return false;
+		long start = SAFE_IS_ENABLED_BY_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
 			return safeElementIsEnabled(sourceElement);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return false;
+		}finally {
+			SAFE_IS_ENABLED_BY_STRING.stop(start, swallowed);
 		}
 	}
 	
@@ -149,10 +191,15 @@ public final class SafeGetProperties {
 	public static Dimension safeGetWebElementSize(WebElement element) {
 		if(element==null)
 			return null;
+		long start = SAFE_GET_WEB_ELEMENT_SIZE.start();
+		Exception swallowed = null;
 		try {
 			return element.getSize();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_WEB_ELEMENT_SIZE.stop(start, swallowed);
 		}
 	}
 	
@@ -170,11 +217,16 @@ public final class SafeGetProperties {
 	public static Dimension safeGetSizeByString(WebDriver driver, String source, String sourceType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return null;
+		long start = SAFE_GET_SIZE_BY_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
 			return safeGetWebElementSize(sourceElement);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_SIZE_BY_STRING.stop(start, swallowed);
 		}
 	}
 	
@@ -190,10 +242,15 @@ public final class SafeGetProperties {
 	public static Point safeGetLocationOfWebElement(WebElement element) {
 		if(element==null)
 			return null;
+		long start = SAFE_GET_LOCATION_OF_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			return element.getLocation();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_LOCATION_OF_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
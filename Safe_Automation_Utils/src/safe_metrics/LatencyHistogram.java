@@ -0,0 +1,120 @@
+package safe_automation_utils.safe_metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A fixed size histogram of durations in nanoseconds that many threads can record into without locking. Every
+ * power of two is split into SUB_BUCKETS buckets, so a recorded value is off by at most 1/SUB_BUCKETS (about 6%)
+ * from the value it is reported as, from 1 nanosecond up to MAX_EXPONENT (about 18 minutes). Longer durations
+ * land in the last bucket. The whole histogram is a single array of BUCKET_COUNT longs, and recording a value
+ * only touches one of them besides the running sum, so the count is worked out from the buckets when it is read.
+ */
+final class LatencyHistogram {
+
+	/**
+	 * The number of buckets each power of two is split into, must be a power of two itself.
+	 */
+	static final int SUB_BUCKETS = 16;
+
+	/**
+	 * The highest power of two that still gets its own buckets.
+	 */
+	static final int MAX_EXPONENT = 40;
+
+	private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+	static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT-SUB_BUCKET_BITS+1)*SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Adds a single duration to the histogram. Negative durations are counted as 0.
+	 * @param nanos -> long
+	 */
+	void record(long nanos) {
+		long value = Math.max(0, nanos);
+		buckets.incrementAndGet(indexOf(value));
+		sum.add(value);
+		long previous = max.get();
+		while(value>previous && !max.compareAndSet(previous, value)) {
+			previous = max.get();
+		}
+	}
+
+	long getCount() {
+		long count = 0;
+		for(int x=0; x<BUCKET_COUNT; x++) {
+			count += buckets.get(x);
+		}
+		return count;
+	}
+
+	long getSumNanos() {
+		return sum.sum();
+	}
+
+	long getMaxNanos() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the highest value of the bucket that holds the passed in percentile, between 0 and 100, or 0 if
+	 * nothing was recorded. The result never exceeds the largest recorded value.
+	 * @param percentile -> double
+	 * @return -> long
+	 */
+	long getPercentileNanos(double percentile) {
+		long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for(int x=0; x<BUCKET_COUNT; x++) {
+			counts[x] = buckets.get(x);
+			total += counts[x];
+		}
+		if(total==0)
+			return 0;
+		long rank = Math.max(1, (long)Math.ceil(Math.min(100, Math.max(0, percentile))/100*total));
+		long seen = 0;
+		for(int x=0; x<BUCKET_COUNT; x++) {
+			seen += counts[x];
+			if(seen>=rank)
+				return Math.min(highestValueOf(x), max.get());
+		}
+		return max.get();
+	}
+
+	void reset() {
+		for(int x=0; x<BUCKET_COUNT; x++) {
+			buckets.set(x, 0);
+		}
+		sum.reset();
+		max.set(0);
+	}
+
+	static int indexOf(long value) {
+		if(value<SUB_BUCKETS)
+			return (int)value;
+		int exponent = 63-Long.numberOfLeadingZeros(value);
+		if(exponent>MAX_EXPONENT)
+			return BUCKET_COUNT-1;
+		int shift = exponent-SUB_BUCKET_BITS;
+		int subBucket = (int)(value>>>shift) & (SUB_BUCKETS-1);
+		return SUB_BUCKETS + shift*SUB_BUCKETS + subBucket;
+	}
+
+	static long highestValueOf(int index) {
+		if(index<SUB_BUCKETS)
+			return index;
+		int shift = (index-SUB_BUCKETS)/SUB_BUCKETS;
+		long lowest = (long)(SUB_BUCKETS + (index-SUB_BUCKETS)%SUB_BUCKETS) << shift;
+		return index==BUCKET_COUNT-1 ? Long.MAX_VALUE : lowest + (1L<<shift) - 1;
+	}
+}
@@ -0,0 +1,46 @@
+package safe_automation_utils.safe_metrics;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Is told when a safe method starts and finishes, so tools outside of the library can follow what it is doing,
+ * for example the Java Flight Recorder events of the Safe_Automation_Utils_Jfr module. A listener is found
+ * through ServiceLoader the first time SafeMetrics is used, from a META-INF/services file naming this interface,
+ * and only the first one found is used. Without one on the classpath the probes don't call anything.
+ *
+ * The calls are made on the thread running the safe method and nest the same way the methods do, so a listener
+ * can keep its state per thread. A listener must never throw, since it runs inside methods that promise not to.
+ */
+public interface SafeMethodListener {
+
+	/**
+	 * Outcome passed to methodFinished when the method returned without swallowing an exception.
+	 */
+	String COMPLETED = "COMPLETED";
+
+	/**
+	 * Called when the safe method with the passed in name starts its work, after its arguments were checked.
+	 * @param methodName -> String
+	 */
+	void methodStarted(String methodName);
+
+	/**
+	 * Called while locating an element with the locator the method is using, inside the method that started last.
+	 * @param locatorType -> String
+	 * @param locator -> String
+	 */
+	void locatorUsed(String locatorType, String locator);
+
+	/**
+	 * Called when the safe method that started last on this thread finishes. The outcome is the name of a
+	 * SafeResult.Outcome, or COMPLETED if the method returned without swallowing an exception. If swallowed is
+	 * not null then it is the exception the method swallowed.
+	 * @param methodName -> String
+	 * @param outcome -> String
+	 * @param swallowed -> Throwable
+	 */
+	void methodFinished(String methodName, String outcome, Throwable swallowed);
+}
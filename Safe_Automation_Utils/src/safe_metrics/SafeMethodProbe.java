@@ -0,0 +1,175 @@
+package safe_automation_utils.safe_metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import safe_automation_utils.safe_utils.SafeResult;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Records how long a single safe method takes and which exception, if any, it swallowed. Every safe method keeps
+ * its probe in a static field and brackets its work like this:
+ *
+ *   long start = PROBE.start();
+ *   Exception swallowed = null;
+ *   try {
+ *       ...
+ *   }catch(Exception ex) {
+ *       swallowed = ex;
+ *       return false;
+ *   }finally {
+ *       PROBE.stop(start, swallowed);
+ *   }
+ *
+ * When metrics are disabled and there is no SafeMethodListener start and stop only read constants, so the JIT
+ * removes them entirely. Calls that did not swallow an exception are counted under the outcome NO_EXCEPTION.
+ */
+public final class SafeMethodProbe {
+
+	/**
+	 * The outcome recorded when the method did not swallow an exception.
+	 */
+	public static final String NO_EXCEPTION = "none";
+
+	private final String name;
+	private final LatencyHistogram histogram;
+	private final ConcurrentHashMap<Class<?>, LongAdder> failures;
+
+	SafeMethodProbe(String name) {
+		this.name = name;
+		this.histogram = SafeMetrics.ENABLED ? new LatencyHistogram() : null;
+		this.failures = SafeMetrics.ENABLED ? new ConcurrentHashMap<>() : null;
+	}
+
+	/**
+	 * Returns the time the method started in nanoseconds, or 0 when metrics are disabled.
+	 * @return -> long
+	 */
+	public long start() {
+		if(SafeMetrics.LISTENER!=null)
+			SafeMetrics.LISTENER.methodStarted(name);
+		if(!SafeMetrics.ENABLED)
+			return 0;
+		return System.nanoTime();
+	}
+
+	/**
+	 * Tells the SafeMethodListener, if there is one, which locator the method is using.
+	 * @param locatorType -> String
+	 * @param locator -> String
+	 */
+	public void locator(String locatorType, String locator) {
+		if(SafeMetrics.LISTENER!=null)
+			SafeMetrics.LISTENER.locatorUsed(locatorType, locator);
+	}
+
+	/**
+	 * Records a call that started at the passed in time. If swallowed is not null then it is counted under the
+	 * name of its class.
+	 * @param start -> long
+	 * @param swallowed -> Throwable
+	 */
+	public void stop(long start, Throwable swallowed) {
+		if(SafeMetrics.LISTENER!=null)
+			SafeMetrics.LISTENER.methodFinished(name,
+					swallowed==null ? SafeMethodListener.COMPLETED : SafeResult.outcomeOf(swallowed).name(), swallowed);
+		record(start, swallowed);
+	}
+
+	/**
+	 * Performs the same action as stop(long, Throwable) but passes the outcome the method worked out itself on to
+	 * the SafeMethodListener, for methods that can fail without an exception.
+	 * @param start -> long
+	 * @param swallowed -> Throwable
+	 * @param outcome -> SafeResult.Outcome
+	 */
+	public void stop(long start, Throwable swallowed, SafeResult.Outcome outcome) {
+		if(SafeMetrics.LISTENER!=null)
+			SafeMetrics.LISTENER.methodFinished(name, outcome.name(), swallowed);
+		record(start, swallowed);
+	}
+
+	private void record(long start, Throwable swallowed) {
+		if(!SafeMetrics.ENABLED)
+			return;
+		histogram.record(System.nanoTime()-start);
+		if(swallowed!=null)
+			failures.computeIfAbsent(swallowed.getClass(), type -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Returns the name of the method this probe records, for example SafeClick.safeClickWebElement.
+	 * @return -> String
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of recorded calls.
+	 * @return -> long
+	 */
+	public long getCount() {
+		return histogram==null ? 0 : histogram.getCount();
+	}
+
+	/**
+	 * Returns the total time of every recorded call in nanoseconds.
+	 * @return -> long
+	 */
+	public long getSumNanos() {
+		return histogram==null ? 0 : histogram.getSumNanos();
+	}
+
+	/**
+	 * Returns the time of the slowest recorded call in nanoseconds.
+	 * @return -> long
+	 */
+	public long getMaxNanos() {
+		return histogram==null ? 0 : histogram.getMaxNanos();
+	}
+
+	/**
+	 * Returns the time in nanoseconds that the passed in percentile, between 0 and 100, of the recorded calls
+	 * stayed under, within about 6%.
+	 * @param percentile -> double
+	 * @return -> long
+	 */
+	public long getPercentileNanos(double percentile) {
+		return histogram==null ? 0 : histogram.getPercentileNanos(percentile);
+	}
+
+	/**
+	 * Returns the number of calls by outcome, which is either NO_EXCEPTION or the class name of the exception
+	 * that was swallowed, sorted by outcome.
+	 * @return -> Map<String, Long>
+	 */
+	public Map<String, Long> getOutcomeCounts() {
+		if(histogram==null)
+			return Collections.emptyMap();
+		Map<String, Long> outcomes = new TreeMap<>();
+		long none = histogram.getCount();
+		for(Map.Entry<Class<?>, LongAdder> failure:failures.entrySet()) {
+			long count = failure.getValue().sum();
+			outcomes.put(failure.getKey().getName(), count);
+			none -= count;
+		}
+		if(none>0)
+			outcomes.put(NO_EXCEPTION, none);
+		return Collections.unmodifiableMap(outcomes);
+	}
+
+	void reset() {
+		if(histogram==null)
+			return;
+		histogram.reset();
+		failures.clear();
+	}
+}
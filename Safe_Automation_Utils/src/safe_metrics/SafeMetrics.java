@@ -0,0 +1,232 @@
+package safe_automation_utils.safe_metrics;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Keeps a latency histogram and outcome counters for every safe method of the library. The safe methods swallow
+ * their exceptions, so these are the only way to tell which of them are slow and which fail and why once the
+ * tests run against a real grid.
+ *
+ * Metrics are off unless the JVM is started with -Dsafe_automation_utils.metrics=true. The flag is read once,
+ * so when it is off every probe costs nothing after the JIT has run. When it is on a call costs two
+ * System.nanoTime reads and two atomic additions, and each method uses a fixed amount of memory.
+ *
+ * If -Dsafe_automation_utils.metrics.file is set as well then the metrics are written to that file when the
+ * JVM exits, as JSON when the file ends with .json and as Prometheus text otherwise. They can also be written
+ * at any time with safeExport.
+ *
+ * Independently of the flag, a SafeMethodListener found on the classpath is told about every safe method call.
+ *
+ * All methods in this class are static.
+ */
+public final class SafeMetrics {
+
+	/**
+	 * The system property that turns metrics on.
+	 */
+	public static final String ENABLED_PROPERTY = "safe_automation_utils.metrics";
+
+	/**
+	 * The system property naming the file the metrics are written to when the JVM exits.
+	 */
+	public static final String FILE_PROPERTY = "safe_automation_utils.metrics.file";
+
+	/**
+	 * The percentiles included in every export.
+	 */
+	static final double[] EXPORTED_PERCENTILES = {50, 90, 99, 99.9};
+
+	static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+	static final SafeMethodListener LISTENER = loadListener();
+
+	private static final ConcurrentMap<String, SafeMethodProbe> PROBES = new ConcurrentHashMap<>();
+
+	static {
+		String file = System.getProperty(FILE_PROPERTY);
+		if(ENABLED && file!=null && !file.isEmpty())
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> safeExport(file), "safe-metrics-export"));
+	}
+
+	private SafeMetrics() {
+	}
+
+	/**
+	 * Returns true if metrics are recorded in this JVM.
+	 * @return -> boolean
+	 */
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Returns the SafeMethodListener found on the classpath or null if there is none.
+	 * @return -> SafeMethodListener
+	 */
+	public static SafeMethodListener getListener() {
+		return LISTENER;
+	}
+
+	/**
+	 * Returns the probe for the method with the passed in name, creating it the first time. Overloads of a
+	 * method share a probe.
+	 * @param methodName -> String
+	 * @return -> SafeMethodProbe
+	 */
+	public static SafeMethodProbe probe(String methodName) {
+		return PROBES.computeIfAbsent(methodName, SafeMethodProbe::new);
+	}
+
+	/**
+	 * Returns the probes of every method that was called at least once, sorted by name.
+	 * @return -> List<SafeMethodProbe>
+	 */
+	public static List<SafeMethodProbe> getProbes() {
+		List<SafeMethodProbe> called = new ArrayList<>();
+		for(SafeMethodProbe probe:PROBES.values()) {
+			if(probe.getCount()>0)
+				called.add(probe);
+		}
+		called.sort((first, second) -> first.getName().compareTo(second.getName()));
+		return called;
+	}
+
+	/**
+	 * Clears everything recorded so far, for example between two suites run in the same JVM.
+	 */
+	public static void reset() {
+		for(SafeMethodProbe probe:PROBES.values()) {
+			probe.reset();
+		}
+	}
+
+	/**
+	 * Returns every called method with its count, total, maximum, percentiles in nanoseconds and outcomes as
+	 * JSON.
+	 * @return -> String
+	 */
+	public static String toJson() {
+		StringBuilder json = new StringBuilder("{\"methods\":[");
+		List<SafeMethodProbe> probes = getProbes();
+		for(int x=0; x<probes.size(); x++) {
+			SafeMethodProbe probe = probes.get(x);
+			if(x>0)
+				json.append(',');
+			json.append("\n{\"name\":").append(quote(probe.getName()))
+				.append(",\"count\":").append(probe.getCount())
+				.append(",\"sumNanos\":").append(probe.getSumNanos())
+				.append(",\"maxNanos\":").append(probe.getMaxNanos())
+				.append(",\"percentilesNanos\":{");
+			for(int y=0; y<EXPORTED_PERCENTILES.length; y++) {
+				if(y>0)
+					json.append(',');
+				json.append(quote(format(EXPORTED_PERCENTILES[y]))).append(':').append(probe.getPercentileNanos(EXPORTED_PERCENTILES[y]));
+			}
+			json.append("},\"outcomes\":{");
+			boolean first = true;
+			for(Map.Entry<String, Long> outcome:probe.getOutcomeCounts().entrySet()) {
+				if(!first)
+					json.append(',');
+				json.append(quote(outcome.getKey())).append(':').append(outcome.getValue());
+				first = false;
+			}
+			json.append("}}");
+		}
+		return json.append("\n]}\n").toString();
+	}
+
+	/**
+	 * Returns every called method in the Prometheus text format, as a summary of its latency in seconds and a
+	 * counter of its outcomes.
+	 * @return -> String
+	 */
+	public static String toPrometheus() {
+		StringBuilder text = new StringBuilder();
+		List<SafeMethodProbe> probes = getProbes();
+		text.append("# HELP safe_method_duration_seconds Time spent in a safe method.\n");
+		text.append("# TYPE safe_method_duration_seconds summary\n");
+		for(SafeMethodProbe probe:probes) {
+			String method = "method=" + quote(probe.getName());
+			for(double percentile:EXPORTED_PERCENTILES) {
+				String quantile = BigDecimal.valueOf(percentile).movePointLeft(2).stripTrailingZeros().toPlainString();
+				text.append("safe_method_duration_seconds{").append(method).append(",quantile=\"").append(quantile).append("\"} ")
+					.append(seconds(probe.getPercentileNanos(percentile))).append('\n');
+			}
+			text.append("safe_method_duration_seconds_sum{").append(method).append("} ").append(seconds(probe.getSumNanos())).append('\n');
+			text.append("safe_method_duration_seconds_count{").append(method).append("} ").append(probe.getCount()).append('\n');
+		}
+		text.append("# HELP safe_method_calls_total Calls of a safe method by the exception it swallowed.\n");
+		text.append("# TYPE safe_method_calls_total counter\n");
+		for(SafeMethodProbe probe:probes) {
+			for(Map.Entry<String, Long> outcome:probe.getOutcomeCounts().entrySet()) {
+				text.append("safe_method_calls_total{method=").append(quote(probe.getName())).append(",exception=").append(quote(outcome.getKey()))
+					.append("} ").append(outcome.getValue()).append('\n');
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Attempts to write the metrics to the file at the passed in path, as JSON if the path ends with .json and
+	 * as Prometheus text otherwise. Missing parent folders are created. If the path is null or blank then 0 is
+	 * returned. If an exception occurs during the process then 0 is returned. If the file is written then 1 is
+	 * returned.
+	 * @param filePath -> String
+	 * @return -> int
+	 */
+	public static int safeExport(String filePath) {
+		if(filePath==null || filePath.isEmpty())
+			return 0;
+		try {
+			Path path = Paths.get(filePath).toAbsolutePath();
+			String content = filePath.toLowerCase(Locale.ROOT).endsWith(".json") ? toJson() : toPrometheus();
+			Files.createDirectories(path.getParent());
+			Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+			return 1;
+		}catch(Exception ex) {
+			return 0;
+		}
+	}
+
+	private static SafeMethodListener loadListener() {
+		try {
+			for(SafeMethodListener listener:ServiceLoader.load(SafeMethodListener.class, SafeMetrics.class.getClassLoader())) {
+				return listener;
+			}
+		}catch(ServiceConfigurationError | LinkageError ex) {
+			//a listener built for a newer Java than the one running, the library works the same without it
+		}
+		return null;
+	}
+
+	private static String seconds(long nanos) {
+		return format(nanos/1e9);
+	}
+
+	private static String format(double value) {
+		if(value==Math.rint(value) && !Double.isInfinite(value))
+			return String.valueOf((long)value);
+		return String.valueOf(value);
+	}
+
+	private static String quote(String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+	}
+}
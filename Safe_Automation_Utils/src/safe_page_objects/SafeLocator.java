@@ -0,0 +1,46 @@
+package safe_automation_utils.safe_page_objects;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Marks a static final String field of a SafePage class as the locator of an element of the page. The type must
+ * be one of the values of Locator_Type_Constants, and the compiler reports an error when it is not, when the
+ * locator is blank, when an XPath does not parse or when a class name holds more than one class. The kind decides
+ * which accessor methods are generated besides the element itself, a click and its text.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface SafeLocator {
+
+	/**
+	 * The kinds of elements that get accessor methods of their own.
+	 * ELEMENT only gets the element, a click and its text.
+	 * TEXT_FIELD also gets setting its text and getting its value.
+	 * SELECT also gets selecting an option by visible text, value or index and getting the selected text.
+	 */
+	enum Kind {
+		ELEMENT,
+		TEXT_FIELD,
+		SELECT
+	}
+
+	/**
+	 * The locator type, one of the values of Locator_Type_Constants.
+	 * @return -> String
+	 */
+	String type();
+
+	/**
+	 * The kind of element the locator finds.
+	 * @return -> Kind
+	 */
+	Kind kind() default Kind.ELEMENT;
+}
@@ -0,0 +1,41 @@
+package safe_automation_utils.safe_page_objects;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Marks a class whose SafeLocator fields the Safe_Automation_Utils_Processor module turns into a page object
+ * while the tests compile. The generated class is placed in the same package, is named after the value or after
+ * this class with Page added, and holds a By constant and safe accessor methods for every locator:
+ *
+ *   &#64;SafePage("LoginPage")
+ *   final class LoginLocators {
+ *       &#64;SafeLocator(type = Locator_Type_Constants.ID, kind = SafeLocator.Kind.TEXT_FIELD)
+ *       static final String USER_NAME = "username";
+ *       &#64;SafeLocator(type = Locator_Type_Constants.CSSSELECTOR)
+ *       static final String SUBMIT = "form button[type=submit]";
+ *   }
+ *
+ *   LoginPage page = new LoginPage(driver);
+ *   page.setUserNameText("arthur", wait);
+ *   page.clickSubmit();
+ *
+ * The annotations are only kept in the source, so nothing of them is left at runtime.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface SafePage {
+
+	/**
+	 * The simple name of the generated class, or blank to add Page to the name of the annotated class.
+	 * @return -> String
+	 */
+	String value() default "";
+}
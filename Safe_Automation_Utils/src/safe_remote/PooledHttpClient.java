@@ -0,0 +1,110 @@
+package safe_automation_utils.safe_remote;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Iterator;
+
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import okhttp3.Credentials;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Sends the requests of a single RemoteWebDriver through a shared OkHttpClient. Selenium's own OkHttp client
+ * runs a regular expression over the server address and parses the media type of the body again for every
+ * command, and it only sends the credentials of a grid after a 401 for every command. Here the address, the JSON
+ * media type and the credentials are worked out once, so a command only builds its URL and copies the bytes.
+ */
+final class PooledHttpClient implements HttpClient {
+
+	private static final String JSON_TYPE = "application/json; charset=utf-8";
+	private static final MediaType JSON = MediaType.parse(JSON_TYPE);
+	private static final byte[] NO_CONTENT = new byte[0];
+
+	private final OkHttpClient client;
+	private final String baseUrl;
+	private final String authorization;
+
+	PooledHttpClient(OkHttpClient client, URL remoteAddress) {
+		this.client = client;
+		String address = remoteAddress.toExternalForm();
+		this.baseUrl = address.endsWith("/") ? address.substring(0, address.length()-1) : address;
+		String userInfo = remoteAddress.getUserInfo();
+		if(userInfo==null || userInfo.isEmpty()) {
+			this.authorization = null;
+		}else {
+			int colon = userInfo.indexOf(':');
+			this.authorization = colon<0 ? Credentials.basic(userInfo, "") : Credentials.basic(userInfo.substring(0, colon), userInfo.substring(colon+1));
+		}
+	}
+
+	@Override
+	public HttpResponse execute(HttpRequest request) throws IOException {
+		try(Response response = client.newCall(toOkHttp(request)).execute()) {
+			HttpResponse result = new HttpResponse();
+			result.setStatus(response.code());
+			Headers headers = response.headers();
+			for(int x=0; x<headers.size(); x++) {
+				result.addHeader(headers.name(x), headers.value(x));
+			}
+			ResponseBody body = response.body();
+			result.setContent(body==null ? NO_CONTENT : body.bytes());
+			return result;
+		}
+	}
+
+	private Request toOkHttp(HttpRequest request) throws IOException {
+		String uri = request.getUri();
+		String url = uri.startsWith("http:") || uri.startsWith("https:") ? uri : baseUrl + uri;
+		HttpUrl httpUrl = HttpUrl.parse(url);
+		if(httpUrl==null)
+			throw new IOException("Unable to parse URL: " + url);
+		Iterator<String> queryNames = request.getQueryParameterNames().iterator();
+		if(queryNames.hasNext()) {
+			HttpUrl.Builder withQuery = httpUrl.newBuilder();
+			while(queryNames.hasNext()) {
+				String name = queryNames.next();
+				for(String value:request.getQueryParameters(name)) {
+					withQuery.addQueryParameter(name, value);
+				}
+			}
+			httpUrl = withQuery.build();
+		}
+
+		Request.Builder builder = new Request.Builder().url(httpUrl);
+		for(String name:request.getHeaderNames()) {
+			for(String value:request.getHeaders(name)) {
+				builder.addHeader(name, value);
+			}
+		}
+		if(request.getHeader("User-Agent")==null)
+			builder.addHeader("User-Agent", USER_AGENT);
+		if(authorization!=null && request.getHeader("Authorization")==null)
+			builder.addHeader("Authorization", authorization);
+
+		switch(request.getMethod()) {
+			case GET:
+				return builder.get().build();
+			case DELETE:
+				return builder.delete().build();
+			default:
+				String contentType = request.getHeader("Content-Type");
+				MediaType mediaType = contentType==null || contentType.equals(JSON_TYPE) ? JSON : MediaType.parse(contentType);
+				return builder.post(RequestBody.create(mediaType, request.getContent())).build();
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package safe_automation_utils.safe_remote;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.remote.http.HttpClient;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Creates the clients of every driver using the same SafeRemoteOptions from a single OkHttpClient, so they share
+ * its connection pool and a connection opened by one test is reused by the next command of any test.
+ */
+final class PooledHttpClientFactory implements HttpClient.Factory {
+
+	private final OkHttpClient client;
+
+	PooledHttpClientFactory(SafeRemoteOptions options) {
+		this.client = new OkHttpClient.Builder()
+				.connectionPool(new ConnectionPool(options.getMaxIdleConnections(), options.getKeepAliveMillis(), TimeUnit.MILLISECONDS))
+				.connectTimeout(options.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS)
+				.readTimeout(options.getReadTimeoutMillis(), TimeUnit.MILLISECONDS)
+				.writeTimeout(options.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS)
+				//redirects from the grid are followed, the same as in selenium's own OkHttpClient.Factory
+				.followRedirects(true)
+				.followSslRedirects(true)
+				.build();
+	}
+
+	@Override
+	public HttpClient createClient(URL remoteAddress) {
+		return new PooledHttpClient(client, remoteAddress);
+	}
+
+	@Override
+	public void cleanupIdleClients() {
+		client.connectionPool().evictAll();
+	}
+}
@@ -0,0 +1,23 @@
+package safe_automation_utils.safe_remote;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Is told how long every command sent through an executor of SafeRemoteExecutor took, measured from handing
+ * the command to the executor until its response was decoded. It is called on the thread that sent the command.
+ * Exceptions thrown by a listener are ignored.
+ */
+public interface SafeCommandListener {
+
+	/**
+	 * Called after the command with the passed in name, for example findElement, finished. If the command could
+	 * not be sent or its response could not be read then failure is the exception, otherwise it is null.
+	 * @param commandName -> String
+	 * @param durationNanos -> long
+	 * @param failure -> Throwable
+	 */
+	void commandExecuted(String commandName, long durationNanos, Throwable failure);
+}
@@ -0,0 +1,101 @@
+package safe_automation_utils.safe_remote;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.HttpClient;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Creates command executors for a remote grid that keep their connections open between commands and share them
+ * between every driver of the JVM, to pass to new RemoteWebDriver(executor, capabilities) or to create the driver
+ * with safeCreateDriver. The commands and their JSON are the same as with Selenium's own executor, only the HTTP
+ * layer underneath is replaced, so this works with any grid that works with Selenium 3.14.
+ *
+ *   RemoteWebDriver driver = SafeRemoteExecutor.safeCreateDriver(gridUrl, new ChromeOptions(),
+ *           SafeRemoteOptions.DEFAULT.withListener((name, nanos, failure) -> log(name, nanos)));
+ *
+ * Drivers created with equal options, not counting the listener, share one connection pool. The executors can
+ * be wrapped with SafeCommandBudget.wrap like any other.
+ *
+ * All methods in this class are static.
+ */
+public final class SafeRemoteExecutor {
+
+	private static final ConcurrentMap<String, HttpClient.Factory> FACTORIES = new ConcurrentHashMap<>();
+
+	private SafeRemoteExecutor() {
+	}
+
+	/**
+	 * Returns an executor for the grid at the passed in address that uses SafeRemoteOptions.DEFAULT.
+	 * @param remoteAddress -> URL
+	 * @return -> CommandExecutor
+	 */
+	public static CommandExecutor createExecutor(URL remoteAddress) {
+		return createExecutor(remoteAddress, SafeRemoteOptions.DEFAULT);
+	}
+
+	/**
+	 * Returns an executor for the grid at the passed in address that uses the passed in options.
+	 * @param remoteAddress -> URL
+	 * @param options -> SafeRemoteOptions
+	 * @return -> CommandExecutor
+	 */
+	public static CommandExecutor createExecutor(URL remoteAddress, SafeRemoteOptions options) {
+		CommandExecutor executor = new HttpCommandExecutor(Collections.emptyMap(), remoteAddress, getHttpClientFactory(options));
+		if(options.getListener()==null)
+			return executor;
+		return new TimedCommandExecutor(executor, options.getListener());
+	}
+
+	/**
+	 * Returns the factory holding the connection pool for the passed in options, for drivers that need their own
+	 * HttpCommandExecutor. Every call with equal options returns the same factory.
+	 * @param options -> SafeRemoteOptions
+	 * @return -> HttpClient.Factory
+	 */
+	public static HttpClient.Factory getHttpClientFactory(SafeRemoteOptions options) {
+		return FACTORIES.computeIfAbsent(options.poolKey(), key -> new PooledHttpClientFactory(options));
+	}
+
+	/**
+	 * Attempts to start a session on the grid at the passed in address with the passed in capabilities, using
+	 * SafeRemoteOptions.DEFAULT. If the address or the capabilities are null or an exception occurs during the
+	 * process then null is returned. If the session is started then the driver is returned.
+	 * @param remoteAddress -> URL
+	 * @param capabilities -> Capabilities
+	 * @return -> RemoteWebDriver
+	 */
+	public static RemoteWebDriver safeCreateDriver(URL remoteAddress, Capabilities capabilities) {
+		return safeCreateDriver(remoteAddress, capabilities, SafeRemoteOptions.DEFAULT);
+	}
+
+	/**
+	 * Performs the same action as safeCreateDriver(URL, Capabilities) with the passed in options. If the options
+	 * are null then null is returned.
+	 * @param remoteAddress -> URL
+	 * @param capabilities -> Capabilities
+	 * @param options -> SafeRemoteOptions
+	 * @return -> RemoteWebDriver
+	 */
+	public static RemoteWebDriver safeCreateDriver(URL remoteAddress, Capabilities capabilities, SafeRemoteOptions options) {
+		if(remoteAddress==null || capabilities==null || options==null)
+			return null;
+		try {
+			return new RemoteWebDriver(createExecutor(remoteAddress, options), capabilities);
+		}catch(Exception ex) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package safe_automation_utils.safe_remote;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Contains the settings of the executors created by SafeRemoteExecutor. Up to maxIdleConnections connections
+ * to the grid are kept open for keepAliveMillis after their last command, so parallel tests reuse them instead
+ * of opening a new one for every command. Selenium keeps only 5, so with more threads than that most commands
+ * pay for a new TCP connection. The read timeout must be longer than the longest command a test sends,
+ * including page loads and async scripts. The listener, if set, is told the time of every command.
+ *
+ * Options are immutable so the with methods return a new SafeRemoteOptions object.
+ */
+public final class SafeRemoteOptions {
+
+	/**
+	 * 64 idle connections kept for 5 minutes, a 10 second connect timeout, a 10 minute read timeout, a 30 second
+	 * write timeout and no listener.
+	 */
+	public static final SafeRemoteOptions DEFAULT = new SafeRemoteOptions(64, 300000, 10000, 600000, 30000, null);
+
+	private final int maxIdleConnections;
+	private final long keepAliveMillis;
+	private final long connectTimeoutMillis;
+	private final long readTimeoutMillis;
+	private final long writeTimeoutMillis;
+	private final SafeCommandListener listener;
+
+	private SafeRemoteOptions(int maxIdleConnections, long keepAliveMillis, long connectTimeoutMillis, long readTimeoutMillis,
+			long writeTimeoutMillis, SafeCommandListener listener) {
+		this.maxIdleConnections = maxIdleConnections;
+		this.keepAliveMillis = keepAliveMillis;
+		this.connectTimeoutMillis = connectTimeoutMillis;
+		this.readTimeoutMillis = readTimeoutMillis;
+		this.writeTimeoutMillis = writeTimeoutMillis;
+		this.listener = listener;
+	}
+
+	/**
+	 * Returns a copy of these options that keeps up to the passed in number of idle connections open. The number
+	 * should be at least the number of tests running at the same time and can't be lower than 0.
+	 * @param maxIdleConnections -> int
+	 * @return -> SafeRemoteOptions
+	 */
+	public SafeRemoteOptions withMaxIdleConnections(int maxIdleConnections) {
+		if(maxIdleConnections<0)
+			throw new IllegalArgumentException("maxIdleConnections can't be lower than 0");
+		return new SafeRemoteOptions(maxIdleConnections, keepAliveMillis, connectTimeoutMillis, readTimeoutMillis, writeTimeoutMillis, listener);
+	}
+
+	/**
+	 * Returns a copy of these options that closes idle connections after the passed in number of milliseconds,
+	 * which must be higher than 0.
+	 * @param keepAliveMillis -> long
+	 * @return -> SafeRemoteOptions
+	 */
+	public SafeRemoteOptions withKeepAliveMillis(long keepAliveMillis) {
+		if(keepAliveMillis<1)
+			throw new IllegalArgumentException("keepAliveMillis must be higher than 0");
+		return new SafeRemoteOptions(maxIdleConnections, keepAliveMillis, connectTimeoutMillis, readTimeoutMillis, writeTimeoutMillis, listener);
+	}
+
+	/**
+	 * Returns a copy of these options with the passed in connect timeout in milliseconds, where 0 means no timeout.
+	 * @param connectTimeoutMillis -> long
+	 * @return -> SafeRemoteOptions
+	 */
+	public SafeRemoteOptions withConnectTimeoutMillis(long connectTimeoutMillis) {
+		if(connectTimeoutMillis<0)
+			throw new IllegalArgumentException("connectTimeoutMillis can't be lower than 0");
+		return new SafeRemoteOptions(maxIdleConnections, keepAliveMillis, connectTimeoutMillis, readTimeoutMillis, writeTimeoutMillis, listener);
+	}
+
+	/**
+	 * Returns a copy of these options with the passed in read timeout in milliseconds, where 0 means no timeout.
+	 * @param readTimeoutMillis -> long
+	 * @return -> SafeRemoteOptions
+	 */
+	public SafeRemoteOptions withReadTimeoutMillis(long readTimeoutMillis) {
+		if(readTimeoutMillis<0)
+			throw new IllegalArgumentException("readTimeoutMillis can't be lower than 0");
+		return new SafeRemoteOptions(maxIdleConnections, keepAliveMillis, connectTimeoutMillis, readTimeoutMillis, writeTimeoutMillis, listener);
+	}
+
+	/**
+	 * Returns a copy of these options with the passed in write timeout in milliseconds, where 0 means no timeout.
+	 * @param writeTimeoutMillis -> long
+	 * @return -> SafeRemoteOptions
+	 */
+	public SafeRemoteOptions withWriteTimeoutMillis(long writeTimeoutMillis) {
+		if(writeTimeoutMillis<0)
+			throw new IllegalArgumentException("writeTimeoutMillis can't be lower than 0");
+		return new SafeRemoteOptions(maxIdleConnections, keepAliveMillis, connectTimeoutMillis, readTimeoutMillis, writeTimeoutMillis, listener);
+	}
+
+	/**
+	 * Returns a copy of these options that tells the passed in listener the time of every command. A null
+	 * listener turns timing off.
+	 * @param listener -> SafeCommandListener
+	 * @return -> SafeRemoteOptions
+	 */
+	public SafeRemoteOptions withListener(SafeCommandListener listener) {
+		return new SafeRemoteOptions(maxIdleConnections, keepAliveMillis, connectTimeoutMillis, readTimeoutMillis, writeTimeoutMillis, listener);
+	}
+
+	public int getMaxIdleConnections() {
+		return maxIdleConnections;
+	}
+
+	public long getKeepAliveMillis() {
+		return keepAliveMillis;
+	}
+
+	public long getConnectTimeoutMillis() {
+		return connectTimeoutMillis;
+	}
+
+	public long getReadTimeoutMillis() {
+		return readTimeoutMillis;
+	}
+
+	public long getWriteTimeoutMillis() {
+		return writeTimeoutMillis;
+	}
+
+	public SafeCommandListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Returns a key that is the same for every SafeRemoteOptions object that needs the same connection pool, which
+	 * is all of the settings except the listener.
+	 */
+	String poolKey() {
+		return maxIdleConnections + "/" + keepAliveMillis + "/" + connectTimeoutMillis + "/" + readTimeoutMillis + "/" + writeTimeoutMillis;
+	}
+}
@@ -0,0 +1,44 @@
+package safe_automation_utils.safe_remote;
+
+import java.io.IOException;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.Response;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Tells a SafeCommandListener how long every command sent through the wrapped executor took.
+ */
+final class TimedCommandExecutor implements CommandExecutor {
+
+	private final CommandExecutor executor;
+	private final SafeCommandListener listener;
+
+	TimedCommandExecutor(CommandExecutor executor, SafeCommandListener listener) {
+		this.executor = executor;
+		this.listener = listener;
+	}
+
+	@Override
+	public Response execute(Command command) throws IOException {
+		long start = System.nanoTime();
+		Throwable failure = null;
+		try {
+			return executor.execute(command);
+		}catch(IOException | RuntimeException ex) {
+			failure = ex;
+			throw ex;
+		}finally {
+			try {
+				listener.commandExecuted(command.getName(), System.nanoTime()-start, failure);
+			}catch(RuntimeException ex) {
+				//a listener must not change what the command returns
+			}
+		}
+	}
+}
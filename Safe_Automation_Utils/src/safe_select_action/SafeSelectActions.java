@@ -5,13 +5,16 @@ import java.util.List;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+import safe_automation_utils.safe_utils.SafeResult;
 import safe_automation_utils.safe_webelement_text.SafeTextWebElement;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 06/10/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide safe ways to interact with Select objects.
  *
@@ -19,6 +22,22 @@ import safe_automation_utils.safe_webelement_text.SafeTextWebElement;
  */
 public class SafeSelectActions {
 
+	private static final SafeMethodProbe SAFE_GET_ALL_OPTIONS = SafeMetrics.probe("SafeSelectActions.safeGetAllOptions");
+	private static final SafeMethodProbe SAFE_GET_FIRST_SELECTED_OPTION = SafeMetrics.probe("SafeSelectActions.safeGetFirstSelectedOption");
+	private static final SafeMethodProbe SAFE_GET_ALL_SELECTED_OPTIONS = SafeMetrics.probe("SafeSelectActions.safeGetAllSelectedOptions");
+	private static final SafeMethodProbe SAFE_DESELECT_ALL_OPTIONS = SafeMetrics.probe("SafeSelectActions.safeDeselectAllOptions");
+	private static final SafeMethodProbe SAFE_GET_FIRST_SELECTED_OPTION_TEXT = SafeMetrics.probe("SafeSelectActions.safeGetFirstSelectedOptionText");
+	private static final SafeMethodProbe SAFE_GET_INDEX_OF_SELECTED_OPTION = SafeMetrics.probe("SafeSelectActions.safeGetIndexOfSelectedOption");
+	private static final SafeMethodProbe SAFE_SET_SELECT_OPTION_BY_INDEX = SafeMetrics.probe("SafeSelectActions.safeSetSelectOptionByIndex");
+	private static final SafeMethodProbe SAFE_SET_SELECT_MULTI_OPTIONS_BY_INDEX = SafeMetrics.probe("SafeSelectActions.safeSetSelectMultiOptionsByIndex");
+	private static final SafeMethodProbe SAFE_DESELECT_OPTION_BY_INDEX = SafeMetrics.probe("SafeSelectActions.safeDeselectOptionByIndex");
+	private static final SafeMethodProbe SAFE_SET_SELECT_OPTION_BY_VISIBLE_TEXT = SafeMetrics.probe("SafeSelectActions.safeSetSelectOptionByVisibleText");
+	private static final SafeMethodProbe SAFE_SET_SELECT_MULTI_OPTIONS_BY_VISIBLE_TEXT = SafeMetrics.probe("SafeSelectActions.safeSetSelectMultiOptionsByVisibleText");
+	private static final SafeMethodProbe SAFE_DESELECT_OPTION_BY_VISIBLE_TEXT = SafeMetrics.probe("SafeSelectActions.safeDeselectOptionByVisibleText");
+	private static final SafeMethodProbe SAFE_SET_SELECT_OPTION_BY_VALUE = SafeMetrics.probe("SafeSelectActions.safeSetSelectOptionByValue");
+	private static final SafeMethodProbe SAFE_SET_SELECT_MULTI_OPTIONS_BY_VALUE = SafeMetrics.probe("SafeSelectActions.safeSetSelectMultiOptionsByValue");
+	private static final SafeMethodProbe SAFE_DESELECT_SELECT_OPTION_BY_VALUE = SafeMetrics.probe("SafeSelectActions.safeDeselectSelectOptionByValue");
+
 	/**
 	 * Attempts to get all the options related to the passed in Select object. If the selectElement
 	 * Select object is null then null is returned. If an exception occurs during the process then
@@ -29,10 +48,15 @@ public class SafeSelectActions {
 	public static List<WebElement> safeGetAllOptions(Select select){
 		if(select==null)
 			return null;
+		long start = SAFE_GET_ALL_OPTIONS.start();
+		Exception swallowed = null;
 		try {
 			return select.getOptions();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_ALL_OPTIONS.stop(start, swallowed);
 		}
 	}
 	
@@ -47,10 +71,15 @@ public class SafeSelectActions {
 	public static WebElement safeGetFirstSelectedOption(Select select) {
 		if(select==null)
 			return null;
+		long start = SAFE_GET_FIRST_SELECTED_OPTION.start();
+		Exception swallowed = null;
 		try {
 			return select.getFirstSelectedOption();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_FIRST_SELECTED_OPTION.stop(start, swallowed);
 		}
 	}
 	
@@ -65,10 +94,15 @@ public class SafeSelectActions {
 	public static List<WebElement> safeGetAllSelectedOptions(Select select){
 		if(select==null)
 			return null;
+		long start = SAFE_GET_ALL_SELECTED_OPTIONS.start();
+		Exception swallowed = null;
 		try {
 			return select.getAllSelectedOptions();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_ALL_SELECTED_OPTIONS.stop(start, swallowed);
 		}
 	}
 	
@@ -82,11 +116,30 @@ public class SafeSelectActions {
 	public static int safeDeselectAllOptions(Select select) {
 		if(select==null)
 			return 0;
+		return safeDeselectAllOptionsResult(select).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeDeselectAllOptions(Select) but returns a SafeResult that says why the action
+	 * failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an exception occurs
+	 * during the process then the SafeResult matching that exception is returned. If the action is successful then
+	 * SUCCESS is returned.
+	 * @param select -> Select
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDeselectAllOptionsResult(Select select) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DESELECT_ALL_OPTIONS.start();
+		Exception swallowed = null;
 		try {
 			select.deselectAll();
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DESELECT_ALL_OPTIONS.stop(start, swallowed);
 		}
 	}
 	
@@ -102,13 +155,18 @@ public class SafeSelectActions {
 	public static String safeGetFirstSelectedOptionText(Select select) {
 		if(select==null)
 			return null;
+		long start = SAFE_GET_FIRST_SELECTED_OPTION_TEXT.start();
+		Exception swallowed = null;
 		try {
 			WebElement selectedOption = safeGetFirstSelectedOption(select);
 			if(selectedOption==null)
 				return null;
 			return SafeTextWebElement.safeGetTextFromTextWebElement(selectedOption);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_FIRST_SELECTED_OPTION_TEXT.stop(start, swallowed);
 		}
 	}
 	
@@ -124,6 +182,8 @@ public class SafeSelectActions {
 	public static int safeGetIndexOfSelectedOption(Select select) {
 		if(select==null)
 			return -2;
+		long start = SAFE_GET_INDEX_OF_SELECTED_OPTION.start();
+		Exception swallowed = null;
 		try {
 			String selectedText = safeGetFirstSelectedOptionText(select);
 			List<WebElement> options = safeGetAllOptions(select);
@@ -133,7 +193,10 @@ public class SafeSelectActions {
 			}
 			return -1;
 		}catch(Exception ex) {
+			swallowed = ex;
 			return -2;
+		}finally {
+			SAFE_GET_INDEX_OF_SELECTED_OPTION.stop(start, swallowed);
 		}
 	}
 	
@@ -148,11 +211,31 @@ public class SafeSelectActions {
 	public static int safeSetSelectOptionByIndex(Select select, int index) {
 		if(select==null)
 			return 0;
+		return safeSetSelectOptionByIndexResult(select, index).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeSetSelectOptionByIndex(Select, int) but returns a SafeResult that says why
+	 * the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param index -> int
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeSetSelectOptionByIndexResult(Select select, int index) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_SET_SELECT_OPTION_BY_INDEX.start();
+		Exception swallowed = null;
 		try {
 			select.selectByIndex(index);
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_SET_SELECT_OPTION_BY_INDEX.stop(start, swallowed);
 		}
 	}
 	
@@ -167,13 +250,33 @@ public class SafeSelectActions {
 	public static int safeSetSelectMultiOptionsByIndex(Select select, int[] indexes) {
 		if(select==null)
 			return 0;
+		return safeSetSelectMultiOptionsByIndexResult(select, indexes).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeSetSelectMultiOptionsByIndex(Select, int[]) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param indexes -> int[]
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeSetSelectMultiOptionsByIndexResult(Select select, int[] indexes) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_SET_SELECT_MULTI_OPTIONS_BY_INDEX.start();
+		Exception swallowed = null;
 		try {
 			for(int x:indexes) {
 				select.selectByIndex(x);
 			}
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_SET_SELECT_MULTI_OPTIONS_BY_INDEX.stop(start, swallowed);
 		}
 	}
 	
@@ -188,11 +291,31 @@ public class SafeSelectActions {
 	public static int safeDeselectOptionByIndex(Select select, int index) {
 		if(select==null)
 			return 0;
+		return safeDeselectOptionByIndexResult(select, index).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeDeselectOptionByIndex(Select, int) but returns a SafeResult that says why
+	 * the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param index -> int
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDeselectOptionByIndexResult(Select select, int index) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DESELECT_OPTION_BY_INDEX.start();
+		Exception swallowed = null;
 		try {
 			select.deselectByIndex(index);
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DESELECT_OPTION_BY_INDEX.stop(start, swallowed);
 		}
 	}
 	
@@ -207,11 +330,31 @@ public class SafeSelectActions {
 	public static int safeSetSelectOptionByVisibleText(Select select, String text) {
 		if(select==null)
 			return 0;
+		return safeSetSelectOptionByVisibleTextResult(select, text).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeSetSelectOptionByVisibleText(Select, String) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param text -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeSetSelectOptionByVisibleTextResult(Select select, String text) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_SET_SELECT_OPTION_BY_VISIBLE_TEXT.start();
+		Exception swallowed = null;
 		try {
 			select.selectByVisibleText(text);
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_SET_SELECT_OPTION_BY_VISIBLE_TEXT.stop(start, swallowed);
 		}
 	}
 	
@@ -226,13 +369,33 @@ public class SafeSelectActions {
 	public static int safeSetSelectMultiOptionsByVisibleText(Select select, String[] texts) {
 		if(select==null)
 			return 0;
+		return safeSetSelectMultiOptionsByVisibleTextResult(select, texts).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeSetSelectMultiOptionsByVisibleText(Select, String[]) but returns a
+	 * SafeResult that says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is
+	 * returned. If an exception occurs during the process then the SafeResult matching that exception is returned.
+	 * If the action is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param texts -> String[]
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeSetSelectMultiOptionsByVisibleTextResult(Select select, String[] texts) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_SET_SELECT_MULTI_OPTIONS_BY_VISIBLE_TEXT.start();
+		Exception swallowed = null;
 		try {
 			for(String x:texts) {
 				select.selectByVisibleText(x);
 			}
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_SET_SELECT_MULTI_OPTIONS_BY_VISIBLE_TEXT.stop(start, swallowed);
 		}
 	}
 	
@@ -247,11 +410,31 @@ public class SafeSelectActions {
 	public static int safeDeselectOptionByVisibleText(Select select, String text) {
 		if(select==null)
 			return 0;
+		return safeDeselectOptionByVisibleTextResult(select, text).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeDeselectOptionByVisibleText(Select, String) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param text -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDeselectOptionByVisibleTextResult(Select select, String text) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DESELECT_OPTION_BY_VISIBLE_TEXT.start();
+		Exception swallowed = null;
 		try {
 			select.deselectByVisibleText(text);
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DESELECT_OPTION_BY_VISIBLE_TEXT.stop(start, swallowed);
 		}
 	}
 	
@@ -266,11 +449,31 @@ public class SafeSelectActions {
 	public static int safeSetSelectOptionByValue(Select select, String value) {
 		if(select==null)
 			return 0;
+		return safeSetSelectOptionByValueResult(select, value).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeSetSelectOptionByValue(Select, String) but returns a SafeResult that says
+	 * why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param value -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeSetSelectOptionByValueResult(Select select, String value) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_SET_SELECT_OPTION_BY_VALUE.start();
+		Exception swallowed = null;
 		try {
 			select.selectByValue(value);
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_SET_SELECT_OPTION_BY_VALUE.stop(start, swallowed);
 		}
 	}
 	
@@ -285,13 +488,33 @@ public class SafeSelectActions {
 	public static int safeSetSelectMultiOptionsByValue(Select select, String[] values) {
 		if(select==null)
 			return 0;
+		return safeSetSelectMultiOptionsByValueResult(select, values).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeSetSelectMultiOptionsByValue(Select, String[]) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param values -> String[]
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeSetSelectMultiOptionsByValueResult(Select select, String[] values) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_SET_SELECT_MULTI_OPTIONS_BY_VALUE.start();
+		Exception swallowed = null;
 		try {
 			for(String x:values) {
 				select.selectByValue(x);
 			}
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_SET_SELECT_MULTI_OPTIONS_BY_VALUE.stop(start, swallowed);
 		}
 	}
 	
@@ -306,11 +529,31 @@ public class SafeSelectActions {
 	public static int safeDeselectSelectOptionByValue(Select select, String value) {
 		if(select==null)
 			return 0;
+		return safeDeselectSelectOptionByValueResult(select, value).isSuccess() ? 1 : 0;
+	}
+	
+	/**
+	 * Performs the same action as safeDeselectSelectOptionByValue(Select, String) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param select -> Select
+	 * @param value -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDeselectSelectOptionByValueResult(Select select, String value) {
+		if(select==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DESELECT_SELECT_OPTION_BY_VALUE.start();
+		Exception swallowed = null;
 		try {
 			select.deselectByValue(value);
-			return 1;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DESELECT_SELECT_OPTION_BY_VALUE.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
@@ -8,12 +8,14 @@ import safe_automation_utils.safe_get_webelement.SafeGetByCSSSelector;
 import safe_automation_utils.safe_get_webelement.SafeGetByClassName;
 import safe_automation_utils.safe_get_webelement.SafeGetByID;
 import safe_automation_utils.safe_get_webelement.SafeGetByXPath;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 06/10/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains common helper methods used throughout the library.
  * 
@@ -22,6 +24,8 @@ import safe_automation_utils.safe_get_webelement.SafeGetByXPath;
 
 public final class HelperUtils {
 
+	private static final SafeMethodProbe LOCATE_WEB_ELEMENT = SafeMetrics.probe("HelperUtils.locateWebElement");
+
 	/**
 	 * Attempts to locate the WebElement that matches the source String value based on using the locator
 	 * that matches the sourceType String value. If the WebDriver object is null or if the source String
@@ -38,24 +42,30 @@ public final class HelperUtils {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return null;
 		WebElement sourceElement = null;
-		switch(sourceType) {
-			case Locator_Type_Constants.XPATH:
-				sourceElement = SafeGetByXPath.safeGetByXPath(driver, source);
-				break;
-			case Locator_Type_Constants.CLASSNAME:
-				sourceElement = SafeGetByClassName.safeGetByClassName(driver, source);
-				break;
-			case Locator_Type_Constants.ID:
-				sourceElement = SafeGetByID.safeGetByID(driver, source);
-				break;
-			case Locator_Type_Constants.CSSSELECTOR:
-				sourceElement = SafeGetByCSSSelector.safeGetByCssSelector(driver, source);
-				break;
-			default:
-				sourceElement = null;
-				break;
+		long start = LOCATE_WEB_ELEMENT.start();
+		LOCATE_WEB_ELEMENT.locator(sourceType, source);
+		try {
+			switch(sourceType) {
+				case Locator_Type_Constants.XPATH:
+					sourceElement = SafeGetByXPath.safeGetByXPath(driver, source);
+					break;
+				case Locator_Type_Constants.CLASSNAME:
+					sourceElement = SafeGetByClassName.safeGetByClassName(driver, source);
+					break;
+				case Locator_Type_Constants.ID:
+					sourceElement = SafeGetByID.safeGetByID(driver, source);
+					break;
+				case Locator_Type_Constants.CSSSELECTOR:
+					sourceElement = SafeGetByCSSSelector.safeGetByCssSelector(driver, source);
+					break;
+				default:
+					sourceElement = null;
+					break;
+			}
+			return sourceElement;
+		}finally {
+			LOCATE_WEB_ELEMENT.stop(start, null, sourceElement==null ? SafeResult.Outcome.NOT_FOUND : SafeResult.Outcome.SUCCESS);
 		}
-		return sourceElement;
 	}
 	
 	/**
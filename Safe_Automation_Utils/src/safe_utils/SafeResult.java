@@ -0,0 +1,138 @@
+package safe_automation_utils.safe_utils;
+
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * The result of a safe action that says why it failed instead of only that it failed, so the test does not
+ * have to ask the browser again to find out. The outcomes that carry no exception are shared constants, so a
+ * successful action allocates nothing. A failure caused by an exception keeps that exception and takes its
+ * reason from the exception message.
+ *
+ * The methods returning a SafeResult are named after the method returning a boolean or int with Result added,
+ * for example SafeClick.safeClickWebElementResult.
+ */
+public final class SafeResult {
+
+	/**
+	 * Why a safe action ended the way it did.
+	 * SUCCESS means the action was performed.
+	 * INVALID_ARGUMENT means a required argument was null or blank so nothing was sent to the browser.
+	 * NOT_FOUND means the element, option, frame or window could not be located.
+	 * STALE means the element was removed from the page after it was located.
+	 * NOT_INTERACTABLE means the element is hidden, disabled, covered or otherwise can't take the action.
+	 * TIMEOUT means a wait or script ran out of time.
+	 * DRIVER_DEAD means the session is gone or the browser can't be reached, so every following action will
+	 * fail as well.
+	 * FAILED means any other exception.
+	 */
+	public enum Outcome {
+		SUCCESS,
+		INVALID_ARGUMENT,
+		NOT_FOUND,
+		STALE,
+		NOT_INTERACTABLE,
+		TIMEOUT,
+		DRIVER_DEAD,
+		FAILED
+	}
+
+	public static final SafeResult SUCCESS = new SafeResult(Outcome.SUCCESS, "the action was performed", null);
+	public static final SafeResult INVALID_ARGUMENT = new SafeResult(Outcome.INVALID_ARGUMENT, "a required argument was null or blank", null);
+	public static final SafeResult NOT_FOUND = new SafeResult(Outcome.NOT_FOUND, "the element could not be located", null);
+	public static final SafeResult TIMEOUT = new SafeResult(Outcome.TIMEOUT, "the wait ran out of time", null);
+
+	private final Outcome outcome;
+	private final String reason;
+	private final Throwable cause;
+
+	private SafeResult(Outcome outcome, String reason, Throwable cause) {
+		this.outcome = outcome;
+		this.reason = reason;
+		this.cause = cause;
+	}
+
+	/**
+	 * Returns a failed result for the passed in exception with the outcome that matches its type.
+	 * @param cause -> Throwable
+	 * @return -> SafeResult
+	 */
+	public static SafeResult failure(Throwable cause) {
+		return new SafeResult(outcomeOf(cause), null, cause);
+	}
+
+	/**
+	 * Returns the outcome that matches the type of the passed in exception, or FAILED if there is none.
+	 * @param cause -> Throwable
+	 * @return -> Outcome
+	 */
+	public static Outcome outcomeOf(Throwable cause) {
+		if(cause instanceof NotFoundException)
+			return Outcome.NOT_FOUND;
+		if(cause instanceof StaleElementReferenceException)
+			return Outcome.STALE;
+		if(cause instanceof InvalidElementStateException)
+			return Outcome.NOT_INTERACTABLE;
+		if(cause instanceof TimeoutException || cause instanceof ScriptTimeoutException)
+			return Outcome.TIMEOUT;
+		if(cause instanceof NoSuchSessionException || cause instanceof SessionNotCreatedException
+				|| cause instanceof UnreachableBrowserException)
+			return Outcome.DRIVER_DEAD;
+		return Outcome.FAILED;
+	}
+
+	/**
+	 * Returns true if the action was performed.
+	 * @return -> boolean
+	 */
+	public boolean isSuccess() {
+		return outcome==Outcome.SUCCESS;
+	}
+
+	/**
+	 * Returns why the action ended the way it did.
+	 * @return -> Outcome
+	 */
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Returns a one line description of the outcome. For failures caused by an exception this is the first line
+	 * of its message, without the build and driver info Selenium adds.
+	 * @return -> String
+	 */
+	public String getReason() {
+		if(cause==null)
+			return reason;
+		String message = cause.getMessage();
+		if(message==null || message.isEmpty())
+			return cause.getClass().getSimpleName();
+		int lineEnd = message.indexOf('\n');
+		return (lineEnd<0 ? message : message.substring(0, lineEnd)).trim();
+	}
+
+	/**
+	 * Returns the exception that caused the failure or null if there was none.
+	 * @return -> Throwable
+	 */
+	public Throwable getCause() {
+		return cause;
+	}
+
+	@Override
+	public String toString() {
+		return outcome + ": " + getReason();
+	}
+}
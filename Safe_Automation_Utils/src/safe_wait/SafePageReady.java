@@ -0,0 +1,172 @@
+package safe_automation_utils.safe_wait;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+import safe_automation_utils.safe_utils.SafeResult;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Waits until a page has settled, to use instead of a fixed sleep before locating or clicking on a page that keeps
+ * loading after document.readyState is complete. The first check on a page installs a tracker in it that counts
+ * the XMLHttpRequest and fetch calls in flight and the animation frames requested and not yet run, and notes the
+ * time of the last request, response and DOM mutation. The page is ready once it is complete, nothing is in
+ * flight and nothing happened for the quiet period.
+ *
+ * The tracker is gone after every navigation and only sees requests started after it was installed, so a
+ * request that started before the first check on a page is not waited for. A page that requests a new animation
+ * frame from every frame, like a running animation, never gets ready and times out.
+ *
+ * All methods in this class are static.
+ */
+public final class SafePageReady {
+
+	private static final SafeMethodProbe SAFE_WAIT_FOR_PAGE_READY = SafeMetrics.probe("SafePageReady.safeWaitForPageReady");
+
+	/**
+	 * The shortest time between two checks, so a busy page is not asked in a tight loop.
+	 */
+	private static final long MIN_POLL_MILLIS = 50;
+
+	/**
+	 * Installs the tracker if the page does not have it yet and returns [readyState, requests in flight, frames
+	 * pending, milliseconds since the last activity]. Requests are kept until loadend and every check also drops
+	 * the ones that are done or aborted, since not every browser sends loadend to listeners added by a script.
+	 */
+	private static final String SCRIPT =
+			"var w = window, t = w.__safeAutomationPageTracker;" +
+			"if(!t) {" +
+			"  t = w.__safeAutomationPageTracker = {xhrs: [], fetches: 0, frames: 0, last: Date.now()};" +
+			"  var touch = function() { t.last = Date.now(); };" +
+			"  t.touch = touch;" +
+			"  if(w.XMLHttpRequest) {" +
+			"    var send = w.XMLHttpRequest.prototype.send;" +
+			"    w.XMLHttpRequest.prototype.send = function() {" +
+			"      var xhr = this;" +
+			"      var end = function() { var i = t.xhrs.indexOf(xhr); if(i >= 0) { t.xhrs.splice(i, 1); touch(); } };" +
+			"      t.xhrs.push(xhr); touch();" +
+			"      xhr.addEventListener('loadend', end);" +
+			"      try { return send.apply(xhr, arguments); } catch(e) { end(); throw e; }" +
+			"    };" +
+			"  }" +
+			"  if(w.fetch) {" +
+			"    var fetch = w.fetch;" +
+			"    w.fetch = function() {" +
+			"      var end = function() { t.fetches--; touch(); }, response;" +
+			"      t.fetches++; touch();" +
+			"      try { response = fetch.apply(this, arguments); } catch(e) { end(); throw e; }" +
+			"      response.then(end, end);" +
+			"      return response;" +
+			"    };" +
+			"  }" +
+			"  if(w.requestAnimationFrame) {" +
+			"    var request = w.requestAnimationFrame, cancel = w.cancelAnimationFrame, pending = {};" +
+			"    w.requestAnimationFrame = function(callback) {" +
+			"      var id = request.call(w, function(time) {" +
+			"        if(pending[id]) { delete pending[id]; t.frames--; }" +
+			"        return callback(time);" +
+			"      });" +
+			"      pending[id] = true; t.frames++;" +
+			"      return id;" +
+			"    };" +
+			"    if(cancel) {" +
+			"      w.cancelAnimationFrame = function(id) {" +
+			"        if(pending[id]) { delete pending[id]; t.frames--; }" +
+			"        return cancel.call(w, id);" +
+			"      };" +
+			"    }" +
+			"  }" +
+			"  if(w.MutationObserver && document.documentElement) {" +
+			"    new w.MutationObserver(touch).observe(document.documentElement," +
+			"        {childList: true, subtree: true, attributes: true, characterData: true});" +
+			"  }" +
+			"}" +
+			"for(var i = t.xhrs.length - 1; i >= 0; i--) {" +
+			"  if(t.xhrs[i].readyState === 4 || t.xhrs[i].readyState === 0) { t.xhrs.splice(i, 1); t.touch(); }" +
+			"}" +
+			"return [document.readyState, t.xhrs.length + t.fetches, t.frames, Date.now() - t.last];";
+
+	private SafePageReady() {
+	}
+
+	/**
+	 * Attempts to wait until the page of the driver is complete, has no requests or animation frames pending and
+	 * has not changed for quietPeriodMillis. Returns as soon as that is the case. If the driver is null or can't
+	 * run scripts, the quiet period is lower than 0 or the timeout is lower than 1 then false is returned. If the
+	 * page is not ready before the timeout then false is returned. If an exception occurs during the process then
+	 * false is returned. If the page is ready then true is returned.
+	 * @param driver -> WebDriver
+	 * @param quietPeriodMillis -> long
+	 * @param timeoutMillis -> long
+	 * @return -> boolean
+	 */
+	public static boolean safeWaitForPageReady(WebDriver driver, long quietPeriodMillis, long timeoutMillis) {
+		return safeWaitForPageReadyResult(driver, quietPeriodMillis, timeoutMillis).isSuccess();
+	}
+
+	/**
+	 * Performs the same action as safeWaitForPageReady(WebDriver, long, long) but returns a SafeResult that says
+	 * why the page is not ready. If a required argument is null or out of range then INVALID_ARGUMENT is returned.
+	 * If the page is not ready before the timeout then TIMEOUT is returned. If an exception occurs during the
+	 * process then the SafeResult matching that exception is returned. If the page is ready then SUCCESS is
+	 * returned.
+	 * @param driver -> WebDriver
+	 * @param quietPeriodMillis -> long
+	 * @param timeoutMillis -> long
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeWaitForPageReadyResult(WebDriver driver, long quietPeriodMillis, long timeoutMillis) {
+		if(!(driver instanceof JavascriptExecutor) || quietPeriodMillis<0 || timeoutMillis<1)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_WAIT_FOR_PAGE_READY.start();
+		Exception swallowed = null;
+		SafeResult result = SafeResult.TIMEOUT;
+		try {
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+			while(true) {
+				long waitMillis = MIN_POLL_MILLIS;
+				try {
+					List<?> state = (List<?>) ((JavascriptExecutor) driver).executeScript(SCRIPT);
+					boolean idle = "complete".equals(state.get(0)) && number(state.get(1))<=0 && number(state.get(2))<=0;
+					long quietMillis = number(state.get(3));
+					if(idle && quietMillis>=quietPeriodMillis) {
+						result = SafeResult.SUCCESS;
+						return result;
+					}
+					//nothing can make the page ready before the rest of the quiet period has passed
+					if(idle)
+						waitMillis = Math.max(MIN_POLL_MILLIS, quietPeriodMillis-quietMillis);
+				}catch(RuntimeException ex) {
+					if(SafeResult.outcomeOf(ex)==SafeResult.Outcome.DRIVER_DEAD)
+						throw ex;
+					//a page in the middle of navigating can fail the script, the next check installs it again
+				}
+				long remainingNanos = deadline-System.nanoTime();
+				if(remainingNanos<=0)
+					return result;
+				TimeUnit.NANOSECONDS.sleep(Math.min(TimeUnit.MILLISECONDS.toNanos(waitMillis), remainingNanos));
+			}
+		}catch(Exception ex) {
+			swallowed = ex;
+			if(ex instanceof InterruptedException)
+				Thread.currentThread().interrupt();
+			result = SafeResult.failure(ex);
+			return result;
+		}finally {
+			SAFE_WAIT_FOR_PAGE_READY.stop(start, swallowed, result.getOutcome());
+		}
+	}
+
+	private static long number(Object value) {
+		return value instanceof Number ? ((Number) value).longValue() : 0;
+	}
+}
@@ -0,0 +1,194 @@
+package safe_automation_utils.safe_wait;
+
+import safe_automation_utils.constants.Locator_Type_Constants;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Something a SafeWaitGroup waits for on the element that matches a source and one of the values of
+ * Locator_Type_Constants. Conditions are checked in the browser, so visible means the element takes up space and
+ * is not hidden by its style, and text is the rendered text of the element, which are the same checks
+ * ExpectedConditions makes without a round trip for every element.
+ *
+ * Conditions are immutable so withTimeoutMillis returns a new SafeWaitCondition object.
+ */
+public final class SafeWaitCondition {
+
+	/**
+	 * The checks a condition can make on its element.
+	 * PRESENT is met when an element matches, ABSENT when none does.
+	 * VISIBLE is met when the element is displayed, HIDDEN when it is not or no element matches.
+	 * ENABLED is met when the element is not disabled.
+	 * SELECTED is met when the element is a selected option or a checked box.
+	 * TEXT_PRESENT and VALUE_PRESENT are met when the text or value of the element contains the expected text.
+	 */
+	public enum Kind {
+		PRESENT,
+		ABSENT,
+		VISIBLE,
+		HIDDEN,
+		ENABLED,
+		SELECTED,
+		TEXT_PRESENT,
+		VALUE_PRESENT
+	}
+
+	private final Kind kind;
+	private final String source;
+	private final String sourceType;
+	private final String text;
+	private final long timeoutMillis;
+
+	private SafeWaitCondition(Kind kind, String source, String sourceType, String text, long timeoutMillis) {
+		this.kind = kind;
+		this.source = source;
+		this.sourceType = sourceType;
+		this.text = text;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * Returns a condition met once an element matches the passed in source.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeWaitCondition
+	 */
+	public static SafeWaitCondition present(String source, String sourceType) {
+		return new SafeWaitCondition(Kind.PRESENT, source, sourceType, null, 0);
+	}
+
+	/**
+	 * Returns a condition met once no element matches the passed in source, for example when a spinner is gone.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeWaitCondition
+	 */
+	public static SafeWaitCondition absent(String source, String sourceType) {
+		return new SafeWaitCondition(Kind.ABSENT, source, sourceType, null, 0);
+	}
+
+	/**
+	 * Returns a condition met once the element matching the passed in source is displayed.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeWaitCondition
+	 */
+	public static SafeWaitCondition visible(String source, String sourceType) {
+		return new SafeWaitCondition(Kind.VISIBLE, source, sourceType, null, 0);
+	}
+
+	/**
+	 * Returns a condition met once the element matching the passed in source is not displayed or no element
+	 * matches it.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeWaitCondition
+	 */
+	public static SafeWaitCondition hidden(String source, String sourceType) {
+		return new SafeWaitCondition(Kind.HIDDEN, source, sourceType, null, 0);
+	}
+
+	/**
+	 * Returns a condition met once the element matching the passed in source is enabled.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeWaitCondition
+	 */
+	public static SafeWaitCondition enabled(String source, String sourceType) {
+		return new SafeWaitCondition(Kind.ENABLED, source, sourceType, null, 0);
+	}
+
+	/**
+	 * Returns a condition met once the element matching the passed in source is selected or checked.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeWaitCondition
+	 */
+	public static SafeWaitCondition selected(String source, String sourceType) {
+		return new SafeWaitCondition(Kind.SELECTED, source, sourceType, null, 0);
+	}
+
+	/**
+	 * Returns a condition met once the text of the element matching the passed in source contains the passed in
+	 * text.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param text -> String
+	 * @return -> SafeWaitCondition
+	 */
+	public static SafeWaitCondition textPresent(String source, String sourceType, String text) {
+		return new SafeWaitCondition(Kind.TEXT_PRESENT, source, sourceType, text, 0);
+	}
+
+	/**
+	 * Returns a condition met once the value of the element matching the passed in source contains the passed in
+	 * text.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param text -> String
+	 * @return -> SafeWaitCondition
+	 */
+	public static SafeWaitCondition valuePresent(String source, String sourceType, String text) {
+		return new SafeWaitCondition(Kind.VALUE_PRESENT, source, sourceType, text, 0);
+	}
+
+	/**
+	 * Returns a copy of this condition that times out the passed in number of milliseconds after the wait starts,
+	 * instead of after the default timeout of the SafeWaitOptions. The timeout must be higher than 0.
+	 * @param timeoutMillis -> long
+	 * @return -> SafeWaitCondition
+	 */
+	public SafeWaitCondition withTimeoutMillis(long timeoutMillis) {
+		if(timeoutMillis<1)
+			throw new IllegalArgumentException("timeoutMillis must be higher than 0");
+		return new SafeWaitCondition(kind, source, sourceType, text, timeoutMillis);
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public String getSourceType() {
+		return sourceType;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the timeout of this condition in milliseconds, or 0 if it uses the default timeout.
+	 * @return -> long
+	 */
+	public long getTimeoutMillis() {
+		return timeoutMillis;
+	}
+
+	/**
+	 * Returns true if the condition has everything the script needs to check it. A source type other than the four
+	 * Locator_Type_Constants values finds no element in the script, which would meet ABSENT and HIDDEN on the first
+	 * tick, so it is rejected here.
+	 */
+	boolean isValid() {
+		if(source==null || source.isEmpty() || !isLocatorType(sourceType))
+			return false;
+		return (kind!=Kind.TEXT_PRESENT && kind!=Kind.VALUE_PRESENT) || (text!=null && !text.isEmpty());
+	}
+
+	private static boolean isLocatorType(String sourceType) {
+		return Locator_Type_Constants.ID.equals(sourceType) || Locator_Type_Constants.CSSSELECTOR.equals(sourceType)
+				|| Locator_Type_Constants.CLASSNAME.equals(sourceType) || Locator_Type_Constants.XPATH.equals(sourceType);
+	}
+
+	@Override
+	public String toString() {
+		return kind + " " + sourceType + "=" + source + (text==null ? "" : " \"" + text + "\"");
+	}
+}
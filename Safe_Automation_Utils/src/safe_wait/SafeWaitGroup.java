@@ -0,0 +1,295 @@
+package safe_automation_utils.safe_wait;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+import safe_automation_utils.safe_utils.SafeResult;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Waits for several conditions on one driver at once. Every tick checks all conditions that are not met yet with
+ * a single script, instead of each WebDriverWait polling the browser on its own, and a condition is done as soon
+ * as a tick finds it met or its own timeout passes:
+ *
+ *   SafeWaitGroup wait = new SafeWaitGroup(driver);
+ *   wait.add(SafeWaitCondition.absent("spinner", Locator_Type_Constants.CLASSNAME));
+ *   int save = wait.add(SafeWaitCondition.enabled("save", Locator_Type_Constants.ID).withTimeoutMillis(5000));
+ *   wait.add(SafeWaitCondition.textPresent("status", Locator_Type_Constants.ID, "Loaded"));
+ *   if(!wait.safeAwaitAll())
+ *       log(wait.getResult(save));
+ *
+ * The interval between ticks adapts as described in SafeWaitOptions and never runs past the next timeout. A
+ * group is meant to be used by the thread that drives its driver, like the driver itself.
+ */
+public final class SafeWaitGroup {
+
+	private static final SafeMethodProbe SAFE_AWAIT_ALL = SafeMetrics.probe("SafeWaitGroup.safeAwaitAll");
+	private static final SafeMethodProbe SAFE_AWAIT_ANY = SafeMetrics.probe("SafeWaitGroup.safeAwaitAny");
+
+	/**
+	 * Checks every condition passed in as [sourceType, source, kind, text] and returns whether each one is met.
+	 * A condition whose locator throws, like an XPath that does not parse, is not met.
+	 */
+	private static final String SCRIPT =
+			"var conditions = arguments[0], met = [];" +
+			"function find(type, source) {" +
+			"  if(type === 'Id') return document.getElementById(source);" +
+			"  if(type === 'CssSelector') return document.querySelector(source);" +
+			"  if(type === 'ClassName') return document.getElementsByClassName(source)[0] || null;" +
+			"  if(type === 'XPath') return document.evaluate(source, document, null, 9, null).singleNodeValue;" +
+			"  return null;" +
+			"}" +
+			"function visible(e) {" +
+			"  if(!e || !e.getClientRects().length) return false;" +
+			"  var style = window.getComputedStyle(e);" +
+			"  return style.visibility !== 'hidden' && style.display !== 'none' && style.opacity !== '0';" +
+			"}" +
+			"for(var i = 0; i < conditions.length; i++) {" +
+			"  var c = conditions[i], result = false;" +
+			"  try {" +
+			"    var e = find(c[0], c[1]);" +
+			"    switch(c[2]) {" +
+			"      case 'PRESENT': result = !!e; break;" +
+			"      case 'ABSENT': result = !e; break;" +
+			"      case 'VISIBLE': result = visible(e); break;" +
+			"      case 'HIDDEN': result = !visible(e); break;" +
+			"      case 'ENABLED': result = !!e && !e.disabled; break;" +
+			"      case 'SELECTED': result = !!e && !!(e.selected || e.checked); break;" +
+			"      case 'TEXT_PRESENT': result = !!e && (e.innerText === undefined ? e.textContent : e.innerText).indexOf(c[3]) >= 0; break;" +
+			"      case 'VALUE_PRESENT': result = !!e && e.value != null && String(e.value).indexOf(c[3]) >= 0; break;" +
+			"    }" +
+			"  } catch(ex) {" +
+			"    result = false;" +
+			"  }" +
+			"  met.push(result);" +
+			"}" +
+			"return met;";
+
+	private final WebDriver driver;
+	private final SafeWaitOptions options;
+	private final List<SafeWaitCondition> conditions = new ArrayList<>();
+	private final List<SafeResult> results = new ArrayList<>();
+	private final List<Long> elapsedNanos = new ArrayList<>();
+	private int tickCount;
+
+	/**
+	 * Creates a group for the passed in driver that uses SafeWaitOptions.DEFAULT.
+	 * @param driver -> WebDriver
+	 */
+	public SafeWaitGroup(WebDriver driver) {
+		this(driver, SafeWaitOptions.DEFAULT);
+	}
+
+	/**
+	 * Creates a group for the passed in driver that uses the passed in options, or SafeWaitOptions.DEFAULT if they
+	 * are null.
+	 * @param driver -> WebDriver
+	 * @param options -> SafeWaitOptions
+	 */
+	public SafeWaitGroup(WebDriver driver, SafeWaitOptions options) {
+		this.driver = driver;
+		this.options = options==null ? SafeWaitOptions.DEFAULT : options;
+	}
+
+	/**
+	 * Adds the passed in condition to the group and returns its index, which is used to get its result. If the
+	 * condition is null then -1 is returned. If its source or expected text is null or blank, or its source type is
+	 * not one of the Locator_Type_Constants values, then its result is INVALID_ARGUMENT straight away.
+	 * @param condition -> SafeWaitCondition
+	 * @return -> int
+	 */
+	public int add(SafeWaitCondition condition) {
+		if(condition==null)
+			return -1;
+		conditions.add(condition);
+		results.add(condition.isValid() ? null : SafeResult.INVALID_ARGUMENT);
+		elapsedNanos.add(-1L);
+		return conditions.size()-1;
+	}
+
+	/**
+	 * Attempts to wait until every condition of the group is met or has timed out. If the driver is null or can't
+	 * run scripts then every waiting condition gets INVALID_ARGUMENT. If the driver is gone then every waiting
+	 * condition gets the result matching the exception. Returns true if every condition of the group is met.
+	 * @return -> boolean
+	 */
+	public boolean safeAwaitAll() {
+		long start = SAFE_AWAIT_ALL.start();
+		Exception swallowed = null;
+		boolean allMet = false;
+		try {
+			await(false);
+			allMet = true;
+			for(SafeResult result:results)
+				allMet &= result.isSuccess();
+			return allMet;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return false;
+		}finally {
+			SAFE_AWAIT_ALL.stop(start, swallowed, outcome(swallowed, allMet));
+		}
+	}
+
+	/**
+	 * Attempts to wait until any waiting condition of the group is met, for example a success or an error message.
+	 * The conditions that are not met keep waiting and can be waited for again. Returns the index of the condition
+	 * that was met, or -1 if every waiting condition timed out or failed as described for safeAwaitAll.
+	 * @return -> int
+	 */
+	public int safeAwaitAny() {
+		long start = SAFE_AWAIT_ANY.start();
+		Exception swallowed = null;
+		int met = -1;
+		try {
+			met = await(true);
+			return met;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_AWAIT_ANY.stop(start, swallowed, outcome(swallowed, met>=0));
+		}
+	}
+
+	/**
+	 * Returns the result of the condition at the passed in index, or null if it has not been waited for yet or the
+	 * index is not one returned by add.
+	 * @param index -> int
+	 * @return -> SafeResult
+	 */
+	public SafeResult getResult(int index) {
+		if(index<0 || index>=results.size())
+			return null;
+		return results.get(index);
+	}
+
+	/**
+	 * Returns how many milliseconds after the start of its wait the condition at the passed in index was met, or -1
+	 * if it was not met.
+	 * @param index -> int
+	 * @return -> long
+	 */
+	public long getElapsedMillis(int index) {
+		if(index<0 || index>=elapsedNanos.size() || elapsedNanos.get(index)<0)
+			return -1;
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos.get(index));
+	}
+
+	/**
+	 * Returns the number of scripts the group has sent to the browser, one per tick.
+	 * @return -> int
+	 */
+	public int getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Ticks until every waiting condition is done, or with any set until one is met, whose index is returned.
+	 */
+	private int await(boolean any) {
+		long start = System.nanoTime();
+		List<Integer> waiting = new ArrayList<>();
+		long[] deadlines = new long[conditions.size()];
+		for(int x=0; x<conditions.size(); x++) {
+			if(results.get(x)!=null)
+				continue;
+			long timeout = conditions.get(x).getTimeoutMillis();
+			deadlines[x] = start + TimeUnit.MILLISECONDS.toNanos(timeout>0 ? timeout : options.getDefaultTimeoutMillis());
+			waiting.add(x);
+		}
+		if(waiting.isEmpty())
+			return -1;
+		if(!(driver instanceof JavascriptExecutor)) {
+			finish(waiting, SafeResult.INVALID_ARGUMENT);
+			return -1;
+		}
+
+		long interval = options.getMinTickMillis();
+		while(true) {
+			List<?> met;
+			try {
+				met = tick(waiting);
+			}catch(RuntimeException ex) {
+				if(SafeResult.outcomeOf(ex)==SafeResult.Outcome.DRIVER_DEAD) {
+					finish(waiting, SafeResult.failure(ex));
+					return -1;
+				}
+				//a page in the middle of loading can fail a script, the next tick tries again
+				met = null;
+			}
+			long now = System.nanoTime();
+			int firstMet = -1;
+			Iterator<Integer> conditionIndexes = waiting.iterator();
+			for(int x=0; conditionIndexes.hasNext(); x++) {
+				int index = conditionIndexes.next();
+				if(met!=null && x<met.size() && Boolean.TRUE.equals(met.get(x))) {
+					results.set(index, SafeResult.SUCCESS);
+					elapsedNanos.set(index, now-start);
+					conditionIndexes.remove();
+					if(firstMet<0)
+						firstMet = index;
+				}else if(now-deadlines[index]>=0) {
+					results.set(index, SafeResult.TIMEOUT);
+					conditionIndexes.remove();
+				}
+			}
+			if(any && firstMet>=0)
+				return firstMet;
+			if(waiting.isEmpty())
+				return firstMet;
+
+			if(firstMet>=0)
+				interval = options.getMinTickMillis();
+			long nextDeadline = Long.MAX_VALUE;
+			for(int index:waiting)
+				nextDeadline = Math.min(nextDeadline, deadlines[index]-now);
+			long sleepNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(interval), Math.max(0, nextDeadline));
+			try {
+				TimeUnit.NANOSECONDS.sleep(sleepNanos);
+			}catch(InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				finish(waiting, SafeResult.failure(ex));
+				return -1;
+			}
+			if(firstMet<0)
+				interval = Math.min(options.getMaxTickMillis(), (long) Math.ceil(interval*options.getBackoff()));
+		}
+	}
+
+	private List<?> tick(List<Integer> waiting) {
+		List<List<String>> arguments = new ArrayList<>(waiting.size());
+		for(int index:waiting) {
+			SafeWaitCondition condition = conditions.get(index);
+			arguments.add(Arrays.asList(condition.getSourceType(), condition.getSource(), condition.getKind().name(),
+					condition.getText()==null ? "" : condition.getText()));
+		}
+		tickCount++;
+		Object met = ((JavascriptExecutor) driver).executeScript(SCRIPT, arguments);
+		return met instanceof List ? (List<?>) met : null;
+	}
+
+	private static SafeResult.Outcome outcome(Exception swallowed, boolean met) {
+		if(swallowed!=null)
+			return SafeResult.outcomeOf(swallowed);
+		return met ? SafeResult.Outcome.SUCCESS : SafeResult.Outcome.TIMEOUT;
+	}
+
+	private void finish(List<Integer> waiting, SafeResult result) {
+		for(int index:waiting)
+			results.set(index, result);
+		waiting.clear();
+	}
+}
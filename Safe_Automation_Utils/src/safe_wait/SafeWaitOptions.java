@@ -0,0 +1,99 @@
+package safe_automation_utils.safe_wait;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Contains the settings of a SafeWaitGroup. The group checks its conditions every minTickMillis at first and
+ * waits backoff times longer after every tick in which no condition was met, up to maxTickMillis, so a page that
+ * is still loading is not asked again and again. Once a condition is met the interval drops back to
+ * minTickMillis, since the rest are likely close. Conditions without a timeout of their own time out after
+ * defaultTimeoutMillis.
+ *
+ * Options are immutable so the with methods return a new SafeWaitOptions object.
+ */
+public final class SafeWaitOptions {
+
+	/**
+	 * Ticks from 50 to 500 milliseconds growing by half after a tick without progress and a 10 second timeout.
+	 */
+	public static final SafeWaitOptions DEFAULT = new SafeWaitOptions(50, 500, 1.5, 10000);
+
+	private final long minTickMillis;
+	private final long maxTickMillis;
+	private final double backoff;
+	private final long defaultTimeoutMillis;
+
+	private SafeWaitOptions(long minTickMillis, long maxTickMillis, double backoff, long defaultTimeoutMillis) {
+		this.minTickMillis = minTickMillis;
+		this.maxTickMillis = maxTickMillis;
+		this.backoff = backoff;
+		this.defaultTimeoutMillis = defaultTimeoutMillis;
+	}
+
+	/**
+	 * Returns a copy of these options that waits the passed in number of milliseconds between the first ticks and
+	 * after a condition is met. The interval must be higher than 0 and is raised to maxTickMillis if it is higher.
+	 * @param minTickMillis -> long
+	 * @return -> SafeWaitOptions
+	 */
+	public SafeWaitOptions withMinTickMillis(long minTickMillis) {
+		if(minTickMillis<1)
+			throw new IllegalArgumentException("minTickMillis must be higher than 0");
+		return new SafeWaitOptions(minTickMillis, Math.max(minTickMillis, maxTickMillis), backoff, defaultTimeoutMillis);
+	}
+
+	/**
+	 * Returns a copy of these options that never waits longer than the passed in number of milliseconds between
+	 * ticks. The interval can't be lower than minTickMillis.
+	 * @param maxTickMillis -> long
+	 * @return -> SafeWaitOptions
+	 */
+	public SafeWaitOptions withMaxTickMillis(long maxTickMillis) {
+		if(maxTickMillis<minTickMillis)
+			throw new IllegalArgumentException("maxTickMillis can't be lower than minTickMillis");
+		return new SafeWaitOptions(minTickMillis, maxTickMillis, backoff, defaultTimeoutMillis);
+	}
+
+	/**
+	 * Returns a copy of these options that multiplies the interval by the passed in factor after every tick in
+	 * which no condition was met. A factor of 1 keeps the interval at minTickMillis, it can't be lower than 1.
+	 * @param backoff -> double
+	 * @return -> SafeWaitOptions
+	 */
+	public SafeWaitOptions withBackoff(double backoff) {
+		if(!(backoff>=1))
+			throw new IllegalArgumentException("backoff can't be lower than 1");
+		return new SafeWaitOptions(minTickMillis, maxTickMillis, backoff, defaultTimeoutMillis);
+	}
+
+	/**
+	 * Returns a copy of these options where conditions without a timeout of their own time out after the passed
+	 * in number of milliseconds, which must be higher than 0.
+	 * @param defaultTimeoutMillis -> long
+	 * @return -> SafeWaitOptions
+	 */
+	public SafeWaitOptions withDefaultTimeoutMillis(long defaultTimeoutMillis) {
+		if(defaultTimeoutMillis<1)
+			throw new IllegalArgumentException("defaultTimeoutMillis must be higher than 0");
+		return new SafeWaitOptions(minTickMillis, maxTickMillis, backoff, defaultTimeoutMillis);
+	}
+
+	public long getMinTickMillis() {
+		return minTickMillis;
+	}
+
+	public long getMaxTickMillis() {
+		return maxTickMillis;
+	}
+
+	public double getBackoff() {
+		return backoff;
+	}
+
+	public long getDefaultTimeoutMillis() {
+		return defaultTimeoutMillis;
+	}
+}
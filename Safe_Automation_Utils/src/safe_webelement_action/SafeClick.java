@@ -3,13 +3,16 @@ package safe_automation_utils.safe_webelement_action;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
+import safe_automation_utils.safe_utils.SafeResult;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 05/31/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide a safe way to handle clicking a WebElement.
  * 
@@ -18,6 +21,9 @@ import safe_automation_utils.safe_utils.HelperUtils;
 
 public final class SafeClick {
 
+	private static final SafeMethodProbe SAFE_CLICK_WEB_ELEMENT = SafeMetrics.probe("SafeClick.safeClickWebElement");
+	private static final SafeMethodProbe SAFE_CLICK_BY_STRING = SafeMetrics.probe("SafeClick.safeClickByString");
+
 	/**
 	 * Attempts to perform a click action upon the WebElement that is passed into the method. If an
 	 * exception is thrown during this action then false is returned to indicate that the click didn't
@@ -27,13 +33,30 @@ public final class SafeClick {
 	 * @return -> boolean
 	 */
 	public static boolean safeClickWebElement(WebElement element) {
+		return safeClickWebElementResult(element).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeClickWebElement(WebElement) but returns a SafeResult that says why the
+	 * action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an exception
+	 * occurs during the process then the SafeResult matching that exception is returned. If the action is
+	 * successful then SUCCESS is returned.
+	 * @param element -> WebElement
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeClickWebElementResult(WebElement element) {
+		long start = SAFE_CLICK_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			if(element==null)
-				return false;
+				return SafeResult.INVALID_ARGUMENT;
 			element.click();
-			return true;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex){
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_CLICK_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -50,11 +73,34 @@ public final class SafeClick {
 	public static boolean safeClickByString(WebDriver driver, String source, String sourceType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return false;
+		return safeClickByStringResult(driver, source, sourceType).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeClickByString(WebDriver, String, String) but returns a SafeResult that says
+	 * why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If the
+	 * WebElement can't be located then NOT_FOUND is returned. If an exception occurs during the process then the
+	 * SafeResult matching that exception is returned. If the action is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeClickByStringResult(WebDriver driver, String source, String sourceType) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty())
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_CLICK_BY_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
-			return safeClickWebElement(sourceElement);
+			if(sourceElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeClickWebElementResult(sourceElement);
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_CLICK_BY_STRING.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
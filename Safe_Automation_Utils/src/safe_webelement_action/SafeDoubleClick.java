@@ -4,13 +4,16 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
+import safe_automation_utils.safe_utils.SafeResult;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 06/01/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  *
  * Contains methods that provide a safe way to handle double clicking a WebElement.
  * 
@@ -18,6 +21,9 @@ import safe_automation_utils.safe_utils.HelperUtils;
  */
 public final class SafeDoubleClick {
 
+	private static final SafeMethodProbe SAFE_DOUBLE_CLICK_WEB_ELEMENT = SafeMetrics.probe("SafeDoubleClick.safeDoubleClickWebElement");
+	private static final SafeMethodProbe SAFE_DOUBLE_CLICK_STRING = SafeMetrics.probe("SafeDoubleClick.safeDoubleClickString");
+
 	/**
 	 * Attempts to double click the passed in WebElement. If the WebDriver object or if the WebElement object
 	 * is null then false is returned. If an exception occurs during the process then false is returned. If
@@ -27,14 +33,32 @@ public final class SafeDoubleClick {
 	 * @return -> boolean
 	 */
 	public static boolean safeDoubleClickWebElement(WebDriver driver, WebElement element) {
+		return safeDoubleClickWebElementResult(driver, element).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDoubleClickWebElement(WebDriver, WebElement) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDoubleClickWebElementResult(WebDriver driver, WebElement element) {
+		long start = SAFE_DOUBLE_CLICK_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			if(driver==null || element==null)
-				return false;
+				return SafeResult.INVALID_ARGUMENT;
 			Actions action = new Actions(driver);
 			action.doubleClick(element);
-			return true;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DOUBLE_CLICK_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -51,11 +75,34 @@ public final class SafeDoubleClick {
 	public static boolean safeDoubleClickString(WebDriver driver, String source, String sourceType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return false;
+		return safeDoubleClickStringResult(driver, source, sourceType).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDoubleClickString(WebDriver, String, String) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If
+	 * the WebElement can't be located then NOT_FOUND is returned. If an exception occurs during the process then
+	 * the SafeResult matching that exception is returned. If the action is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDoubleClickStringResult(WebDriver driver, String source, String sourceType) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty())
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DOUBLE_CLICK_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
-			return safeDoubleClickWebElement(driver, sourceElement);
+			if(sourceElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeDoubleClickWebElementResult(driver, sourceElement);
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DOUBLE_CLICK_STRING.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
@@ -1,24 +1,113 @@
 package safe_automation_utils.safe_webelement_action;
 
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
+import safe_automation_utils.safe_utils.SafeResult;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 06/03/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide a safe way to perform the Drag and Drop action using WebElements.
  * 
+ * Every method can drag in one of two modes. NATIVE, the default, moves the pointer with an Actions chain, which
+ * works for pages that follow the mouse themselves but does not start an HTML5 drag in most browsers. HTML5 fires
+ * the events of an HTML5 drag on the elements from a single script, sharing one DataTransfer between them, so the
+ * dragstart, dragover and drop handlers of the page run the same as for a user and a drag costs one round trip:
+ *
+ *   SafeDragAndDrop.safeDragAndDropStringToString(driver, "card-1", Locator_Type_Constants.ID,
+ *       "done", Locator_Type_Constants.ID, SafeDragAndDrop.DragMode.HTML5);
+ *
+ * The HTML5 mode does not move the pointer or scroll the page, the events carry the centres of the elements as
+ * their coordinates. A drop on a location goes to the element at that point of the viewport.
+ * 
  * All methods in this class are static.
  */
 
 public final class SafeDragAndDrop {
 
+	private static final SafeMethodProbe SAFE_DRAG_AND_DROP_WEB_ELEMENT = SafeMetrics.probe("SafeDragAndDrop.safeDragAndDropWebElement");
+	private static final SafeMethodProbe SAFE_DRAG_AND_DROP_STRING_TO_WEB_ELEMENT = SafeMetrics.probe("SafeDragAndDrop.safeDragAndDropStringToWebElement");
+	private static final SafeMethodProbe SAFE_DRAG_AND_DROP_WEB_ELEMENT_TO_STRING = SafeMetrics.probe("SafeDragAndDrop.safeDragAndDropWebElementToString");
+	private static final SafeMethodProbe SAFE_DRAG_AND_DROP_STRING_TO_STRING = SafeMetrics.probe("SafeDragAndDrop.safeDragAndDropStringToString");
+	private static final SafeMethodProbe SAFE_DRAG_AND_DROP_WEB_ELEMENT_TO_LOCATION = SafeMetrics.probe("SafeDragAndDrop.safeDragAndDropWebElementToLocation");
+	private static final SafeMethodProbe SAFE_DRAG_AND_DROP_STRING_TO_LOCATION = SafeMetrics.probe("SafeDragAndDrop.safeDragAndDropStringToLocation");
+
+	/**
+	 * The ways a drag can be performed.
+	 * NATIVE moves the pointer from the source to the destination with an Actions chain.
+	 * HTML5 fires dragstart, drag, dragenter, dragover, drop and dragend on the elements from a script.
+	 */
+	public enum DragMode {
+		NATIVE,
+		HTML5
+	}
+
+	/**
+	 * Fires the events of an HTML5 drag from arguments[0] to arguments[1], or when arguments[2] is true to the
+	 * element at the offset of arguments[3] and arguments[4] from the centre of the source. As in a browser the
+	 * drag stops if dragstart is cancelled and the drop only happens if dragover is cancelled, otherwise the
+	 * destination gets dragleave. Returns null if the drop happened, 'NOT_FOUND' if there is no element at the
+	 * location, or why the drop did not happen. A DataTransfer that can't be created or has no setData, as in
+	 * some headless browsers, is replaced by an object with the same methods.
+	 */
+	private static final String HTML5_SCRIPT =
+			"var source = arguments[0], target = arguments[1];" +
+			"var from = source.getBoundingClientRect();" +
+			"var fromX = from.left + from.width / 2, fromY = from.top + from.height / 2, toX, toY;" +
+			"if(!arguments[2]) {" +
+			"  var to = target.getBoundingClientRect();" +
+			"  toX = to.left + to.width / 2; toY = to.top + to.height / 2;" +
+			"} else {" +
+			"  toX = fromX + arguments[3]; toY = fromY + arguments[4];" +
+			"  target = document.elementFromPoint(toX, toY);" +
+			"  if(!target) return 'NOT_FOUND';" +
+			"}" +
+			"var data = null;" +
+			"try { data = new DataTransfer(); } catch(e) {}" +
+			"if(!data || typeof data.setData !== 'function') {" +
+			"  var store = {};" +
+			"  data = {dropEffect: 'none', effectAllowed: 'all', types: [], files: [], items: []," +
+			"    setData: function(format, value) { if(!store.hasOwnProperty(format)) this.types.push(format); store[format] = String(value); }," +
+			"    getData: function(format) { return store.hasOwnProperty(format) ? store[format] : ''; }," +
+			"    clearData: function(format) {" +
+			"      if(format === undefined) { store = {}; this.types.length = 0; }" +
+			"      else if(store.hasOwnProperty(format)) { delete store[format]; this.types.splice(this.types.indexOf(format), 1); }" +
+			"    }," +
+			"    setDragImage: function() {}};" +
+			"}" +
+			"function fire(element, type, x, y) {" +
+			"  var cancelable = type !== 'drag' && type !== 'dragleave' && type !== 'dragend', event = null;" +
+			"  try {" +
+			"    event = new DragEvent(type, {bubbles: true, cancelable: cancelable, composed: true, view: window," +
+			"        clientX: x, clientY: y, dataTransfer: data});" +
+			"  } catch(e) {}" +
+			"  if(!event || event.dataTransfer !== data) {" +
+			"    event = document.createEvent('MouseEvents');" +
+			"    event.initMouseEvent(type, true, cancelable, window, 0, x, y, x, y, false, false, false, false, 0, null);" +
+			"    Object.defineProperty(event, 'dataTransfer', {value: data});" +
+			"  }" +
+			"  return element.dispatchEvent(event);" +
+			"}" +
+			"if(!fire(source, 'dragstart', fromX, fromY)) return 'the source cancelled dragstart';" +
+			"fire(source, 'drag', fromX, fromY);" +
+			"fire(target, 'dragenter', toX, toY);" +
+			"var accepted = !fire(target, 'dragover', toX, toY);" +
+			"try { data.dropEffect = accepted ? (data.dropEffect === 'none' ? 'move' : data.dropEffect) : 'none'; } catch(e) {}" +
+			"if(accepted) fire(target, 'drop', toX, toY);" +
+			"else fire(target, 'dragleave', toX, toY);" +
+			"fire(source, 'dragend', toX, toY);" +
+			"return accepted ? null : 'the destination did not accept the drop';";
+
 	/**
 	 * Attempts to move a WebElement from its current location to the location of the other passed
 	 * in WebElement. If the WebDriver or either WebElement object is null then false is returned.
@@ -33,12 +122,67 @@ public final class SafeDragAndDrop {
 			WebElement destinationElement) {
 		if(driver==null || sourceElement==null || destinationElement==null)
 			return false;
+		return safeDragAndDropWebElementResult(driver, sourceElement, destinationElement).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElement(WebDriver, WebElement, WebElement) but returns a
+	 * SafeResult that says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is
+	 * returned. If an exception occurs during the process then the SafeResult matching that exception is returned.
+	 * If the action is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destinationElement -> WebElement
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropWebElementResult(WebDriver driver, WebElement sourceElement, 
+			WebElement destinationElement) {
+		return safeDragAndDropWebElementResult(driver, sourceElement, destinationElement, DragMode.NATIVE);
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElement(WebDriver, WebElement, WebElement) in the passed in
+	 * DragMode. If any of the parameters are null then false is returned.
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destinationElement -> WebElement
+	 * @param mode -> DragMode
+	 * @return -> boolean
+	 */
+	public static boolean safeDragAndDropWebElement(WebDriver driver, WebElement sourceElement, 
+			WebElement destinationElement, DragMode mode) {
+		return safeDragAndDropWebElementResult(driver, sourceElement, destinationElement, mode).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElementResult(WebDriver, WebElement, WebElement) in the passed
+	 * in DragMode. If the mode is HTML5 and the driver can't run scripts then INVALID_ARGUMENT is returned. If the
+	 * page cancels the drag or the destination does not accept the drop then NOT_INTERACTABLE is returned.
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destinationElement -> WebElement
+	 * @param mode -> DragMode
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropWebElementResult(WebDriver driver, WebElement sourceElement, 
+			WebElement destinationElement, DragMode mode) {
+		if(driver==null || sourceElement==null || destinationElement==null || mode==null)
+			return SafeResult.INVALID_ARGUMENT;
+		if(mode==DragMode.HTML5 && !(driver instanceof JavascriptExecutor))
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DRAG_AND_DROP_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
+			if(mode==DragMode.HTML5)
+				return html5DragAndDrop(driver, sourceElement, destinationElement, 0, 0);
 			Actions action = new Actions(driver);
-			action.dragAndDrop(sourceElement, destinationElement);
-			return true;
+			action.dragAndDrop(sourceElement, destinationElement).perform();
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DRAG_AND_DROP_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -58,11 +202,68 @@ public final class SafeDragAndDrop {
 			WebElement destinationElement) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty() || destinationElement==null)
 			return false;
+		return safeDragAndDropStringToWebElementResult(driver, source, sourceType, destinationElement).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToWebElement(WebDriver, String, String, WebElement) but
+	 * returns a SafeResult that says why the action failed. If a required argument is null or blank then
+	 * INVALID_ARGUMENT is returned. If the WebElement can't be located then NOT_FOUND is returned. If an exception
+	 * occurs during the process then the SafeResult matching that exception is returned. If the action is
+	 * successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destinationElement -> WebElement
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropStringToWebElementResult(WebDriver driver, String source, String sourceType,
+			WebElement destinationElement) {
+		return safeDragAndDropStringToWebElementResult(driver, source, sourceType, destinationElement, DragMode.NATIVE);
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToWebElement(WebDriver, String, String, WebElement) in the
+	 * passed in DragMode. If any of the parameters are null or blank then false is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destinationElement -> WebElement
+	 * @param mode -> DragMode
+	 * @return -> boolean
+	 */
+	public static boolean safeDragAndDropStringToWebElement(WebDriver driver, String source, String sourceType,
+			WebElement destinationElement, DragMode mode) {
+		return safeDragAndDropStringToWebElementResult(driver, source, sourceType, destinationElement, mode).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToWebElementResult(WebDriver, String, String, WebElement) in
+	 * the passed in DragMode, with the results described for safeDragAndDropWebElementResult(WebDriver, WebElement,
+	 * WebElement, DragMode).
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destinationElement -> WebElement
+	 * @param mode -> DragMode
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropStringToWebElementResult(WebDriver driver, String source, String sourceType,
+			WebElement destinationElement, DragMode mode) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty() || destinationElement==null || mode==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DRAG_AND_DROP_STRING_TO_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
-			return safeDragAndDropWebElement(driver, sourceElement, destinationElement);
+			if(sourceElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeDragAndDropWebElementResult(driver, sourceElement, destinationElement, mode);
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DRAG_AND_DROP_STRING_TO_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -82,11 +283,68 @@ public final class SafeDragAndDrop {
 			String destination, String destinationType) {
 		if(driver==null || sourceElement==null || destination.isEmpty() || destinationType.isEmpty())
 			return false;
+		return safeDragAndDropWebElementToStringResult(driver, sourceElement, destination, destinationType).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElementToString(WebDriver, WebElement, String, String) but
+	 * returns a SafeResult that says why the action failed. If a required argument is null or blank then
+	 * INVALID_ARGUMENT is returned. If the WebElement can't be located then NOT_FOUND is returned. If an exception
+	 * occurs during the process then the SafeResult matching that exception is returned. If the action is
+	 * successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destination -> String
+	 * @param destinationType -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropWebElementToStringResult(WebDriver driver, WebElement sourceElement, 
+			String destination, String destinationType) {
+		return safeDragAndDropWebElementToStringResult(driver, sourceElement, destination, destinationType, DragMode.NATIVE);
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElementToString(WebDriver, WebElement, String, String) in the
+	 * passed in DragMode. If any of the parameters are null or blank then false is returned.
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destination -> String
+	 * @param destinationType -> String
+	 * @param mode -> DragMode
+	 * @return -> boolean
+	 */
+	public static boolean safeDragAndDropWebElementToString(WebDriver driver, WebElement sourceElement, 
+			String destination, String destinationType, DragMode mode) {
+		return safeDragAndDropWebElementToStringResult(driver, sourceElement, destination, destinationType, mode).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElementToStringResult(WebDriver, WebElement, String, String) in
+	 * the passed in DragMode, with the results described for safeDragAndDropWebElementResult(WebDriver, WebElement,
+	 * WebElement, DragMode).
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destination -> String
+	 * @param destinationType -> String
+	 * @param mode -> DragMode
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropWebElementToStringResult(WebDriver driver, WebElement sourceElement, 
+			String destination, String destinationType, DragMode mode) {
+		if(driver==null || sourceElement==null || destination==null || destination.isEmpty() || destinationType==null || destinationType.isEmpty() || mode==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DRAG_AND_DROP_WEB_ELEMENT_TO_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement destinationElement = HelperUtils.locateWebElement(driver, destination, destinationType);
-			return safeDragAndDropWebElement(driver, sourceElement, destinationElement);
+			if(destinationElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeDragAndDropWebElementResult(driver, sourceElement, destinationElement, mode);
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DRAG_AND_DROP_WEB_ELEMENT_TO_STRING.stop(start, swallowed);
 		}
 	}
 	
@@ -107,12 +365,74 @@ public final class SafeDragAndDrop {
 			String destination, String destinationType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty() || destination.isEmpty() || destinationType.isEmpty())
 			return false;
+		return safeDragAndDropStringToStringResult(driver, source, sourceType, destination, destinationType).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToString(WebDriver, String, String, String, String) but
+	 * returns a SafeResult that says why the action failed. If a required argument is null or blank then
+	 * INVALID_ARGUMENT is returned. If the WebElement can't be located then NOT_FOUND is returned. If an exception
+	 * occurs during the process then the SafeResult matching that exception is returned. If the action is
+	 * successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destination -> String
+	 * @param destinationType -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropStringToStringResult(WebDriver driver, String source, String sourceType,
+			String destination, String destinationType) {
+		return safeDragAndDropStringToStringResult(driver, source, sourceType, destination, destinationType, DragMode.NATIVE);
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToString(WebDriver, String, String, String, String) in the
+	 * passed in DragMode. If any of the parameters are null or blank then false is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destination -> String
+	 * @param destinationType -> String
+	 * @param mode -> DragMode
+	 * @return -> boolean
+	 */
+	public static boolean safeDragAndDropStringToString(WebDriver driver, String source, String sourceType,
+			String destination, String destinationType, DragMode mode) {
+		return safeDragAndDropStringToStringResult(driver, source, sourceType, destination, destinationType, mode).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToStringResult(WebDriver, String, String, String, String) in
+	 * the passed in DragMode, with the results described for safeDragAndDropWebElementResult(WebDriver, WebElement,
+	 * WebElement, DragMode).
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destination -> String
+	 * @param destinationType -> String
+	 * @param mode -> DragMode
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropStringToStringResult(WebDriver driver, String source, String sourceType,
+			String destination, String destinationType, DragMode mode) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty() || destination==null || destination.isEmpty() || destinationType==null || destinationType.isEmpty() || mode==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DRAG_AND_DROP_STRING_TO_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
+			if(sourceElement==null)
+				return SafeResult.NOT_FOUND;
 			WebElement destinationElement = HelperUtils.locateWebElement(driver, destination, destinationType);
-			return safeDragAndDropWebElement(driver, sourceElement, destinationElement);
+			if(destinationElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeDragAndDropWebElementResult(driver, sourceElement, destinationElement, mode);
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DRAG_AND_DROP_STRING_TO_STRING.stop(start, swallowed);
 		}
 	}
 	
@@ -131,12 +451,71 @@ public final class SafeDragAndDrop {
 			int destinationY) {
 		if(driver==null || sourceElement==null)
 			return false;
+		return safeDragAndDropWebElementToLocationResult(driver, sourceElement, destinationX, destinationY).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElementToLocation(WebDriver, WebElement, int, int) but returns
+	 * a SafeResult that says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT
+	 * is returned. If an exception occurs during the process then the SafeResult matching that exception is
+	 * returned. If the action is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destinationX -> int
+	 * @param destinationY -> int
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropWebElementToLocationResult(WebDriver driver, WebElement sourceElement, int destinationX,
+			int destinationY) {
+		return safeDragAndDropWebElementToLocationResult(driver, sourceElement, destinationX, destinationY, DragMode.NATIVE);
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElementToLocation(WebDriver, WebElement, int, int) in the passed
+	 * in DragMode. If any of the parameters are null then false is returned.
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destinationX -> int
+	 * @param destinationY -> int
+	 * @param mode -> DragMode
+	 * @return -> boolean
+	 */
+	public static boolean safeDragAndDropWebElementToLocation(WebDriver driver, WebElement sourceElement, int destinationX,
+			int destinationY, DragMode mode) {
+		return safeDragAndDropWebElementToLocationResult(driver, sourceElement, destinationX, destinationY, mode).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropWebElementToLocationResult(WebDriver, WebElement, int, int) in the
+	 * passed in DragMode, with the results described for safeDragAndDropWebElementResult(WebDriver, WebElement,
+	 * WebElement, DragMode). In the HTML5 mode the drop goes to the element at the location, if there is none then
+	 * NOT_FOUND is returned.
+	 * @param driver -> WebDriver
+	 * @param sourceElement -> WebElement
+	 * @param destinationX -> int
+	 * @param destinationY -> int
+	 * @param mode -> DragMode
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropWebElementToLocationResult(WebDriver driver, WebElement sourceElement, int destinationX,
+			int destinationY, DragMode mode) {
+		if(driver==null || sourceElement==null || mode==null)
+			return SafeResult.INVALID_ARGUMENT;
+		if(mode==DragMode.HTML5 && !(driver instanceof JavascriptExecutor))
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DRAG_AND_DROP_WEB_ELEMENT_TO_LOCATION.start();
+		Exception swallowed = null;
 		try {
+			if(mode==DragMode.HTML5)
+				return html5DragAndDrop(driver, sourceElement, null, destinationX, destinationY);
 			Actions action = new Actions(driver);
-			action.dragAndDropBy(sourceElement, destinationX, destinationY);
-			return true;
+			action.dragAndDropBy(sourceElement, destinationX, destinationY).perform();
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DRAG_AND_DROP_WEB_ELEMENT_TO_LOCATION.stop(start, swallowed);
 		}
 	}
 	
@@ -157,11 +536,87 @@ public final class SafeDragAndDrop {
 			int destinationY) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return false;
+		return safeDragAndDropStringToLocationResult(driver, source, sourceType, destinationX, destinationY).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToLocation(WebDriver, String, String, int, int) but returns
+	 * a SafeResult that says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT
+	 * is returned. If the WebElement can't be located then NOT_FOUND is returned. If an exception occurs during
+	 * the process then the SafeResult matching that exception is returned. If the action is successful then
+	 * SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destinationX -> int
+	 * @param destinationY -> int
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropStringToLocationResult(WebDriver driver, String source, String sourceType, int destinationX,
+			int destinationY) {
+		return safeDragAndDropStringToLocationResult(driver, source, sourceType, destinationX, destinationY, DragMode.NATIVE);
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToLocation(WebDriver, String, String, int, int) in the passed
+	 * in DragMode. If any of the parameters are null or blank then false is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destinationX -> int
+	 * @param destinationY -> int
+	 * @param mode -> DragMode
+	 * @return -> boolean
+	 */
+	public static boolean safeDragAndDropStringToLocation(WebDriver driver, String source, String sourceType, int destinationX,
+			int destinationY, DragMode mode) {
+		return safeDragAndDropStringToLocationResult(driver, source, sourceType, destinationX, destinationY, mode).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeDragAndDropStringToLocationResult(WebDriver, String, String, int, int) in the
+	 * passed in DragMode, with the results described for safeDragAndDropWebElementToLocationResult(WebDriver,
+	 * WebElement, int, int, DragMode).
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param destinationX -> int
+	 * @param destinationY -> int
+	 * @param mode -> DragMode
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeDragAndDropStringToLocationResult(WebDriver driver, String source, String sourceType, int destinationX,
+			int destinationY, DragMode mode) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty() || mode==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_DRAG_AND_DROP_STRING_TO_LOCATION.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
-			return safeDragAndDropWebElementToLocation(driver, sourceElement, destinationX, destinationY);
+			if(sourceElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeDragAndDropWebElementToLocationResult(driver, sourceElement, destinationX, destinationY, mode);
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_DRAG_AND_DROP_STRING_TO_LOCATION.stop(start, swallowed);
 		}
 	}
+	
+	/**
+	 * Fires the HTML5 drag in the page and turns the answer of the script into a SafeResult.
+	 */
+	private static SafeResult html5DragAndDrop(WebDriver driver, WebElement sourceElement, WebElement destinationElement,
+			int destinationX, int destinationY) {
+		//a null argument is not accepted by every driver, so the source stands in for a missing destination
+		boolean toLocation = destinationElement==null;
+		Object refused = ((JavascriptExecutor) driver).executeScript(HTML5_SCRIPT, sourceElement,
+				toLocation ? sourceElement : destinationElement, toLocation, destinationX, destinationY);
+		if(refused==null)
+			return SafeResult.SUCCESS;
+		if("NOT_FOUND".equals(refused))
+			return SafeResult.NOT_FOUND;
+		return SafeResult.failure(new InvalidElementStateException(String.valueOf(refused)));
+	}
 }
\ No newline at end of file
@@ -4,13 +4,16 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
+import safe_automation_utils.safe_utils.SafeResult;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 05/31/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide a safe way to perform a move to action on a WebElement.
  * 
@@ -19,6 +22,9 @@ import safe_automation_utils.safe_utils.HelperUtils;
 
 public final class SafeMoveTo {
 
+	private static final SafeMethodProbe SAFE_MOVE_TO_WEB_ELEMENT = SafeMetrics.probe("SafeMoveTo.safeMoveToWebElement");
+	private static final SafeMethodProbe SAFE_MOVE_TO_STRING = SafeMetrics.probe("SafeMoveTo.safeMoveToString");
+
 	/**
 	 * Attempts to perform a safe move to action, moving the mouse pointer to the passed in WebElement
 	 * object. If the WebDriver or WebElement object is null then false is returned. If an exception
@@ -29,14 +35,32 @@ public final class SafeMoveTo {
 	 * @return -> boolean
 	 */
 	public static boolean safeMoveToWebElement(WebDriver driver, WebElement element) {
+		return safeMoveToWebElementResult(driver, element).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeMoveToWebElement(WebDriver, WebElement) but returns a SafeResult that says
+	 * why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeMoveToWebElementResult(WebDriver driver, WebElement element) {
+		long start = SAFE_MOVE_TO_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			if(driver==null || element==null)
-				return false;
+				return SafeResult.INVALID_ARGUMENT;
 			Actions action = new Actions(driver);
 			action.moveToElement(element).build().perform();
-			return true;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_MOVE_TO_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -54,11 +78,34 @@ public final class SafeMoveTo {
 	public static boolean safeMoveToString(WebDriver driver, String source, String sourceType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return false;
+		return safeMoveToStringResult(driver, source, sourceType).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeMoveToString(WebDriver, String, String) but returns a SafeResult that says
+	 * why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If the
+	 * WebElement can't be located then NOT_FOUND is returned. If an exception occurs during the process then the
+	 * SafeResult matching that exception is returned. If the action is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeMoveToStringResult(WebDriver driver, String source, String sourceType) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty())
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_MOVE_TO_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
-			return safeMoveToWebElement(driver, sourceElement);
+			if(sourceElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeMoveToWebElementResult(driver, sourceElement);
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_MOVE_TO_STRING.stop(start, swallowed);
 		}
 	}
 }
@@ -4,13 +4,16 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
+import safe_automation_utils.safe_utils.SafeResult;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 06/01/2019
- * updated: 06/18/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide a safe way to handle right clicking on a WebElement.
  * 
@@ -19,6 +22,9 @@ import safe_automation_utils.safe_utils.HelperUtils;
 
 public final class SafeRightClick {
 
+	private static final SafeMethodProbe SAFE_RIGHT_CLICK_WEB_ELEMENT = SafeMetrics.probe("SafeRightClick.safeRightClickWebElement");
+	private static final SafeMethodProbe SAFE_RIGHT_CLICK_STRING = SafeMetrics.probe("SafeRightClick.safeRightClickString");
+
 	/**
 	 * Attempts to right click the passed in WebElement. If the WebDriver or WebElement objects are
 	 * null then false is returned. If an exception occurs during the process then false is returned.
@@ -29,14 +35,32 @@ public final class SafeRightClick {
 	 * @return -> boolean
 	 */
 	public static boolean safeRightClickWebElement(WebDriver driver, WebElement element) {
+		return safeRightClickWebElementResult(driver, element).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeRightClickWebElement(WebDriver, WebElement) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If an
+	 * exception occurs during the process then the SafeResult matching that exception is returned. If the action
+	 * is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeRightClickWebElementResult(WebDriver driver, WebElement element) {
+		long start = SAFE_RIGHT_CLICK_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			if(driver==null || element==null)
-				return false;
+				return SafeResult.INVALID_ARGUMENT;
 			Actions action = new Actions(driver);
 			action.contextClick(element).build().perform();
-			return true;
+			return SafeResult.SUCCESS;
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_RIGHT_CLICK_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -53,11 +77,34 @@ public final class SafeRightClick {
 	public static boolean safeRightClickString(WebDriver driver, String source, String sourceType) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return false;
+		return safeRightClickStringResult(driver, source, sourceType).isSuccess();
+	}
+	
+	/**
+	 * Performs the same action as safeRightClickString(WebDriver, String, String) but returns a SafeResult that
+	 * says why the action failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If
+	 * the WebElement can't be located then NOT_FOUND is returned. If an exception occurs during the process then
+	 * the SafeResult matching that exception is returned. If the action is successful then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeRightClickStringResult(WebDriver driver, String source, String sourceType) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty())
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_RIGHT_CLICK_STRING.start();
+		Exception swallowed = null;
 		try {
 			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
-			return safeRightClickWebElement(driver, sourceElement);
+			if(sourceElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeRightClickWebElementResult(driver, sourceElement);
 		}catch(Exception ex) {
-			return false;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_RIGHT_CLICK_STRING.stop(start, swallowed);
 		}
 	}
 }
\ No newline at end of file
@@ -4,13 +4,16 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
+import safe_automation_utils.safe_utils.SafeResult;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 06/10/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that would allow a safe way to rotate a WebElement object in different directions.
  * This applies mostly to 3D rendered objects like globes, etc.
@@ -20,6 +23,11 @@ import safe_automation_utils.safe_utils.HelperUtils;
 
 public final class SafeRotate {
 
+	private static final SafeMethodProbe ROTATE_LEFT_OR_RIGHT = SafeMetrics.probe("SafeRotate.rotateLeftOrRight");
+	private static final SafeMethodProbe ROTATE_LEFT_OR_RIGHT_BY_STRING = SafeMetrics.probe("SafeRotate.rotateLeftOrRightByString");
+	private static final SafeMethodProbe ROTATE_UP_OR_DOWN = SafeMetrics.probe("SafeRotate.rotateUpOrDown");
+	private static final SafeMethodProbe ROTATE_UP_OR_DOWN_BY_STRING = SafeMetrics.probe("SafeRotate.rotateUpOrDownByString");
+
 	/**
 	 * Attempts to rotate the passed in WebElement to the left or right depending on if the xOffset
 	 * int value is positive (rotate right) or negative (rotate left). If the WebDriver or WebElement objects
@@ -34,17 +42,7 @@ public final class SafeRotate {
 	public static int rotateLeftOrRight(WebDriver driver, WebElement element, int xOffset) {
 		if(driver==null || element==null)
 			return 0;
-		try {
-			Actions action = new Actions(driver);
-			if(!SafeMoveTo.safeMoveToWebElement(driver, element))
-				return -1;
-			action.clickAndHold(element);
-			action.moveByOffset(xOffset, 0);
-			action.release();
-			return 1;
-		}catch(Exception ex) {
-			return 0;
-		}
+		return toLegacyCode(rotateLeftOrRightResult(driver, element, xOffset));
 	}
 	
 	/**
@@ -64,20 +62,7 @@ public final class SafeRotate {
 	public static int rotateLeftOrRightByString(WebDriver driver, String source, String sourceType, int xOffset) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return 0;
-		try {
-			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
-			if(sourceElement==null)
-				return -2;
-			if(!SafeMoveTo.safeMoveToWebElement(driver, sourceElement))
-				return -1;
-			Actions action = new Actions(driver);
-			action.clickAndHold(sourceElement);
-			action.moveByOffset(xOffset, 0);
-			action.release();
-			return 1;
-		}catch(Exception ex) {
-			return 0;
-		}
+		return toLegacyCode(rotateLeftOrRightByStringResult(driver, source, sourceType, xOffset));
 	}
 	
 	/**
@@ -94,17 +79,7 @@ public final class SafeRotate {
 	public static int rotateUpOrDown(WebDriver driver, WebElement element, int yOffset) {
 		if(driver==null || element==null)
 			return 0;
-		try {
-			Actions action = new Actions(driver);
-			if(!SafeMoveTo.safeMoveToWebElement(driver, element))
-				return -1;
-			action.clickAndHold(element);
-			action.moveByOffset(0, yOffset);
-			action.release();
-			return 1;
-		}catch(Exception ex) {
-			return 0;
-		}
+		return toLegacyCode(rotateUpOrDownResult(driver, element, yOffset));
 	}
 	
 	/**
@@ -124,19 +99,139 @@ public final class SafeRotate {
 	public static int rotateUpOrDownByString(WebDriver driver, String source, String sourceType, int yOffset) {
 		if(driver==null || source.isEmpty() || sourceType.isEmpty())
 			return 0;
+		return toLegacyCode(rotateUpOrDownByStringResult(driver, source, sourceType, yOffset));
+	}
+	
+	/**
+	 * Performs the same action as rotateLeftOrRight(WebDriver, WebElement, int) but returns a SafeResult that says why the rotation
+	 * failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If the move to
+	 * the WebElement fails then the SafeResult of that move is returned. If an exception occurs during the process
+	 * then the SafeResult matching that exception is returned. If the WebElement is rotated then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @param xOffset -> int
+	 * @return -> SafeResult
+	 */
+	public static SafeResult rotateLeftOrRightResult(WebDriver driver, WebElement element, int xOffset) {
+		if(driver==null || element==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = ROTATE_LEFT_OR_RIGHT.start();
+		Exception swallowed = null;
 		try {
-			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
-			if(sourceElement==null)
-				return -2;
-			if(!SafeMoveTo.safeMoveToWebElement(driver, sourceElement))
-				return -1;
-			Actions action = new Actions(driver);
-			action.clickAndHold(sourceElement);
-			action.moveByOffset(0, yOffset);
-			action.release();
-			return 1;
+			return rotateBy(driver, element, xOffset, 0);
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			ROTATE_LEFT_OR_RIGHT.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as rotateLeftOrRightByString(WebDriver, String, String, int) but returns a SafeResult that says why the rotation
+	 * failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If the matching WebElement can't be found then NOT_FOUND is returned. If the move to
+	 * the WebElement fails then the SafeResult of that move is returned. If an exception occurs during the process
+	 * then the SafeResult matching that exception is returned. If the WebElement is rotated then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param xOffset -> int
+	 * @return -> SafeResult
+	 */
+	public static SafeResult rotateLeftOrRightByStringResult(WebDriver driver, String source, String sourceType, int xOffset) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty())
+			return SafeResult.INVALID_ARGUMENT;
+		long start = ROTATE_LEFT_OR_RIGHT_BY_STRING.start();
+		Exception swallowed = null;
+		try {
+			WebElement element = HelperUtils.locateWebElement(driver, source, sourceType);
+			if(element==null)
+				return SafeResult.NOT_FOUND;
+			return rotateBy(driver, element, xOffset, 0);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			ROTATE_LEFT_OR_RIGHT_BY_STRING.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as rotateUpOrDown(WebDriver, WebElement, int) but returns a SafeResult that says why the rotation
+	 * failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If the move to
+	 * the WebElement fails then the SafeResult of that move is returned. If an exception occurs during the process
+	 * then the SafeResult matching that exception is returned. If the WebElement is rotated then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @param yOffset -> int
+	 * @return -> SafeResult
+	 */
+	public static SafeResult rotateUpOrDownResult(WebDriver driver, WebElement element, int yOffset) {
+		if(driver==null || element==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = ROTATE_UP_OR_DOWN.start();
+		Exception swallowed = null;
+		try {
+			return rotateBy(driver, element, 0, yOffset);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			ROTATE_UP_OR_DOWN.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as rotateUpOrDownByString(WebDriver, String, String, int) but returns a SafeResult that says why the rotation
+	 * failed. If a required argument is null or blank then INVALID_ARGUMENT is returned. If the matching WebElement can't be found then NOT_FOUND is returned. If the move to
+	 * the WebElement fails then the SafeResult of that move is returned. If an exception occurs during the process
+	 * then the SafeResult matching that exception is returned. If the WebElement is rotated then SUCCESS is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param yOffset -> int
+	 * @return -> SafeResult
+	 */
+	public static SafeResult rotateUpOrDownByStringResult(WebDriver driver, String source, String sourceType, int yOffset) {
+		if(driver==null || source==null || source.isEmpty() || sourceType==null || sourceType.isEmpty())
+			return SafeResult.INVALID_ARGUMENT;
+		long start = ROTATE_UP_OR_DOWN_BY_STRING.start();
+		Exception swallowed = null;
+		try {
+			WebElement element = HelperUtils.locateWebElement(driver, source, sourceType);
+			if(element==null)
+				return SafeResult.NOT_FOUND;
+			return rotateBy(driver, element, 0, yOffset);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			ROTATE_UP_OR_DOWN_BY_STRING.stop(start, swallowed);
 		}
 	}
+	
+	/**
+	 * Turns a SafeResult back into the codes returned by the rotate methods, 1 for success, -2 when the element could
+	 * not be located, 0 for an invalid argument and -1 for any other failure, which is the move to the element or the
+	 * drag failing.
+	 */
+	private static int toLegacyCode(SafeResult result) {
+		if(result.isSuccess())
+			return 1;
+		if(result==SafeResult.NOT_FOUND)
+			return -2;
+		return result==SafeResult.INVALID_ARGUMENT ? 0 : -1;
+	}
+	
+	/**
+	 * Moves to the WebElement and drags it by the passed in offsets.
+	 */
+	private static SafeResult rotateBy(WebDriver driver, WebElement element, int xOffset, int yOffset) {
+		SafeResult moved = SafeMoveTo.safeMoveToWebElementResult(driver, element);
+		if(!moved.isSuccess())
+			return moved;
+		Actions action = new Actions(driver);
+		action.clickAndHold(element).moveByOffset(xOffset, yOffset).release().perform();
+		return SafeResult.SUCCESS;
+	}
 }
\ No newline at end of file
@@ -8,13 +8,16 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import safe_automation_utils.constants.Attribute_Constants;
 import safe_automation_utils.safe_get_webelement_property.SafeGetAttributes;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
 import safe_automation_utils.safe_utils.HelperUtils;
+import safe_automation_utils.safe_utils.SafeResult;
 
 /**
  * 
  * @author Arthur Reynolds
  * created: 06/04/2019
- * updated: 06/10/2019
+ * updated: 10/19/2026
  * 
  * Contains methods that provide safe ways of interacting with a text WebElement.
  * 
@@ -23,6 +26,13 @@ import safe_automation_utils.safe_utils.HelperUtils;
 
 public final class SafeTextWebElement {
 
+	private static final SafeMethodProbe SAFE_SET_TEXT_TO_TEXT_WEB_ELEMENT = SafeMetrics.probe("SafeTextWebElement.safeSetTextToTextWebElement");
+	private static final SafeMethodProbe SAFE_SET_TEXT_TO_STRING_TEXT_WEB_ELEMENT = SafeMetrics.probe("SafeTextWebElement.safeSetTextToStringTextWebElement");
+	private static final SafeMethodProbe SAFE_GET_TEXT_FROM_TEXT_WEB_ELEMENT = SafeMetrics.probe("SafeTextWebElement.safeGetTextFromTextWebElement");
+	private static final SafeMethodProbe SAFE_GET_TEXT_FROM_STRING_TEXT_WEB_ELEMENT = SafeMetrics.probe("SafeTextWebElement.safeGetTextFromStringTextWebElement");
+	private static final SafeMethodProbe SAFE_GET_VALUE_FROM_TEXT_WEB_ELEMENT = SafeMetrics.probe("SafeTextWebElement.safeGetValueFromTextWebElement");
+	private static final SafeMethodProbe SAFE_GET_VALUE_FROM_STRING_TEXT_WEB_ELEMENT = SafeMetrics.probe("SafeTextWebElement.safeGetValueFromStringTextWebElement");
+
 	/**
 	 * Attempts to set the passed in text String value to the passed in textWebElement WebElement. If the WebDriver object
 	 * or the textWebElement WebElement are null or if the text String object is null or blank then 0 is returned. If
@@ -40,17 +50,42 @@ public final class SafeTextWebElement {
 	public static int safeSetTextToTextWebElement(WebDriver driver, WebElement textWebElement, String text, WebDriverWait wait) {
 		if(driver==null || textWebElement==null || text.isEmpty())
 			return 0;
+		return toLegacyCode(safeSetTextToTextWebElementResult(driver, textWebElement, text, wait));
+	}
+	
+	/**
+	 * Performs the same action as safeSetTextToTextWebElement(WebDriver, WebElement, String, WebDriverWait) but returns a
+	 * SafeResult that says why the text was not set. If the WebDriver object, the textWebElement WebElement or the wait
+	 * WebDriverWait are null or if the text String object is null or blank then INVALID_ARGUMENT is returned. If the text
+	 * does not show up in the textWebElement WebElement before the wait runs out then TIMEOUT is returned. If an exception
+	 * occurs during the process then the SafeResult matching that exception is returned. If the text is set then SUCCESS
+	 * is returned.
+	 * @param driver -> WebDriver
+	 * @param textWebElement -> WebElement
+	 * @param text -> String
+	 * @param wait -> WebDriverWait
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeSetTextToTextWebElementResult(WebDriver driver, WebElement textWebElement, String text, WebDriverWait wait) {
+		if(driver==null || textWebElement==null || text==null || text.isEmpty() || wait==null)
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_SET_TEXT_TO_TEXT_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			textWebElement.clear();
 			textWebElement.sendKeys(text);
 			try {
 				wait.until(ExpectedConditions.textToBePresentInElement(textWebElement, text));
-				return 1;
+				return SafeResult.SUCCESS;
 			}catch(TimeoutException ex) {
-				return -1;
+				swallowed = ex;
+				return SafeResult.TIMEOUT;
 			}
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_SET_TEXT_TO_TEXT_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -73,14 +108,50 @@ public final class SafeTextWebElement {
 			WebDriverWait wait) {
 		if(driver==null || textWebElement.isEmpty() || text.isEmpty())
 			return 0;
+		return toLegacyCode(safeSetTextToStringTextWebElementResult(driver, textWebElement, textWebElementType, text, wait));
+	}
+	
+	/**
+	 * Performs the same action as safeSetTextToStringTextWebElement(WebDriver, String, String, String, WebDriverWait) but
+	 * returns a SafeResult that says why the text was not set. If a required argument is null or blank then INVALID_ARGUMENT
+	 * is returned. If the WebElement matching the textWebElement String value can't be found then NOT_FOUND is returned.
+	 * Otherwise the SafeResult of safeSetTextToTextWebElementResult is returned.
+	 * @param driver -> WebDriver
+	 * @param textWebElement -> String
+	 * @param textWebElementType -> String
+	 * @param text -> String
+	 * @param wait -> WebDriverWait
+	 * @return -> SafeResult
+	 */
+	public static SafeResult safeSetTextToStringTextWebElementResult(WebDriver driver, String textWebElement, String textWebElementType, 
+			String text, WebDriverWait wait) {
+		if(driver==null || textWebElement==null || textWebElement.isEmpty() || text==null || text.isEmpty())
+			return SafeResult.INVALID_ARGUMENT;
+		long start = SAFE_SET_TEXT_TO_STRING_TEXT_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			WebElement textWebElementElement = HelperUtils.locateWebElement(driver, textWebElement, textWebElementType);
-			return safeSetTextToTextWebElement(driver, textWebElementElement, text, wait);
+			if(textWebElementElement==null)
+				return SafeResult.NOT_FOUND;
+			return safeSetTextToTextWebElementResult(driver, textWebElementElement, text, wait);
 		}catch(Exception ex) {
-			return 0;
+			swallowed = ex;
+			return SafeResult.failure(ex);
+		}finally {
+			SAFE_SET_TEXT_TO_STRING_TEXT_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
+	/**
+	 * Turns a SafeResult back into the codes returned by the set methods, 1 for success, -1 when the wait ran out and 0
+	 * for everything else.
+	 */
+	private static int toLegacyCode(SafeResult result) {
+		if(result.isSuccess())
+			return 1;
+		return result==SafeResult.TIMEOUT ? -1 : 0;
+	}
+	
 	/**
 	 * Attempts to get the text from the passed in textWebElement WebElement. If the textWebElement WebElement object is null then
 	 * null is returned. If an exception occurs during the process then null is returned. If the process is successful then
@@ -91,10 +162,15 @@ public final class SafeTextWebElement {
 	public static String safeGetTextFromTextWebElement(WebElement textWebElement) {
 		if(textWebElement==null)
 			return null;
+		long start = SAFE_GET_TEXT_FROM_TEXT_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			return textWebElement.getText().trim();
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_TEXT_FROM_TEXT_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -110,11 +186,16 @@ public final class SafeTextWebElement {
 	public static String safeGetTextFromStringTextWebElement(WebDriver driver, String textWebElement, String textWebElementType) {
 		if(driver==null || textWebElement.isEmpty())
 			return null;
+		long start = SAFE_GET_TEXT_FROM_STRING_TEXT_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			WebElement textWebElementElement = HelperUtils.locateWebElement(driver, textWebElement, textWebElementType);
 			return safeGetTextFromTextWebElement(textWebElementElement);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_TEXT_FROM_STRING_TEXT_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -128,10 +209,15 @@ public final class SafeTextWebElement {
 	public static String safeGetValueFromTextWebElement(WebElement textWebElement) {
 		if(textWebElement==null)
 			return null;
+		long start = SAFE_GET_VALUE_FROM_TEXT_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			return SafeGetAttributes.safeGetAttribute(textWebElement, Attribute_Constants.VALUE_ATTR);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_VALUE_FROM_TEXT_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 	
@@ -147,11 +233,16 @@ public final class SafeTextWebElement {
 	public static String safeGetValueFromStringTextWebElement(WebDriver driver, String textWebElement, String textWebElementType) {
 		if(driver==null || textWebElement.isEmpty())
 			return null;
+		long start = SAFE_GET_VALUE_FROM_STRING_TEXT_WEB_ELEMENT.start();
+		Exception swallowed = null;
 		try {
 			WebElement textWebElementElement = HelperUtils.locateWebElement(driver, textWebElement, textWebElementType);
 			return safeGetValueFromTextWebElement(textWebElementElement);
 		}catch(Exception ex) {
+			swallowed = ex;
 			return null;
+		}finally {
+			SAFE_GET_VALUE_FROM_STRING_TEXT_WEB_ELEMENT.stop(start, swallowed);
 		}
 	}
 }
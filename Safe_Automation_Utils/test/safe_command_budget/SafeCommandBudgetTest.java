@@ -0,0 +1,100 @@
+package safe_automation_utils.safe_command_budget;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.Response;
+
+import safe_automation_utils.safe_command_budget.SafeCommandBudget.Scope;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Sends commands through an executor wrapped by SafeCommandBudget and checks that a scope throws an
+ * AssertionError when it closes over its budget, and that it leaves no scope behind when it does.
+ */
+public class SafeCommandBudgetTest {
+
+	private final CommandExecutor executor = SafeCommandBudget.wrap((CommandExecutor)command -> new Response());
+
+	@After
+	public void noScopeLeft() {
+		assertNull(SafeCommandBudget.current());
+	}
+
+	@Test
+	public void throwsWhenTheTotalBudgetIsExceeded() throws IOException {
+		Scope scope = SafeCommandBudget.begin("login", 2);
+		send("findElement", "findElement", "clickElement");
+		assertOverBudget(scope, "3 commands, budget 2");
+	}
+
+	@Test
+	public void throwsWhenACommandLimitIsExceeded() throws IOException {
+		Scope scope = SafeCommandBudget.begin("search").limit("findElement", 1);
+		send("findElement", "clickElement", "clickElement", "findElement");
+		assertOverBudget(scope, "2 findElement, budget 1");
+	}
+
+	@Test
+	public void passesAtTheLimit() throws IOException {
+		SafeCommandUsage usage;
+		try(Scope scope = SafeCommandBudget.begin("search", 3).limit("findElement", 2)) {
+			send("findElement", "clickElement", "findElement");
+			usage = scope.end();
+		}
+		assertEquals(3, usage.getCommandCount());
+		assertEquals(2, usage.getCommandCount("findElement"));
+	}
+
+	@Test
+	public void countsNestedCommandsAgainstEveryOpenScope() throws IOException {
+		Scope outer = SafeCommandBudget.begin("checkout", 2);
+		try(Scope inner = SafeCommandBudget.begin("addToCart", 2)) {
+			send("findElement", "clickElement");
+		}
+		send("getTitle");
+		assertOverBudget(outer, "3 commands, budget 2");
+		assertEquals(2, outer.getUsage().getOperation("addToCart").getCommandCount());
+	}
+
+	@Test
+	public void closesOpenInnerScopesWithoutCheckingThem() throws IOException {
+		Scope outer = SafeCommandBudget.begin("checkout");
+		SafeCommandBudget.begin("addToCart", 0);
+		send("findElement");
+		try {
+			outer.close();
+		}catch(AssertionError error) {
+			fail("the inner scope was checked: " + error.getMessage());
+		}
+		assertEquals(1, outer.getUsage().getOperation("addToCart").getCommandCount());
+	}
+
+	private void send(String... commandNames) throws IOException {
+		for(String commandName:commandNames) {
+			executor.execute(new Command(null, commandName));
+		}
+	}
+
+	private static void assertOverBudget(Scope scope, String expected) {
+		try {
+			scope.close();
+		}catch(AssertionError error) {
+			assertTrue(error.getMessage(), error.getMessage().startsWith(scope.getName() + " went over its command budget with " + expected));
+			return;
+		}
+		fail(scope.getName() + " closed over its budget without an AssertionError");
+	}
+}
@@ -0,0 +1,84 @@
+package safe_automation_utils.safe_metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Checks the bucket boundaries of LatencyHistogram and the percentiles it reports for values on either side of
+ * them.
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void bucketsMeetWithoutGapsOrOverlaps() {
+		assertEquals(0, LatencyHistogram.indexOf(0));
+		for(int index=0; index<LatencyHistogram.BUCKET_COUNT-1; index++) {
+			long highest = LatencyHistogram.highestValueOf(index);
+			assertEquals("highest value of " + index, index, LatencyHistogram.indexOf(highest));
+			assertEquals("value after bucket " + index, index+1, LatencyHistogram.indexOf(highest+1));
+		}
+		assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.BUCKET_COUNT-1));
+		assertEquals(LatencyHistogram.BUCKET_COUNT-1, LatencyHistogram.indexOf(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void reportsValuesWithinOneSubBucket() {
+		for(long value=1; value<=1L<<LatencyHistogram.MAX_EXPONENT; value = value*3/2+1) {
+			long reported = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+			assertTrue(value + " reported as " + reported, reported>=value && reported-value<=value/LatencyHistogram.SUB_BUCKETS);
+		}
+	}
+
+	@Test
+	public void percentilesSplitAtTheBucketEdge() {
+		//32 and 33 share a bucket, 34 starts the next one
+		LatencyHistogram histogram = new LatencyHistogram();
+		for(int x=0; x<50; x++) {
+			histogram.record(32);
+			histogram.record(35);
+		}
+		assertEquals(33, histogram.getPercentileNanos(0));
+		assertEquals(33, histogram.getPercentileNanos(50));
+		assertEquals(35, histogram.getPercentileNanos(50.5));
+		assertEquals(35, histogram.getPercentileNanos(100));
+		histogram.record(34);
+		assertEquals(33, histogram.getPercentileNanos(49.5));
+		assertEquals(35, histogram.getPercentileNanos(50));
+	}
+
+	@Test
+	public void percentilesNeverPassTheMax() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1000);
+		//1000 lands in the bucket that ends at 1023
+		assertEquals(1000, histogram.getPercentileNanos(100));
+		histogram.record(Long.MAX_VALUE/2);
+		assertEquals(Long.MAX_VALUE/2, histogram.getPercentileNanos(100));
+		//with a higher max the 1000 is reported as the top of its bucket again
+		assertEquals(1023, histogram.getPercentileNanos(50));
+	}
+
+	@Test
+	public void countsSmallAndNegativeValuesExactly() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentileNanos(50));
+		histogram.record(-5);
+		for(int value=1; value<LatencyHistogram.SUB_BUCKETS; value++) {
+			histogram.record(value);
+		}
+		assertEquals(LatencyHistogram.SUB_BUCKETS, histogram.getCount());
+		assertEquals(0, histogram.getPercentileNanos(0));
+		assertEquals(7, histogram.getPercentileNanos(50));
+		assertEquals(LatencyHistogram.SUB_BUCKETS-1, histogram.getPercentileNanos(100));
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getPercentileNanos(100));
+	}
+}
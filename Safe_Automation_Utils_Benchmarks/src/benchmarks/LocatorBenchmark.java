@@ -0,0 +1,122 @@
+package safe_automation_utils.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_get_webelement.SafeGetByCSSSelector;
+import safe_automation_utils.safe_get_webelement.SafeGetByClassName;
+import safe_automation_utils.safe_get_webelement.SafeGetByID;
+import safe_automation_utils.safe_get_webelement.SafeGetByXPath;
+import safe_automation_utils.safe_utils.HelperUtils;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Measures HelperUtils.locateWebElement for every locator type and the hit and miss paths of the SafeGetBy
+ * classes. A miss goes through a NoSuchElementException, so the gap between the hit and miss benchmarks at
+ * latency 0 is the cost of that exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocatorBenchmark {
+
+	@Param({"0", "200"})
+	public long latencyMicros;
+
+	@Param({"100"})
+	public int elementCount;
+
+	private StubWebDriver driver;
+	private WebElement list;
+	private String hitId;
+	private String hitXPath;
+	private String hitClassName;
+	private String hitCssSelector;
+
+	@Setup
+	public void setUp() {
+		driver = StubPages.build(latencyMicros, elementCount, 10);
+		list = SafeGetByClassName.safeGetByClassName(driver, "items");
+		//the last element so a hit has to walk the whole page like a miss does
+		int last = elementCount-1;
+		hitId = "item-" + last;
+		hitXPath = "//li[@id='item-" + last + "']";
+		hitClassName = "item-" + last;
+		hitCssSelector = "li#item-" + last;
+	}
+
+	@Benchmark
+	public WebElement locateById() {
+		return HelperUtils.locateWebElement(driver, hitId, Locator_Type_Constants.ID);
+	}
+
+	@Benchmark
+	public WebElement locateByXPath() {
+		return HelperUtils.locateWebElement(driver, hitXPath, Locator_Type_Constants.XPATH);
+	}
+
+	@Benchmark
+	public WebElement locateByClassName() {
+		return HelperUtils.locateWebElement(driver, hitClassName, Locator_Type_Constants.CLASSNAME);
+	}
+
+	@Benchmark
+	public WebElement locateByCssSelector() {
+		return HelperUtils.locateWebElement(driver, hitCssSelector, Locator_Type_Constants.CSSSELECTOR);
+	}
+
+	@Benchmark
+	public WebElement safeGetByIdHit() {
+		return SafeGetByID.safeGetByID(driver, hitId);
+	}
+
+	@Benchmark
+	public WebElement safeGetByIdMiss() {
+		return SafeGetByID.safeGetByID(driver, "missing");
+	}
+
+	@Benchmark
+	public WebElement safeGetByXPathMiss() {
+		return SafeGetByXPath.safeGetByXPath(driver, "//li[@id='missing']");
+	}
+
+	@Benchmark
+	public WebElement safeGetByClassNameMiss() {
+		return SafeGetByClassName.safeGetByClassName(driver, "missing");
+	}
+
+	@Benchmark
+	public WebElement safeGetByCssSelectorMiss() {
+		return SafeGetByCSSSelector.safeGetByCssSelector(driver, "#missing");
+	}
+
+	@Benchmark
+	public WebElement safeGetChildByIdHit() {
+		return SafeGetByID.safeGetChildByID(list, hitId);
+	}
+
+	@Benchmark
+	public WebElement safeGetChildByIdMiss() {
+		return SafeGetByID.safeGetChildByID(list, "missing");
+	}
+}
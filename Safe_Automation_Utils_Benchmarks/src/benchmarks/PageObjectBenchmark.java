@@ -0,0 +1,81 @@
+package safe_automation_utils.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.Select;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Compares the page object generated from PageObjectLocators with the same page built by PageFactory. Every
+ * benchmark creates the page and reads one element the way a test step does, so the PageFactory side pays for
+ * its reflection and proxies and the generated side only for the safe methods it calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageObjectBenchmark {
+
+	/**
+	 * The page as it is written for PageFactory.
+	 */
+	public static class FactoryPage {
+
+		@FindBy(id = "item-99")
+		public WebElement lastItem;
+
+		@FindBy(id = StubPages.SELECT_ID)
+		public WebElement choices;
+	}
+
+	@Param({"0", "200"})
+	public long latencyMicros;
+
+	private StubWebDriver driver;
+
+	@Setup
+	public void setUp() {
+		driver = StubPages.build(latencyMicros, 100, 10);
+	}
+
+	@Benchmark
+	public String generatedText() {
+		return new StubPage(driver).getLastItemText();
+	}
+
+	@Benchmark
+	public String pageFactoryText() {
+		return PageFactory.initElements(driver, FactoryPage.class).lastItem.getText().trim();
+	}
+
+	@Benchmark
+	public String generatedSelectedText() {
+		return new StubPage(driver).getChoicesSelectedText();
+	}
+
+	@Benchmark
+	public String pageFactorySelectedText() {
+		FactoryPage page = PageFactory.initElements(driver, FactoryPage.class);
+		return new Select(page.choices).getFirstSelectedOption().getText().trim();
+	}
+}
@@ -0,0 +1,26 @@
+package safe_automation_utils.benchmarks;
+
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_page_objects.SafeLocator;
+import safe_automation_utils.safe_page_objects.SafePage;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * The locators of the stub page that PageObjectBenchmark reads through the generated StubPage.
+ */
+@SafePage("StubPage")
+final class PageObjectLocators {
+
+	@SafeLocator(type = Locator_Type_Constants.ID)
+	static final String LAST_ITEM = "item-99";
+
+	@SafeLocator(type = Locator_Type_Constants.ID, kind = SafeLocator.Kind.SELECT)
+	static final String CHOICES = StubPages.SELECT_ID;
+
+	private PageObjectLocators() {
+	}
+}
@@ -0,0 +1,107 @@
+package safe_automation_utils.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import safe_automation_utils.safe_remote.SafeRemoteExecutor;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Compares Selenium's own command executor with the pooled one of SafeRemoteExecutor against StubW3CServer,
+ * with more threads than the 5 connections Selenium keeps open. The number of connections the server accepted
+ * in every iteration is reported as the secondary result connectionsOpened, since on localhost a new connection
+ * is cheap and against a grid it is a full round trip, or several with TLS.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class RemoteExecutorBenchmark {
+
+	@Param({"0", "500"})
+	public long latencyMicros;
+
+	@Param({"selenium", "pooled"})
+	public String executor;
+
+	private StubW3CServer server;
+	private RemoteWebDriver driver;
+	private final AtomicBoolean counted = new AtomicBoolean();
+
+	@Setup
+	public void setUp() throws IOException {
+		server = new StubW3CServer(latencyMicros);
+		ImmutableCapabilities capabilities = new ImmutableCapabilities("browserName", "stub");
+		if(executor.equals("pooled"))
+			driver = new RemoteWebDriver(SafeRemoteExecutor.createExecutor(server.getUrl()), capabilities);
+		else
+			driver = new RemoteWebDriver(server.getUrl(), capabilities);
+	}
+
+	@Setup(Level.Iteration)
+	public void resetConnections() {
+		server.resetConnectionCount();
+		counted.set(false);
+	}
+
+	@Benchmark
+	public String getTitle(Connections connections) {
+		return driver.getTitle();
+	}
+
+	@Benchmark
+	public WebElement findElement(Connections connections) {
+		return driver.findElement(By.id("item-0"));
+	}
+
+	@TearDown
+	public void tearDown() {
+		server.close();
+	}
+
+	/**
+	 * Holds the connections the server accepted during an iteration. JMH sums the counter over every thread, so
+	 * only the first thread to finish the iteration takes the count of the server.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Connections {
+
+		//JMH sets the counter back to 0 before every iteration
+		public long connectionsOpened;
+
+		@TearDown(Level.Iteration)
+		public void count(RemoteExecutorBenchmark benchmark) {
+			if(benchmark.counted.compareAndSet(false, true))
+				connectionsOpened = benchmark.server.getConnectionCount();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package safe_automation_utils.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+
+import safe_automation_utils.safe_get_webelement.SafeGetByID;
+import safe_automation_utils.safe_screenshots.SafeImageEncoderProfile;
+import safe_automation_utils.safe_screenshots.SafeWebElementScreenshot;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Measures the screenshot path of a single WebElement: locating its bounds, decoding the driver's png and cropping
+ * it in memory, and encoding the crop to disk with each encoder profile. The files are written to a temporary
+ * folder that is emptied after every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScreenshotBenchmark {
+
+	@Param({"0"})
+	public long latencyMicros;
+
+	@Param({"png-lossless", "png-fast", "jpeg"})
+	public String profileName;
+
+	private StubWebDriver driver;
+	private WebElement target;
+	private SafeImageEncoderProfile profile;
+	private Path folder;
+	private long fileNumber;
+
+	@Setup
+	public void setUp() throws IOException {
+		driver = StubPages.build(latencyMicros, 10, 10);
+		target = SafeGetByID.safeGetByID(driver, StubPages.TARGET_ID);
+		switch(profileName) {
+			case "png-fast":
+				profile = SafeImageEncoderProfile.PNG_FAST;
+				break;
+			case "jpeg":
+				profile = SafeImageEncoderProfile.jpeg(0.8f);
+				break;
+			default:
+				profile = SafeImageEncoderProfile.PNG_LOSSLESS;
+				break;
+		}
+		folder = Files.createTempDirectory("safe-screenshot-benchmark");
+	}
+
+	@Benchmark
+	public BufferedImage captureWebElement() {
+		return SafeWebElementScreenshot.safeCaptureWebElement(driver, target);
+	}
+
+	@Benchmark
+	public int takeScreenshotOfWebElement() {
+		return SafeWebElementScreenshot.safeTakeScreenshotOfWebElement(driver, target, folder.toString(),
+				"shot" + (fileNumber++) + profile.getFileExtension(), profile);
+	}
+
+	@TearDown(Level.Iteration)
+	public void emptyFolder() throws IOException {
+		try(Stream<Path> files = Files.list(folder)) {
+			for(Path file:(Iterable<Path>)files::iterator) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	@TearDown
+	public void deleteFolder() throws IOException {
+		emptyFolder();
+		Files.delete(folder);
+	}
+}
@@ -0,0 +1,89 @@
+package safe_automation_utils.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+
+import safe_automation_utils.safe_get_webelement.SafeGetByID;
+import safe_automation_utils.safe_select_action.SafeSelectActions;
+import safe_automation_utils.safe_utils.HelperUtils;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Measures the SafeSelectActions lookups against a select whose last option is selected, which is the worst case
+ * for the methods that walk the options one by one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectActionsBenchmark {
+
+	@Param({"0", "200"})
+	public long latencyMicros;
+
+	@Param({"10", "100"})
+	public int optionCount;
+
+	private WebElement selectElement;
+	private Select select;
+	private String lastText;
+	private String lastValue;
+
+	@Setup
+	public void setUp() {
+		StubWebDriver driver = StubPages.build(latencyMicros, 10, optionCount);
+		selectElement = SafeGetByID.safeGetByID(driver, StubPages.SELECT_ID);
+		select = HelperUtils.convertWebElementToSelectObject(selectElement);
+		lastText = "Option " + (optionCount-1);
+		lastValue = "v-" + (optionCount-1);
+	}
+
+	@Benchmark
+	public Select convertToSelect() {
+		return HelperUtils.convertWebElementToSelectObject(selectElement);
+	}
+
+	@Benchmark
+	public String getFirstSelectedOptionText() {
+		return SafeSelectActions.safeGetFirstSelectedOptionText(select);
+	}
+
+	@Benchmark
+	public int getIndexOfSelectedOption() {
+		return SafeSelectActions.safeGetIndexOfSelectedOption(select);
+	}
+
+	@Benchmark
+	public int setOptionByVisibleText() {
+		return SafeSelectActions.safeSetSelectOptionByVisibleText(select, lastText);
+	}
+
+	@Benchmark
+	public int setOptionByValue() {
+		return SafeSelectActions.safeSetSelectOptionByValue(select, lastValue);
+	}
+
+	@Benchmark
+	public int setOptionByIndex() {
+		return SafeSelectActions.safeSetSelectOptionByIndex(select, optionCount-1);
+	}
+}
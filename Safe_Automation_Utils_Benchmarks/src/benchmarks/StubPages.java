@@ -0,0 +1,50 @@
+package safe_automation_utils.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Builds the page every benchmark runs against, so they all measure the same amount of work per command.
+ *
+ * All methods in this class are static.
+ */
+public final class StubPages {
+
+	public static final int VIEWPORT_WIDTH = 1280;
+	public static final int VIEWPORT_HEIGHT = 800;
+	public static final String SELECT_ID = "choices";
+	public static final String TARGET_ID = "target";
+
+	private StubPages() {
+	}
+
+	/**
+	 * Returns a driver whose page holds elementCount list items with the ids item-0 to item-(elementCount-1),
+	 * a select with optionCount options where the last one is selected and a 300x200 element with the id target
+	 * to take screenshots of.
+	 * @param latencyMicros -> long
+	 * @param elementCount -> int
+	 * @param optionCount -> int
+	 * @return -> StubWebDriver
+	 */
+	public static StubWebDriver build(long latencyMicros, int elementCount, int optionCount) {
+		StubWebDriver driver = new StubWebDriver(TimeUnit.MICROSECONDS.toNanos(latencyMicros), VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+		StubWebElement body = driver.getRoot().add("body").setRect(0, 0, VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+		StubWebElement list = body.add("ul").withClass("items").setRect(0, 0, 200, VIEWPORT_HEIGHT);
+		for(int x=0; x<elementCount; x++) {
+			list.add("li").withId("item-" + x).withClass("item item-" + x).withText("Item " + x)
+					.setRect(0, (x*20)%VIEWPORT_HEIGHT, 200, 20);
+		}
+		StubWebElement select = body.add("select").withId(SELECT_ID).setRect(400, 20, 200, 24);
+		for(int x=0; x<optionCount; x++) {
+			select.add("option").withAttribute("value", "v-" + x).withText("Option " + x).withSelected(x==optionCount-1);
+		}
+		body.add("div").withId(TARGET_ID).withClass("panel").setRect(400, 100, 300, 200);
+		driver.renderScreenshot();
+		return driver;
+	}
+}
@@ -0,0 +1,130 @@
+package safe_automation_utils.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A W3C WebDriver endpoint on localhost that answers every command without a browser, so command executors can
+ * be compared by the cost of the HTTP traffic alone. It starts a session, returns the same element for every
+ * find and the same title for every page, and answers anything else with a null value. It keeps count of the
+ * connections it accepted, which is the number of connections an executor opened.
+ *
+ * Run the JVM with -Dsun.net.httpserver.nodelay=true, otherwise the server sends headers and body in separate
+ * packets and every response waits for a delayed ACK.
+ */
+public final class StubW3CServer implements AutoCloseable {
+
+	public static final String SESSION_ID = "stub-session";
+
+	private static final byte[] SESSION = json("{\"value\":{\"sessionId\":\"" + SESSION_ID + "\",\"capabilities\":{\"browserName\":\"stub\"}}}");
+	private static final byte[] ELEMENT = json("{\"value\":{\"element-6066-11e4-a52e-4f735466cecf\":\"stub-element\"}}");
+	private static final byte[] TITLE = json("{\"value\":\"Stub\"}");
+	private static final byte[] NULL = json("{\"value\":null}");
+
+	private final HttpServer server;
+	private final ExecutorService workers;
+	private final long latencyNanos;
+	private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger accepted = new AtomicInteger();
+
+	/**
+	 * Starts a server on a free port that waits the passed in time before answering every command.
+	 * @param latencyMicros -> long
+	 * @throws IOException
+	 */
+	public StubW3CServer(long latencyMicros) throws IOException {
+		this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+		this.workers = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "stub-w3c-server");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(workers);
+		server.createContext("/", this::answer);
+		server.start();
+	}
+
+	/**
+	 * Returns the address to pass to a RemoteWebDriver.
+	 * @return -> URL
+	 */
+	public URL getUrl() {
+		try {
+			return new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/wd/hub");
+		}catch(MalformedURLException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Returns the number of connections accepted since the last reset.
+	 * @return -> int
+	 */
+	public int getConnectionCount() {
+		return accepted.get();
+	}
+
+	public void resetConnectionCount() {
+		accepted.set(0);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		workers.shutdownNow();
+	}
+
+	private void answer(HttpExchange exchange) throws IOException {
+		//a connection is new the first time its client address shows up, a reused one is not counted again
+		if(connections.add(exchange.getRemoteAddress()))
+			accepted.incrementAndGet();
+		try(InputStream request = exchange.getRequestBody()) {
+			byte[] buffer = new byte[4096];
+			while(request.read(buffer)>=0) {
+				//the content of a command does not change the answer
+			}
+		}
+		if(latencyNanos>0)
+			LockSupport.parkNanos(latencyNanos);
+		String path = exchange.getRequestURI().getPath();
+		byte[] body;
+		if(path.endsWith("/session"))
+			body = SESSION;
+		else if(path.endsWith("/element"))
+			body = ELEMENT;
+		else if(path.endsWith("/title"))
+			body = TITLE;
+		else
+			body = NULL;
+		exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(200, body.length);
+		try(OutputStream response = exchange.getResponseBody()) {
+			response.write(body);
+		}
+	}
+
+	private static byte[] json(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
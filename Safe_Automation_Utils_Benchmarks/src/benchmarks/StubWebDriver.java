@@ -0,0 +1,227 @@
+package safe_automation_utils.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * An in memory WebDriver that answers every command from a small element tree instead of a browser. Every call
+ * that would be a round trip to a real driver counts as one command and waits for the configured latency first,
+ * so the benchmarks can show both the cost of the library itself (latency 0) and how that cost scales with the
+ * number of commands a method sends to a remote browser.
+ *
+ * Only the parts of the WebDriver API the library uses are answered. Locators are matched with a small subset
+ * of css selectors and xpath, see StubWebElement.
+ */
+public final class StubWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+
+	/**
+	 * Below this many nanoseconds the latency is spun instead of parked, since parking can't sleep that briefly.
+	 */
+	private static final long SPIN_LIMIT_NANOS = 50_000L;
+
+	private final long latencyNanos;
+	private final StubWebElement root;
+	private final AtomicLong commandCount = new AtomicLong();
+	private final int viewportHeight;
+	private byte[] screenshot;
+
+	/**
+	 * Creates a driver with an empty page of the passed in viewport size whose commands each take latencyNanos.
+	 * @param latencyNanos -> long
+	 * @param viewportWidth -> int
+	 * @param viewportHeight -> int
+	 */
+	public StubWebDriver(long latencyNanos, int viewportWidth, int viewportHeight) {
+		this.latencyNanos = latencyNanos;
+		this.viewportHeight = viewportHeight;
+		this.root = new StubWebElement(this, null, "html");
+		this.root.setRect(0, 0, viewportWidth, viewportHeight);
+	}
+
+	/**
+	 * Returns the html element every other element is added under.
+	 * @return -> StubWebElement
+	 */
+	public StubWebElement getRoot() {
+		return root;
+	}
+
+	/**
+	 * Draws every element of the page as a filled rectangle with a different color and keeps the result as the
+	 * png returned by getScreenshotAs. Call this after the page is built.
+	 */
+	public void renderScreenshot() {
+		BufferedImage image = new BufferedImage(root.bounds().width, root.bounds().height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.WHITE);
+		graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+		List<StubWebElement> elements = new ArrayList<>();
+		root.collectDescendants(elements);
+		for(int x=0; x<elements.size(); x++) {
+			Rectangle bounds = elements.get(x).bounds();
+			graphics.setColor(Color.getHSBColor((x*0.13f)%1f, 0.6f, 0.9f));
+			graphics.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+		}
+		graphics.dispose();
+		try {
+			ByteArrayOutputStream png = new ByteArrayOutputStream();
+			ImageIO.write(image, "png", png);
+			screenshot = png.toByteArray();
+		}catch(IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Returns the number of commands answered so far.
+	 * @return -> long
+	 */
+	public long getCommandCount() {
+		return commandCount.get();
+	}
+
+	/**
+	 * Counts a single command and waits for the configured latency.
+	 */
+	void command() {
+		commandCount.incrementAndGet();
+		if(latencyNanos<=0)
+			return;
+		long end = System.nanoTime()+latencyNanos;
+		if(latencyNanos>SPIN_LIMIT_NANOS) {
+			LockSupport.parkNanos(latencyNanos);
+			return;
+		}
+		while(System.nanoTime()-end<0) {
+			//spin, Thread.onSpinWait is not available on java 8
+		}
+	}
+
+	@Override
+	public WebElement findElement(By by) {
+		command();
+		WebElement element = root.find(by);
+		if(element==null)
+			throw new NoSuchElementException("Unable to locate element: " + by);
+		return element;
+	}
+
+	@Override
+	public List<WebElement> findElements(By by) {
+		command();
+		return root.findAll(by);
+	}
+
+	@Override
+	public Object executeScript(String script, Object... args) {
+		command();
+		//the only script the library sends with an element is the one reading its bounding rectangle
+		if(args.length==1 && args[0] instanceof StubWebElement && script.contains("getBoundingClientRect")) {
+			Rectangle bounds = ((StubWebElement)args[0]).bounds();
+			return Arrays.<Object>asList((long)bounds.x, (long)bounds.y, (long)bounds.width, (long)bounds.height, 1L, 0L, 0L,
+					(long)viewportHeight);
+		}
+		return null;
+	}
+
+	@Override
+	public Object executeAsyncScript(String script, Object... args) {
+		command();
+		return null;
+	}
+
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target) {
+		command();
+		if(screenshot==null)
+			throw new IllegalStateException("renderScreenshot has not been called");
+		return target.convertFromPngBytes(screenshot.clone());
+	}
+
+	@Override
+	public void get(String url) {
+		command();
+	}
+
+	@Override
+	public String getCurrentUrl() {
+		command();
+		return "about:blank";
+	}
+
+	@Override
+	public String getTitle() {
+		command();
+		return "";
+	}
+
+	@Override
+	public String getPageSource() {
+		command();
+		return "";
+	}
+
+	@Override
+	public void close() {
+		command();
+	}
+
+	@Override
+	public void quit() {
+		command();
+	}
+
+	@Override
+	public Set<String> getWindowHandles() {
+		command();
+		return Collections.singleton("stub");
+	}
+
+	@Override
+	public String getWindowHandle() {
+		command();
+		return "stub";
+	}
+
+	@Override
+	public TargetLocator switchTo() {
+		throw new UnsupportedOperationException("switchTo");
+	}
+
+	@Override
+	public Navigation navigate() {
+		throw new UnsupportedOperationException("navigate");
+	}
+
+	@Override
+	public Options manage() {
+		throw new UnsupportedOperationException("manage");
+	}
+}
@@ -0,0 +1,371 @@
+package safe_automation_utils.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A single element of the page answered by StubWebDriver. Every WebElement method counts as one command on the
+ * driver it belongs to. Clicking an option selects it, or toggles it when its select allows multiple options,
+ * which is all Select needs.
+ */
+public final class StubWebElement implements WebElement {
+
+	/**
+	 * The xpath forms Select and the benchmarks send: //tag, //tag[@attribute = 'value'] and
+	 * .//tag[normalize-space(.) = 'value'], with * allowed for the tag and either kind of quote.
+	 */
+	private static final Pattern XPATH = Pattern.compile("\\.?//(\\*|[\\w-]+)(?:\\[(?:@([\\w-]+)|(normalize-space\\(\\.\\)))\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')\\])?");
+
+	/**
+	 * The css forms the benchmarks send: an optional tag followed by any number of #id and .class parts.
+	 */
+	private static final Pattern CSS_PART = Pattern.compile("([#.]?)([\\w-]+)");
+
+	private final StubWebDriver driver;
+	private final StubWebElement parent;
+	private final String tagName;
+	private final Map<String, String> attributes = new HashMap<>();
+	private final List<StubWebElement> children = new ArrayList<>();
+	private final Set<String> classNames = new HashSet<>();
+	private String text = "";
+	private boolean selected;
+	private int x;
+	private int y;
+	private int width;
+	private int height;
+
+	StubWebElement(StubWebDriver driver, StubWebElement parent, String tagName) {
+		this.driver = driver;
+		this.parent = parent;
+		this.tagName = tagName;
+	}
+
+	/**
+	 * Adds a new element with the passed in tag name as the last child of this element and returns it.
+	 * @param childTagName -> String
+	 * @return -> StubWebElement
+	 */
+	public StubWebElement add(String childTagName) {
+		StubWebElement child = new StubWebElement(driver, this, childTagName);
+		children.add(child);
+		return child;
+	}
+
+	public StubWebElement withAttribute(String name, String value) {
+		attributes.put(name, value);
+		return this;
+	}
+
+	public StubWebElement withId(String id) {
+		return withAttribute("id", id);
+	}
+
+	public StubWebElement withClass(String className) {
+		classNames.clear();
+		classNames.addAll(Arrays.asList(className.trim().split("\\s+")));
+		return withAttribute("class", className);
+	}
+
+	public StubWebElement withText(String elementText) {
+		this.text = elementText;
+		return this;
+	}
+
+	public StubWebElement withSelected(boolean isSelected) {
+		this.selected = isSelected;
+		return this;
+	}
+
+	public StubWebElement setRect(int left, int top, int elementWidth, int elementHeight) {
+		this.x = left;
+		this.y = top;
+		this.width = elementWidth;
+		this.height = elementHeight;
+		return this;
+	}
+
+	/**
+	 * Returns where the element is drawn without counting a command.
+	 */
+	java.awt.Rectangle bounds() {
+		return new java.awt.Rectangle(x, y, width, height);
+	}
+
+	/**
+	 * Returns the first descendant that matches the passed in locator or null.
+	 */
+	StubWebElement find(By by) {
+		return find(new Locator(by));
+	}
+
+	private StubWebElement find(Locator locator) {
+		for(StubWebElement child:children) {
+			if(locator.matches(child))
+				return child;
+			StubWebElement found = child.find(locator);
+			if(found!=null)
+				return found;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns every descendant that matches the passed in locator in document order.
+	 */
+	List<WebElement> findAll(By by) {
+		Locator locator = new Locator(by);
+		List<StubWebElement> all = new ArrayList<>();
+		collectDescendants(all);
+		List<WebElement> found = new ArrayList<>();
+		for(StubWebElement element:all) {
+			if(locator.matches(element))
+				found.add(element);
+		}
+		return found;
+	}
+
+	void collectDescendants(List<StubWebElement> into) {
+		for(StubWebElement child:children) {
+			into.add(child);
+			child.collectDescendants(into);
+		}
+	}
+
+	private boolean hasClass(String className) {
+		return classNames.contains(className);
+	}
+
+	@Override
+	public void click() {
+		driver.command();
+		if(!"option".equals(tagName) || parent==null)
+			return;
+		if(parent.attributes.containsKey("multiple")) {
+			selected = !selected;
+			return;
+		}
+		for(StubWebElement option:parent.children) {
+			option.selected = false;
+		}
+		selected = true;
+	}
+
+	@Override
+	public void submit() {
+		driver.command();
+	}
+
+	@Override
+	public void sendKeys(CharSequence... keysToSend) {
+		driver.command();
+		StringBuilder typed = new StringBuilder(attributes.getOrDefault("value", ""));
+		for(CharSequence keys:keysToSend) {
+			typed.append(keys);
+		}
+		attributes.put("value", typed.toString());
+	}
+
+	@Override
+	public void clear() {
+		driver.command();
+		attributes.put("value", "");
+	}
+
+	@Override
+	public String getTagName() {
+		driver.command();
+		return tagName;
+	}
+
+	@Override
+	public String getAttribute(String name) {
+		driver.command();
+		if("index".equals(name) && parent!=null)
+			return String.valueOf(parent.children.indexOf(this));
+		if("selected".equals(name))
+			return selected ? "true" : null;
+		if("multiple".equals(name))
+			return attributes.containsKey("multiple") ? "true" : null;
+		return attributes.get(name);
+	}
+
+	@Override
+	public boolean isSelected() {
+		driver.command();
+		return selected;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		driver.command();
+		return !attributes.containsKey("disabled");
+	}
+
+	@Override
+	public String getText() {
+		driver.command();
+		return text;
+	}
+
+	@Override
+	public List<WebElement> findElements(By by) {
+		driver.command();
+		return findAll(by);
+	}
+
+	@Override
+	public WebElement findElement(By by) {
+		driver.command();
+		WebElement element = find(by);
+		if(element==null)
+			throw new NoSuchElementException("Unable to locate element: " + by);
+		return element;
+	}
+
+	@Override
+	public boolean isDisplayed() {
+		driver.command();
+		return width>0 && height>0;
+	}
+
+	@Override
+	public Point getLocation() {
+		driver.command();
+		return new Point(x, y);
+	}
+
+	@Override
+	public Dimension getSize() {
+		driver.command();
+		return new Dimension(width, height);
+	}
+
+	@Override
+	public Rectangle getRect() {
+		driver.command();
+		return new Rectangle(x, y, height, width);
+	}
+
+	@Override
+	public String getCssValue(String propertyName) {
+		driver.command();
+		return "";
+	}
+
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target) {
+		throw new UnsupportedOperationException("element screenshots");
+	}
+
+	/**
+	 * A locator parsed once per command, so matching it against every element of the page costs about as much as
+	 * a browser would spend and does not drown out the library in the benchmarks. The locator type is read from
+	 * By.toString, which is stable across Selenium 3 and is the only public way to get at it.
+	 */
+	private static final class Locator {
+		private final String type;
+		private final String value;
+		private final String tag;
+		private final String id;
+		private final List<String> classes = new ArrayList<>();
+		private final String attribute;
+		private final boolean byText;
+		private final String expected;
+		private final boolean valid;
+
+		private Locator(By by) {
+			String locator = by.toString();
+			int split = locator.indexOf(": ");
+			type = locator.substring(0, split);
+			value = locator.substring(split+2);
+			String parsedTag = null;
+			String parsedId = null;
+			String parsedAttribute = null;
+			boolean parsedByText = false;
+			String parsedExpected = null;
+			boolean parsed = true;
+			if(type.equals("By.cssSelector")) {
+				Matcher part = CSS_PART.matcher(value);
+				int end = 0;
+				while(part.find()) {
+					if(part.start()!=end)
+						break;
+					end = part.end();
+					if(part.group(1).equals("#"))
+						parsedId = part.group(2);
+					else if(part.group(1).equals("."))
+						classes.add(part.group(2));
+					else
+						parsedTag = part.group(2);
+				}
+				parsed = end>0 && end==value.length();
+			}else if(type.equals("By.xpath")) {
+				Matcher matcher = XPATH.matcher(value.trim());
+				parsed = matcher.matches();
+				if(parsed) {
+					parsedTag = matcher.group(1).equals("*") ? null : matcher.group(1);
+					parsedAttribute = matcher.group(2);
+					parsedByText = matcher.group(3)!=null;
+					parsedExpected = matcher.group(4)!=null ? matcher.group(4) : matcher.group(5);
+				}
+			}
+			tag = parsedTag;
+			id = parsedId;
+			attribute = parsedAttribute;
+			byText = parsedByText;
+			expected = parsedExpected;
+			valid = parsed;
+		}
+
+		private boolean matches(StubWebElement element) {
+			switch(type) {
+				case "By.id":
+					return value.equals(element.attributes.get("id"));
+				case "By.name":
+					return value.equals(element.attributes.get("name"));
+				case "By.tagName":
+					return value.equalsIgnoreCase(element.tagName);
+				case "By.className":
+					return element.hasClass(value);
+				case "By.cssSelector":
+					if(!valid || (tag!=null && !tag.equalsIgnoreCase(element.tagName)) || (id!=null && !id.equals(element.attributes.get("id"))))
+						return false;
+					for(String className:classes) {
+						if(!element.hasClass(className))
+							return false;
+					}
+					return true;
+				case "By.xpath":
+					if(!valid || (tag!=null && !tag.equalsIgnoreCase(element.tagName)))
+						return false;
+					if(attribute!=null)
+						return expected.equals(element.attributes.get(attribute));
+					if(byText)
+						return expected.equals(element.text.trim().replaceAll("\\s+", " "));
+					return true;
+				default:
+					return false;
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package safe_automation_utils.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import safe_automation_utils.safe_remote.SafeRemoteExecutor;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Runs a RemoteWebDriver through SafeRemoteExecutor against StubW3CServer and checks that its commands go over
+ * connections that are already open instead of new ones.
+ */
+public class SafeRemoteExecutorTest {
+
+	private static final ImmutableCapabilities CAPABILITIES = new ImmutableCapabilities("browserName", "stub");
+
+	@Test
+	public void sendsEveryCommandOfADriverOverOneConnection() throws Exception {
+		try(StubW3CServer server = new StubW3CServer(0)) {
+			RemoteWebDriver driver = new RemoteWebDriver(SafeRemoteExecutor.createExecutor(server.getUrl()), CAPABILITIES);
+			for(int x=0; x<20; x++) {
+				assertEquals("Stub", driver.getTitle());
+			}
+			assertEquals(1, server.getConnectionCount());
+		}
+	}
+
+	@Test
+	public void reusesConnectionsOfConcurrentCommands() throws Exception {
+		int threads = 8;
+		//the latency keeps every command of a round in flight at the same time, so each one needs its own connection
+		try(StubW3CServer server = new StubW3CServer(20000)) {
+			RemoteWebDriver driver = new RemoteWebDriver(SafeRemoteExecutor.createExecutor(server.getUrl()), CAPABILITIES);
+			ExecutorService pool = Executors.newFixedThreadPool(threads);
+			try {
+				round(pool, driver, threads);
+				server.resetConnectionCount();
+				round(pool, driver, threads);
+				//selenium's own executor keeps 5 connections and would open at least 3 new ones here
+				assertEquals(0, server.getConnectionCount());
+			}finally {
+				pool.shutdownNow();
+			}
+		}
+	}
+
+	private static void round(ExecutorService pool, RemoteWebDriver driver, int threads) throws Exception {
+		CyclicBarrier start = new CyclicBarrier(threads);
+		List<Future<String>> titles = new ArrayList<>();
+		for(int x=0; x<threads; x++) {
+			titles.add(pool.submit(() -> {
+				start.await();
+				return driver.getTitle();
+			}));
+		}
+		for(Future<String> title:titles) {
+			assertEquals("Stub", title.get());
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package safe_automation_utils.safe_data_driven;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Reads a UTF-8 CSV file as described by RFC 4180. Fields may be quoted, a quote inside a quoted field is written
+ * twice and a quoted field may span lines. Blank lines are skipped. The file is read through a fixed buffer and
+ * only the row being parsed is held, so any number of rows is read in the same amount of memory.
+ */
+final class CsvRowReader implements RowReader {
+
+	private static final int BUFFER_SIZE = 64*1024;
+
+	private final Reader reader;
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private final StringBuilder field = new StringBuilder();
+	private int position;
+	private int limit;
+
+	CsvRowReader(Path input) throws IOException {
+		this.reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public long read(RowHandler handler) throws IOException {
+		List<String> cells = new ArrayList<>();
+		if(!nextRecord(cells))
+			return 0;
+		//a byte order mark is left in front of the first column name by the decoder
+		if(!cells.isEmpty() && cells.get(0).startsWith("\uFEFF"))
+			cells.set(0, cells.get(0).substring(1));
+		SafeDataRow row = new SafeDataRow(cells.toArray(new String[0]));
+		long rows = 0;
+		while(nextRecord(cells)) {
+			row.reset(++rows);
+			for(int x=0; x<cells.size(); x++)
+				row.set(x, cells.get(x));
+			handler.row(row);
+		}
+		return rows;
+	}
+
+	/**
+	 * Fills the list with the fields of the next record that is not blank, returns false at the end of the file.
+	 */
+	private boolean nextRecord(List<String> cells) throws IOException {
+		while(true) {
+			cells.clear();
+			field.setLength(0);
+			boolean quoted = false;
+			boolean started = false;
+			int next;
+			while((next = nextChar())>=0) {
+				char letter = (char) next;
+				started = true;
+				if(quoted) {
+					if(letter=='"') {
+						if(peekChar()=='"') {
+							nextChar();
+							field.append('"');
+						}else {
+							quoted = false;
+						}
+					}else {
+						field.append(letter);
+					}
+				}else if(letter=='"') {
+					quoted = true;
+				}else if(letter==',') {
+					cells.add(field.toString());
+					field.setLength(0);
+				}else if(letter=='\n' || letter=='\r') {
+					if(letter=='\r' && peekChar()=='\n')
+						nextChar();
+					break;
+				}else {
+					field.append(letter);
+				}
+			}
+			if(!started)
+				return false;
+			cells.add(field.toString());
+			if(cells.size()>1 || !cells.get(0).isEmpty())
+				return true;
+		}
+	}
+
+	private int nextChar() throws IOException {
+		if(position==limit && !fill())
+			return -1;
+		return buffer[position++];
+	}
+
+	private int peekChar() throws IOException {
+		if(position==limit && !fill())
+			return -1;
+		return buffer[position];
+	}
+
+	private boolean fill() throws IOException {
+		int read = reader.read(buffer, 0, buffer.length);
+		if(read<=0)
+			return false;
+		position = 0;
+		limit = read;
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,40 @@
+package safe_automation_utils.safe_data_driven;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Reads a data file one row at a time and hands every row after the header to a RowHandler, without keeping the
+ * rows that were already handled.
+ */
+interface RowReader extends Closeable {
+
+	/**
+	 * Receives the rows of a file in order. The same SafeDataRow is passed for every row.
+	 */
+	interface RowHandler {
+		void row(SafeDataRow row) throws IOException;
+	}
+
+	/**
+	 * Reads the whole file, returns the number of rows after the header that were handled.
+	 */
+	long read(RowHandler handler) throws IOException;
+
+	/**
+	 * Returns the reader for the file, an xlsx file is read with POI and anything else as CSV.
+	 */
+	static RowReader open(Path input) throws IOException {
+		String name = input.getFileName().toString().toLowerCase(Locale.ROOT);
+		if(name.endsWith(".xlsx") || name.endsWith(".xlsm"))
+			return new XlsxRowReader(input);
+		return new CsvRowReader(input);
+	}
+}
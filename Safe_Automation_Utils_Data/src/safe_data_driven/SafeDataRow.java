@@ -0,0 +1,94 @@
+package safe_automation_utils.safe_data_driven;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * One row of a data file, read by column name from the header row or by position. The runner fills the same
+ * instance with every row of the file, so a step must copy the values it wants to keep after it returns.
+ */
+public final class SafeDataRow {
+
+	private final String[] columns;
+	private final Map<String, Integer> indexes = new HashMap<>();
+	private String[] cells;
+	private long rowNumber;
+
+	SafeDataRow(String[] columns) {
+		this.columns = columns;
+		for(int x=0; x<columns.length; x++) {
+			//the first of two columns with the same name wins, like a lookup in the sheet would
+			indexes.putIfAbsent(columns[x], x);
+		}
+		this.cells = new String[columns.length];
+	}
+
+	/**
+	 * Returns the number of the row among the rows after the header, starting at 1.
+	 * @return -> long
+	 */
+	public long getRowNumber() {
+		return rowNumber;
+	}
+
+	/**
+	 * Returns the number of columns in the header row.
+	 * @return -> int
+	 */
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Returns the name of the column at the passed in position of the header row.
+	 * @param index -> int
+	 * @return -> String
+	 */
+	public String getColumnName(int index) {
+		return columns[index];
+	}
+
+	/**
+	 * Returns the value of the passed in column of this row. If there is no column with that name in the header
+	 * then null is returned. If the cell is missing or empty then an empty String is returned.
+	 * @param column -> String
+	 * @return -> String
+	 */
+	public String get(String column) {
+		Integer index = indexes.get(column);
+		return index==null ? null : get(index);
+	}
+
+	/**
+	 * Returns the value at the passed in position of this row. If the position is outside of the row then null is
+	 * returned. If the cell is missing or empty then an empty String is returned.
+	 * @param index -> int
+	 * @return -> String
+	 */
+	public String get(int index) {
+		if(index<0 || index>=cells.length)
+			return null;
+		String cell = cells[index];
+		return cell==null ? "" : cell;
+	}
+
+	/**
+	 * Clears the row before the cells of the next one are set.
+	 */
+	void reset(long number) {
+		this.rowNumber = number;
+		Arrays.fill(cells, null);
+	}
+
+	void set(int index, String value) {
+		if(index>=cells.length)
+			cells = Arrays.copyOf(cells, index+1);
+		cells[index] = value;
+	}
+}
@@ -0,0 +1,130 @@
+package safe_automation_utils.safe_data_driven;
+
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.WebDriver;
+
+import safe_automation_utils.safe_utils.SafeResult;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Runs a list of SafeDataSteps for every row of a CSV or xlsx file and writes the outcome of every row to a CSV
+ * results file as soon as the row is done. The input is streamed, the first row names the columns and only the
+ * current row is held, so a file of a million rows runs in the same memory as a file of ten.
+ *
+ *   SafeDataRunner.safeRun(driver, Paths.get("users.xlsx"), Paths.get("users-results.csv"), Arrays.asList(
+ *           SafeDataSteps.setText("user", "username", Locator_Type_Constants.ID, wait),
+ *           SafeDataSteps.selectByVisibleText("country", "country", Locator_Type_Constants.ID),
+ *           SafeDataSteps.click("form button[type=submit]", Locator_Type_Constants.CSSSELECTOR)));
+ *
+ * The steps of a row run in order and stop at the first one that does not succeed. The results file has the
+ * columns row, outcome, step and reason, where step is the position of the failed step starting at 1 and is
+ * empty for a row that succeeded. Results are written as CSV for either input, an xlsx file can not be added to
+ * without writing the whole file again.
+ *
+ * All methods in this class are static.
+ */
+public final class SafeDataRunner {
+
+	private static final String RESULTS_HEADER = "row,outcome,step,reason";
+
+	private SafeDataRunner() {
+	}
+
+	/**
+	 * Attempts to run the passed in steps for every row of the input file and write the outcome of every row to the
+	 * results file, which is replaced if it exists. Files ending in .xlsx or .xlsm are read as Excel workbooks, using
+	 * their first sheet, and any other file as UTF-8 CSV. If any argument is null or there are no steps then -1 is
+	 * returned. If the input can not be read or the results can not be written then -1 is returned and the results
+	 * of the rows done until then are kept. If the process is successful then the number of rows run is returned,
+	 * whether their steps succeeded or not.
+	 * @param driver -> WebDriver
+	 * @param input -> Path
+	 * @param results -> Path
+	 * @param steps -> List<SafeDataStep>
+	 * @return -> long
+	 */
+	public static long safeRun(WebDriver driver, Path input, Path results, List<SafeDataStep> steps) {
+		if(driver==null || input==null || results==null || steps==null || steps.isEmpty())
+			return -1;
+		List<SafeDataStep> rowSteps = new ArrayList<>(steps);
+		if(rowSteps.contains(null))
+			return -1;
+		try(RowReader reader = RowReader.open(input);
+				Writer writer = Files.newBufferedWriter(results, StandardCharsets.UTF_8)) {
+			writer.write(RESULTS_HEADER);
+			writer.write('\n');
+			writer.flush();
+			StringBuilder line = new StringBuilder();
+			return reader.read(row -> {
+				line.setLength(0);
+				line.append(row.getRowNumber()).append(',');
+				appendOutcome(line, driver, row, rowSteps);
+				line.append('\n');
+				writer.append(line);
+				//a run of a large file takes hours, so a crash keeps the results up to the last row
+				writer.flush();
+			});
+		}catch(Exception ex) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Runs the steps for the row until one does not succeed and appends the outcome, step and reason columns.
+	 */
+	private static void appendOutcome(StringBuilder line, WebDriver driver, SafeDataRow row, List<SafeDataStep> steps) {
+		for(int x=0; x<steps.size(); x++) {
+			SafeResult result = runStep(steps.get(x), driver, row);
+			if(!result.isSuccess()) {
+				line.append(result.getOutcome()).append(',').append(x+1).append(',');
+				appendField(line, result.getReason());
+				return;
+			}
+		}
+		line.append(SafeResult.Outcome.SUCCESS).append(",,");
+	}
+
+	private static SafeResult runStep(SafeDataStep step, WebDriver driver, SafeDataRow row) {
+		try {
+			SafeResult result = step.run(driver, row);
+			return result==null ? SafeResult.INVALID_ARGUMENT : result;
+		}catch(Exception ex) {
+			return SafeResult.failure(ex);
+		}
+	}
+
+	/**
+	 * Appends the value as a CSV field, quoted if it holds a comma, a quote or a line break.
+	 */
+	private static void appendField(StringBuilder line, String value) {
+		if(value==null)
+			return;
+		boolean quote = false;
+		for(int x=0; x<value.length() && !quote; x++) {
+			char letter = value.charAt(x);
+			quote = letter==',' || letter=='"' || letter=='\n' || letter=='\r';
+		}
+		if(!quote) {
+			line.append(value);
+			return;
+		}
+		line.append('"');
+		for(int x=0; x<value.length(); x++) {
+			char letter = value.charAt(x);
+			if(letter=='"')
+				line.append('"');
+			line.append(letter);
+		}
+		line.append('"');
+	}
+}
@@ -0,0 +1,26 @@
+package safe_automation_utils.safe_data_driven;
+
+import org.openqa.selenium.WebDriver;
+
+import safe_automation_utils.safe_utils.SafeResult;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A single action SafeDataRunner performs for every row of a data file, usually one of SafeDataSteps. A step
+ * that throws is treated like a safe method that swallowed the exception.
+ */
+@FunctionalInterface
+public interface SafeDataStep {
+
+	/**
+	 * Performs the action with the values of the passed in row.
+	 * @param driver -> WebDriver
+	 * @param row -> SafeDataRow
+	 * @return -> SafeResult
+	 */
+	SafeResult run(WebDriver driver, SafeDataRow row);
+}
@@ -0,0 +1,123 @@
+package safe_automation_utils.safe_data_driven;
+
+import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import safe_automation_utils.safe_select_action.SafeSelectActions;
+import safe_automation_utils.safe_utils.HelperUtils;
+import safe_automation_utils.safe_utils.SafeResult;
+import safe_automation_utils.safe_webelement_action.SafeClick;
+import safe_automation_utils.safe_webelement_text.SafeTextWebElement;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Creates the steps that map a column of a data file to a safe method. The element is located the same way as
+ * for the ByString methods, with a source and one of the values of Locator_Type_Constants. A step reading a
+ * column is skipped, and counts as a success, when the cell of the row is empty, so a sheet can leave out the
+ * fields a row does not fill in.
+ *
+ * All methods in this class are static.
+ */
+public final class SafeDataSteps {
+
+	private SafeDataSteps() {
+	}
+
+	/**
+	 * Returns a step that clicks the element matching the passed in source for every row.
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeDataStep
+	 */
+	public static SafeDataStep click(String source, String sourceType) {
+		return (driver, row) -> SafeClick.safeClickByStringResult(driver, source, sourceType);
+	}
+
+	/**
+	 * Returns a step that clicks the element matching the passed in source for every row whose cell in the passed
+	 * in column is true, yes or x, ignoring case.
+	 * @param column -> String
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeDataStep
+	 */
+	public static SafeDataStep clickIf(String column, String source, String sourceType) {
+		return (driver, row) -> {
+			String value = row.get(column);
+			if(value==null)
+				return SafeResult.INVALID_ARGUMENT;
+			value = value.trim();
+			if(!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("yes") && !value.equalsIgnoreCase("x"))
+				return SafeResult.SUCCESS;
+			return SafeClick.safeClickByStringResult(driver, source, sourceType);
+		};
+	}
+
+	/**
+	 * Returns a step that sets the value of the passed in column as the text of the element matching the passed
+	 * in source, the same way as SafeTextWebElement.safeSetTextToStringTextWebElement.
+	 * @param column -> String
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param wait -> WebDriverWait
+	 * @return -> SafeDataStep
+	 */
+	public static SafeDataStep setText(String column, String source, String sourceType, WebDriverWait wait) {
+		return (driver, row) -> {
+			String value = row.get(column);
+			if(value==null)
+				return SafeResult.INVALID_ARGUMENT;
+			if(value.isEmpty())
+				return SafeResult.SUCCESS;
+			return SafeTextWebElement.safeSetTextToStringTextWebElementResult(driver, source, sourceType, value, wait);
+		};
+	}
+
+	/**
+	 * Returns a step that selects the option whose visible text is the value of the passed in column in the select
+	 * matching the passed in source.
+	 * @param column -> String
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeDataStep
+	 */
+	public static SafeDataStep selectByVisibleText(String column, String source, String sourceType) {
+		return (driver, row) -> {
+			String value = row.get(column);
+			if(value==null)
+				return SafeResult.INVALID_ARGUMENT;
+			if(value.isEmpty())
+				return SafeResult.SUCCESS;
+			Select select = HelperUtils.convertWebElementToSelectObject(HelperUtils.locateWebElement(driver, source, sourceType));
+			if(select==null)
+				return SafeResult.NOT_FOUND;
+			return SafeSelectActions.safeSetSelectOptionByVisibleTextResult(select, value);
+		};
+	}
+
+	/**
+	 * Returns a step that selects the option whose value is the value of the passed in column in the select
+	 * matching the passed in source.
+	 * @param column -> String
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @return -> SafeDataStep
+	 */
+	public static SafeDataStep selectByValue(String column, String source, String sourceType) {
+		return (driver, row) -> {
+			String value = row.get(column);
+			if(value==null)
+				return SafeResult.INVALID_ARGUMENT;
+			if(value.isEmpty())
+				return SafeResult.SUCCESS;
+			Select select = HelperUtils.convertWebElementToSelectObject(HelperUtils.locateWebElement(driver, source, sourceType));
+			if(select==null)
+				return SafeResult.NOT_FOUND;
+			return SafeSelectActions.safeSetSelectOptionByValueResult(select, value);
+		};
+	}
+}
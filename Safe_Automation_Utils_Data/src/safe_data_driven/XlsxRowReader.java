@@ -0,0 +1,137 @@
+package safe_automation_utils.safe_data_driven;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.ooxml.util.SAXHelper;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Reads the first sheet of an xlsx file with the streaming event API of POI. The sheet is parsed as a stream of
+ * XML events, so the rows are never all loaded the way XSSFWorkbook loads them, and every cell is formatted to
+ * the text the sheet shows. Only the shared strings table of the file is held while reading, which grows with
+ * the number of different strings in the file and not with the number of rows.
+ */
+final class XlsxRowReader implements RowReader {
+
+	private final OPCPackage xlsx;
+
+	XlsxRowReader(Path input) throws IOException {
+		try {
+			this.xlsx = OPCPackage.open(input.toFile(), PackageAccess.READ);
+		}catch(OpenXML4JException | RuntimeException ex) {
+			throw new IOException("could not open " + input, ex);
+		}
+	}
+
+	@Override
+	public long read(RowHandler handler) throws IOException {
+		try {
+			XSSFReader reader = new XSSFReader(xlsx);
+			ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(xlsx);
+			StylesTable styles = reader.getStylesTable();
+			Iterator<InputStream> sheets = reader.getSheetsData();
+			if(!sheets.hasNext())
+				return 0;
+			SheetRows rows = new SheetRows(handler);
+			try(InputStream sheet = sheets.next()) {
+				XMLReader parser = SAXHelper.newXMLReader();
+				parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, rows, new DataFormatter(), false));
+				parser.parse(new InputSource(sheet));
+			}
+			return rows.count;
+		}catch(UncheckedIOException ex) {
+			throw ex.getCause();
+		}catch(OpenXML4JException | SAXException | ParserConfigurationException ex) {
+			throw new IOException("could not read the sheet", ex);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		//opened for reading, so nothing is written back
+		xlsx.revert();
+	}
+
+	/**
+	 * Collects the cells of a row as the parser reports them and hands the row over when it ends.
+	 */
+	private static final class SheetRows implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+		private final RowHandler handler;
+		private final List<String> header = new ArrayList<>();
+		private SafeDataRow row;
+		private long count;
+		private int nextColumn;
+
+		SheetRows(RowHandler handler) {
+			this.handler = handler;
+		}
+
+		@Override
+		public void startRow(int rowNum) {
+			nextColumn = 0;
+			if(row!=null)
+				row.reset(count+1);
+		}
+
+		@Override
+		public void endRow(int rowNum) {
+			if(row==null) {
+				//the first row holds the column names
+				row = new SafeDataRow(header.toArray(new String[0]));
+				return;
+			}
+			count++;
+			try {
+				handler.row(row);
+			}catch(IOException ex) {
+				//the sax handler can not throw it, read unwraps it again
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			//a cell without a reference follows the one before it
+			int column = cellReference==null ? nextColumn : new CellReference(cellReference).getCol();
+			nextColumn = column+1;
+			if(row==null) {
+				while(header.size()<column)
+					header.add("");
+				header.add(formattedValue);
+			}else {
+				row.set(column, formattedValue);
+			}
+		}
+
+		@Override
+		public void headerFooter(String text, boolean isHeader, String tagName) {
+			//the page header and footer are not part of the data
+		}
+	}
+}
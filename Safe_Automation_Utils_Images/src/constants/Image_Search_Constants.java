@@ -0,0 +1,20 @@
+package safe_automation_utils.constants;
+
+/**
+ * 
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ * 
+ * Contains constant values used when searching for an image on the screen.
+ */
+public class Image_Search_Constants {
+
+	public static final float DEFAULT_SIMILARITY = 0.95f;
+	
+	//how many pixels around the last location of a template are searched before the whole screen
+	public static final int LAST_HIT_MARGIN = 32;
+	
+	//how often a wait for an image captures a new frame
+	public static final long DEFAULT_FRAME_INTERVAL_MILLIS = 100;
+}
@@ -0,0 +1,83 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A cheap way to tell whether two captures of the same screen differ. Instead of keeping every pixel, the luma of
+ * every BLOCK_SIZE by BLOCK_SIZE block is summed up, which is a few thousand values even for a 4K capture. Every
+ * pixel counts towards the sum of its block, so a change as small as a caret or a one pixel border still moves
+ * the signature. A wait can take a signature of every frame and only run the expensive template match when the
+ * signature moved.
+ *
+ * All methods in this class are static.
+ */
+final class FrameDifference {
+
+	/**
+	 * The width and height in pixels of the blocks whose luma is summed up.
+	 */
+	static final int BLOCK_SIZE = 8;
+
+	/**
+	 * How far apart the luma sums of a block have to be before the frame counts as changed. It is low enough for
+	 * a single pixel turning from light to dark, or an 8 pixel line changing by 16 levels, and high enough that
+	 * noise from compression or scaling, which mostly evens out within a block, does not trigger a new match.
+	 */
+	static final int CHANGE_THRESHOLD = 128;
+
+	private FrameDifference() {
+	}
+
+	/**
+	 * Returns the summed luma values of the blocks of the passed in area of the image. If the area is null then
+	 * the whole image is used. The first two values hold the size of the area so signatures of differently sized
+	 * frames never look the same.
+	 * @param image -> BufferedImage
+	 * @param area -> Rectangle
+	 * @return -> int[]
+	 */
+	static int[] signature(BufferedImage image, Rectangle area) {
+		Rectangle bounds = new Rectangle(0, 0, image.getWidth(), image.getHeight());
+		Rectangle sampled = area==null ? bounds : area.intersection(bounds);
+		if(sampled.isEmpty())
+			return new int[] {0, 0};
+		int columns = (sampled.width+BLOCK_SIZE-1)/BLOCK_SIZE;
+		int rows = (sampled.height+BLOCK_SIZE-1)/BLOCK_SIZE;
+		int[] values = new int[2+columns*rows];
+		values[0] = sampled.width;
+		values[1] = sampled.height;
+		int[] row = new int[sampled.width];
+		for(int y=0; y<sampled.height; y++) {
+			image.getRGB(sampled.x, sampled.y+y, sampled.width, 1, row, 0, sampled.width);
+			int blockRow = 2+(y/BLOCK_SIZE)*columns;
+			for(int x=0; x<sampled.width; x++) {
+				int pixel = row[x];
+				values[blockRow+x/BLOCK_SIZE] += (((pixel>>16)&0xFF)*77 + ((pixel>>8)&0xFF)*150 + (pixel&0xFF)*29) >> 8;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Returns true if the two signatures come from differently sized areas or the sum of any of their blocks moved
+	 * by more than CHANGE_THRESHOLD. A null signature always counts as changed.
+	 * @param previous -> int[]
+	 * @param current -> int[]
+	 * @return -> boolean
+	 */
+	static boolean changed(int[] previous, int[] current) {
+		if(previous==null || current==null || previous.length!=current.length || previous[0]!=current[0] || previous[1]!=current[1])
+			return true;
+		for(int x=2; x<current.length; x++) {
+			if(Math.abs(previous[x]-current[x])>CHANGE_THRESHOLD)
+				return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,158 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.image.BufferedImage;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A grayscale copy of an image together with versions of it that are smoothed and halved in size once per level. Level 0 is
+ * the full size image. The gray values are the luma of each pixel stored as unsigned bytes, so a 4K screenshot
+ * takes about 11MB for all levels together.
+ *
+ * Templates additionally keep their zero mean pixel values and the sum of the squared deviations for every level,
+ * which are the parts of the normalized cross correlation that only depend on the template.
+ */
+final class GrayPyramid {
+
+	/**
+	 * The smallest side a template may have on its coarsest level.
+	 */
+	static final int MIN_TEMPLATE_SIDE = 8;
+
+	/**
+	 * The number of levels built for screens.
+	 */
+	static final int MAX_LEVELS = 4;
+
+	final int levels;
+	final int[] widths;
+	final int[] heights;
+	final byte[][] gray;
+	final float[][] zeroMean;
+	final double[] deviation;
+	final double[] mean;
+
+	private GrayPyramid(int levels, boolean template) {
+		this.levels = levels;
+		this.widths = new int[levels];
+		this.heights = new int[levels];
+		this.gray = new byte[levels][];
+		this.zeroMean = template ? new float[levels][] : null;
+		this.deviation = template ? new double[levels] : null;
+		this.mean = template ? new double[levels] : null;
+	}
+
+	/**
+	 * Builds the pyramid of a screen that templates will be searched in.
+	 * @param image -> BufferedImage
+	 * @return -> GrayPyramid
+	 */
+	static GrayPyramid ofScreen(BufferedImage image) {
+		GrayPyramid pyramid = new GrayPyramid(MAX_LEVELS, false);
+		pyramid.build(image);
+		return pyramid;
+	}
+
+	/**
+	 * Builds the pyramid of a template. The template gets as many levels as it can while its smallest side stays
+	 * at least MIN_TEMPLATE_SIDE pixels, up to MAX_LEVELS.
+	 * @param image -> BufferedImage
+	 * @return -> GrayPyramid
+	 */
+	static GrayPyramid ofTemplate(BufferedImage image) {
+		int side = Math.min(image.getWidth(), image.getHeight());
+		int levels = 1;
+		while(levels<MAX_LEVELS && (side>>levels)>=MIN_TEMPLATE_SIDE)
+			levels++;
+		GrayPyramid pyramid = new GrayPyramid(levels, true);
+		pyramid.build(image);
+		for(int level=0; level<levels; level++) {
+			byte[] pixels = pyramid.gray[level];
+			long sum = 0;
+			for(byte pixel:pixels) {
+				sum += pixel&0xFF;
+			}
+			double levelMean = sum/(double)pixels.length;
+			float[] centered = new float[pixels.length];
+			double squares = 0;
+			for(int x=0; x<pixels.length; x++) {
+				centered[x] = (float)((pixels[x]&0xFF)-levelMean);
+				squares += centered[x]*(double)centered[x];
+			}
+			pyramid.mean[level] = levelMean;
+			pyramid.zeroMean[level] = centered;
+			pyramid.deviation[level] = squares;
+		}
+		return pyramid;
+	}
+
+	/**
+	 * Returns the number of bytes held by this pyramid.
+	 * @return -> long
+	 */
+	long getByteSize() {
+		long size = 0;
+		for(int level=0; level<levels; level++) {
+			size += gray[level].length;
+			if(zeroMean!=null)
+				size += zeroMean[level].length*4L;
+		}
+		return size;
+	}
+
+	private void build(BufferedImage image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		byte[] level0 = new byte[width*height];
+		int[] row = new int[width];
+		for(int y=0; y<height; y++) {
+			image.getRGB(0, y, width, 1, row, 0, width);
+			int offset = y*width;
+			for(int x=0; x<width; x++) {
+				int pixel = row[x];
+				//integer approximation of the rec. 601 luma weights
+				level0[offset+x] = (byte)((((pixel>>16)&0xFF)*77 + ((pixel>>8)&0xFF)*150 + (pixel&0xFF)*29) >> 8);
+			}
+		}
+		widths[0] = width;
+		heights[0] = height;
+		gray[0] = level0;
+		for(int level=1; level<levels; level++) {
+			int sourceWidth = widths[level-1];
+			int sourceHeight = heights[level-1];
+			int levelWidth = Math.max(1, sourceWidth/2);
+			int levelHeight = Math.max(1, sourceHeight/2);
+			byte[] source = gray[level-1];
+			byte[] target = new byte[levelWidth*levelHeight];
+			//a 1 3 3 1 filter instead of a plain 2x2 average, so a template that starts on an odd pixel still
+			//looks close to the same area of the screen after both are halved
+			int[] columns = new int[levelWidth*4];
+			int[] weights = {1, 3, 3, 1};
+			for(int x=0; x<levelWidth; x++) {
+				for(int tap=0; tap<4; tap++) {
+					columns[x*4+tap] = Math.min(Math.max(x*2+tap-1, 0), sourceWidth-1);
+				}
+			}
+			for(int y=0; y<levelHeight; y++) {
+				for(int x=0; x<levelWidth; x++) {
+					int total = 0;
+					for(int rowTap=0; rowTap<4; rowTap++) {
+						int sourceRow = Math.min(Math.max(y*2+rowTap-1, 0), sourceHeight-1)*sourceWidth;
+						int rowTotal = 0;
+						for(int tap=0; tap<4; tap++) {
+							rowTotal += weights[tap]*(source[sourceRow+columns[x*4+tap]]&0xFF);
+						}
+						total += weights[rowTap]*rowTotal;
+					}
+					target[y*levelWidth+x] = (byte)((total+32) >> 6);
+				}
+			}
+			widths[level] = levelWidth;
+			heights[level] = levelHeight;
+			gray[level] = target;
+		}
+	}
+}
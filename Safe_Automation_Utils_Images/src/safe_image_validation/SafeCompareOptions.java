@@ -0,0 +1,136 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Contains the settings used by SafeVisualCompare when comparing two images. The tolerance is the largest
+ * difference allowed in any single color channel before a pixel counts as mismatched. The mismatch budget is
+ * the number of mismatched pixels that are allowed before the images no longer match, and once it is exceeded
+ * the comparison stops early unless early exit is turned off. Ignore regions are never compared.
+ *
+ * Options are immutable so the with methods return a new SafeCompareOptions object.
+ */
+public final class SafeCompareOptions {
+
+	/**
+	 * Exact comparison with no tolerance, no mismatch budget, early exit and a diff mask.
+	 */
+	public static final SafeCompareOptions DEFAULT = new SafeCompareOptions(0, 0, true, true, 256,
+			Collections.<Rectangle>emptyList());
+
+	private final int tolerance;
+	private final long mismatchBudget;
+	private final boolean earlyExit;
+	private final boolean diffMask;
+	private final int tileSize;
+	private final List<Rectangle> ignoreRegions;
+
+	private SafeCompareOptions(int tolerance, long mismatchBudget, boolean earlyExit, boolean diffMask, int tileSize,
+			List<Rectangle> ignoreRegions) {
+		this.tolerance = tolerance;
+		this.mismatchBudget = mismatchBudget;
+		this.earlyExit = earlyExit;
+		this.diffMask = diffMask;
+		this.tileSize = tileSize;
+		this.ignoreRegions = ignoreRegions;
+	}
+
+	/**
+	 * Returns a copy of these options that allows each color channel to differ by up to the passed in value.
+	 * The tolerance must be between 0 and 255.
+	 * @param tolerance -> int
+	 * @return -> SafeCompareOptions
+	 */
+	public SafeCompareOptions withTolerance(int tolerance) {
+		if(tolerance<0 || tolerance>255)
+			throw new IllegalArgumentException("tolerance must be between 0 and 255");
+		return new SafeCompareOptions(tolerance, mismatchBudget, earlyExit, diffMask, tileSize, ignoreRegions);
+	}
+
+	/**
+	 * Returns a copy of these options that allows up to the passed in number of mismatched pixels.
+	 * @param mismatchBudget -> long
+	 * @return -> SafeCompareOptions
+	 */
+	public SafeCompareOptions withMismatchBudget(long mismatchBudget) {
+		if(mismatchBudget<0)
+			throw new IllegalArgumentException("mismatchBudget must not be negative");
+		return new SafeCompareOptions(tolerance, mismatchBudget, earlyExit, diffMask, tileSize, ignoreRegions);
+	}
+
+	/**
+	 * Returns a copy of these options that stops, or doesn't stop, comparing once the mismatch budget is exceeded.
+	 * @param earlyExit -> boolean
+	 * @return -> SafeCompareOptions
+	 */
+	public SafeCompareOptions withEarlyExit(boolean earlyExit) {
+		return new SafeCompareOptions(tolerance, mismatchBudget, earlyExit, diffMask, tileSize, ignoreRegions);
+	}
+
+	/**
+	 * Returns a copy of these options that does, or doesn't, build a diff mask image.
+	 * @param diffMask -> boolean
+	 * @return -> SafeCompareOptions
+	 */
+	public SafeCompareOptions withDiffMask(boolean diffMask) {
+		return new SafeCompareOptions(tolerance, mismatchBudget, earlyExit, diffMask, tileSize, ignoreRegions);
+	}
+
+	/**
+	 * Returns a copy of these options that splits the images into square tiles of the passed in size. Each tile
+	 * is compared as a separate fork join task. The tile size must be at least 16.
+	 * @param tileSize -> int
+	 * @return -> SafeCompareOptions
+	 */
+	public SafeCompareOptions withTileSize(int tileSize) {
+		if(tileSize<16)
+			throw new IllegalArgumentException("tileSize must be at least 16");
+		return new SafeCompareOptions(tolerance, mismatchBudget, earlyExit, diffMask, tileSize, ignoreRegions);
+	}
+
+	/**
+	 * Returns a copy of these options that also ignores the pixels inside the passed in region.
+	 * @param region -> Rectangle
+	 * @return -> SafeCompareOptions
+	 */
+	public SafeCompareOptions withIgnoreRegion(Rectangle region) {
+		if(region==null || region.isEmpty())
+			return this;
+		List<Rectangle> regions = new ArrayList<>(ignoreRegions);
+		regions.add(new Rectangle(region));
+		return new SafeCompareOptions(tolerance, mismatchBudget, earlyExit, diffMask, tileSize,
+				Collections.unmodifiableList(regions));
+	}
+
+	public int getTolerance() {
+		return tolerance;
+	}
+
+	public long getMismatchBudget() {
+		return mismatchBudget;
+	}
+
+	public boolean isEarlyExit() {
+		return earlyExit;
+	}
+
+	public boolean isDiffMask() {
+		return diffMask;
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public List<Rectangle> getIgnoreRegions() {
+		return ignoreRegions;
+	}
+}
@@ -0,0 +1,67 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.image.BufferedImage;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * The result of comparing two images with SafeVisualCompare. If the comparison stopped early because the
+ * mismatch budget was exceeded then isComplete() returns false and the mismatched pixel count and the diff mask
+ * only cover the part of the images that was compared before stopping.
+ */
+public final class SafeCompareResult {
+
+	private final boolean sameSize;
+	private final boolean complete;
+	private final long mismatchedPixels;
+	private final long comparedPixels;
+	private final long mismatchBudget;
+	private final BufferedImage diffMask;
+
+	SafeCompareResult(boolean sameSize, boolean complete, long mismatchedPixels, long comparedPixels,
+			long mismatchBudget, BufferedImage diffMask) {
+		this.sameSize = sameSize;
+		this.complete = complete;
+		this.mismatchedPixels = mismatchedPixels;
+		this.comparedPixels = comparedPixels;
+		this.mismatchBudget = mismatchBudget;
+		this.diffMask = diffMask;
+	}
+
+	/**
+	 * Returns true if both images have the same size and the number of mismatched pixels is within the budget.
+	 * @return -> boolean
+	 */
+	public boolean isMatch() {
+		return sameSize && mismatchedPixels<=mismatchBudget;
+	}
+
+	public boolean isSameSize() {
+		return sameSize;
+	}
+
+	public boolean isComplete() {
+		return complete;
+	}
+
+	public long getMismatchedPixels() {
+		return mismatchedPixels;
+	}
+
+	public long getComparedPixels() {
+		return comparedPixels;
+	}
+
+	/**
+	 * Returns a grayscale image the size of the compared images where mismatched pixels are white and every other
+	 * pixel is black. If the diff mask was turned off in the options or the images have different sizes then null
+	 * is returned.
+	 * @return -> BufferedImage
+	 */
+	public BufferedImage getDiffMask() {
+		return diffMask;
+	}
+}
@@ -0,0 +1,461 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.openqa.selenium.WebDriver;
+
+import safe_automation_utils.constants.Image_Search_Constants;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+import safe_automation_utils.safe_screenshots.SafeWebElementScreenshot;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Contains methods that provide a safe way to validate that an image exists inside another image, such as a
+ * WebDriver screenshot, without needing a physical display. This is the pure java counterpart of SafeImageExists
+ * and follows the same return values. The images are compared in grayscale using normalized cross correlation.
+ *
+ * All methods in this class are static.
+ */
+public final class SafeHeadlessImageExists {
+
+	private static final SafeMethodProbe SAFE_IMAGE_EXISTS = SafeMetrics.probe("SafeHeadlessImageExists.safeImageExists");
+	private static final SafeMethodProbe SAFE_WAIT_FOR_IMAGE = SafeMetrics.probe("SafeHeadlessImageExists.safeWaitForImage");
+	private static final SafeMethodProbe SAFE_IMAGES_EXIST = SafeMetrics.probe("SafeHeadlessImageExists.safeImagesExist");
+	private static final SafeMethodProbe SAFE_FIND_IMAGE = SafeMetrics.probe("SafeHeadlessImageExists.safeFindImage");
+
+	/**
+	 * The most frames a wait skips the template match for because their signature did not move.
+	 */
+	private static final int MAX_SKIPPED_FRAMES = 10;
+
+	/**
+	 * Checks if the template image exists inside the screen image based on the similarity value that is passed in,
+	 * which must be between 0 and 1. If either image is null or the similarity is outside of that range then -1 is
+	 * returned. If an exception occurs during the process then -1 is returned. If the template is not found then 0
+	 * is returned. If the template is found then 1 is returned.
+	 * @param screen -> BufferedImage
+	 * @param template -> BufferedImage
+	 * @param similarity -> float
+	 * @return -> int
+	 */
+	public static int safeImageExists(BufferedImage screen, BufferedImage template, float similarity) {
+		if(screen==null || template==null || similarity<0f || similarity>1f)
+			return -1;
+		long start = SAFE_IMAGE_EXISTS.start();
+		Exception swallowed = null;
+		try {
+			return find(screen, template, similarity, null)!=null ? 1 : 0;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_IMAGE_EXISTS.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * Performs the same action as safeImageExists(BufferedImage, BufferedImage, float) using the default similarity
+	 * of 95%.
+	 * @param screen -> BufferedImage
+	 * @param template -> BufferedImage
+	 * @return -> int
+	 */
+	public static int safeImageExists(BufferedImage screen, BufferedImage template) {
+		return safeImageExists(screen, template, Image_Search_Constants.DEFAULT_SIMILARITY);
+	}
+
+	/**
+	 * Performs the same action as safeImageExists(BufferedImage, BufferedImage, float) but reads the template from
+	 * the passed in imagePath String value through SafeTemplateCache. The area around where the template was last
+	 * found is searched first and the whole screen only if it is not there anymore. If the imagePath String object
+	 * is null or blank or the file can't be read then -1 is returned.
+	 * @param screen -> BufferedImage
+	 * @param imagePath -> String
+	 * @param similarity -> float
+	 * @return -> int
+	 */
+	public static int safeImageExists(BufferedImage screen, String imagePath, float similarity) {
+		return safeImageExists(screen, imagePath, similarity, null);
+	}
+
+	/**
+	 * Performs the same action as safeImageExists(BufferedImage, String, float) but only searches inside the
+	 * passed in region of the screen. If the region is null then the whole screen is searched. If the region does
+	 * not overlap the screen or is smaller than the template then 0 is returned.
+	 * @param screen -> BufferedImage
+	 * @param imagePath -> String
+	 * @param similarity -> float
+	 * @param region -> Rectangle
+	 * @return -> int
+	 */
+	public static int safeImageExists(BufferedImage screen, String imagePath, float similarity, Rectangle region) {
+		if(screen==null || imagePath==null || imagePath.isEmpty() || similarity<0f || similarity>1f)
+			return -1;
+		long start = SAFE_IMAGE_EXISTS.start();
+		Exception swallowed = null;
+		try {
+			SafeTemplateCache.Template template = SafeTemplateCache.load(imagePath);
+			return findCached(screen, null, template, similarity, region)!=null ? 1 : 0;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_IMAGE_EXISTS.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * Takes a screenshot with the passed in WebDriver and checks if the image stored at the imagePath String value
+	 * exists inside of it based on the similarity value that is passed in. If the WebDriver is null or the
+	 * screenshot can't be taken then -1 is returned. Otherwise the values returned match
+	 * safeImageExists(BufferedImage, BufferedImage, float).
+	 * @param driver -> WebDriver
+	 * @param imagePath -> String
+	 * @param similarity -> float
+	 * @return -> int
+	 */
+	public static int safeImageExists(WebDriver driver, String imagePath, float similarity) {
+		if(driver==null)
+			return -1;
+		return safeImageExists(SafeWebElementScreenshot.safeCaptureScreenshot(driver), imagePath, similarity);
+	}
+
+	/**
+	 * Performs the same action as safeImageExists(WebDriver, String, float) using the default similarity of 95%.
+	 * @param driver -> WebDriver
+	 * @param imagePath -> String
+	 * @return -> int
+	 */
+	public static int safeImageExists(WebDriver driver, String imagePath) {
+		return safeImageExists(driver, imagePath, Image_Search_Constants.DEFAULT_SIMILARITY);
+	}
+
+	/**
+	 * Performs the same action as safeImageExists(WebDriver, String, float) but only searches inside the passed
+	 * in region of the screenshot, given in screenshot pixels. If the region is null then the whole screenshot is
+	 * searched.
+	 * @param driver -> WebDriver
+	 * @param imagePath -> String
+	 * @param similarity -> float
+	 * @param region -> Rectangle
+	 * @return -> int
+	 */
+	public static int safeImageExists(WebDriver driver, String imagePath, float similarity, Rectangle region) {
+		if(driver==null)
+			return -1;
+		return safeImageExists(SafeWebElementScreenshot.safeCaptureScreenshot(driver), imagePath, similarity, region);
+	}
+
+	/**
+	 * Takes screenshots with the passed in WebDriver until the image stored at the imagePath String value is found
+	 * in one of them or the timeout runs out, using the default similarity of 95% and a new screenshot every
+	 * 100 milliseconds. If the WebDriver is null, the file can't be read or an exception occurs during the process
+	 * then -1 is returned. If the image does not show up before the timeout then 0 is returned. If the image is
+	 * found then 1 is returned.
+	 * @param driver -> WebDriver
+	 * @param imagePath -> String
+	 * @param timeoutMillis -> long
+	 * @return -> int
+	 */
+	public static int safeWaitForImage(WebDriver driver, String imagePath, long timeoutMillis) {
+		return safeWaitForImage(driver, imagePath, Image_Search_Constants.DEFAULT_SIMILARITY, null, timeoutMillis,
+				Image_Search_Constants.DEFAULT_FRAME_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * Performs the same action as safeWaitForImage(WebDriver, String, long) with the passed in similarity, search
+	 * region and time between screenshots. If the region is null then the whole screenshot is searched. Each
+	 * screenshot is only searched if it differs from the last one that was searched, so a page that is not
+	 * changing costs one screenshot per interval and no matching. If the timeout is lower than 0 or the interval
+	 * is lower than 1 then -1 is returned.
+	 * @param driver -> WebDriver
+	 * @param imagePath -> String
+	 * @param similarity -> float
+	 * @param region -> Rectangle
+	 * @param timeoutMillis -> long
+	 * @param intervalMillis -> long
+	 * @return -> int
+	 */
+	public static int safeWaitForImage(WebDriver driver, String imagePath, float similarity, Rectangle region,
+			long timeoutMillis, long intervalMillis) {
+		if(driver==null || similarity<0f || similarity>1f || timeoutMillis<0 || intervalMillis<1)
+			return -1;
+		long start = SAFE_WAIT_FOR_IMAGE.start();
+		Exception swallowed = null;
+		try {
+			SafeTemplateCache.Template template = SafeTemplateCache.load(imagePath);
+			return waitForImage(() -> {
+				BufferedImage screenshot = SafeWebElementScreenshot.safeCaptureScreenshot(driver);
+				if(screenshot==null)
+					throw new IllegalStateException("the screenshot could not be taken");
+				return Collections.singletonList(screenshot);
+			}, template, similarity, region, timeoutMillis, intervalMillis);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_WAIT_FOR_IMAGE.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * Captures frames until the template is found in one of them or the timeout runs out, waiting for the rest of
+	 * the interval after each frame. The template match only runs on the first frame and on frames whose
+	 * FrameDifference signature moved away from the frames that were last matched, since an unchanged screen
+	 * can't have started to show the template, and at least every MAX_SKIPPED_FRAMES frames in case a change was
+	 * too faint for the signature. The signature only covers the region when one is passed in. If the
+	 * thread is interrupted then -1 is returned, any other exception is left to the caller.
+	 */
+	static int waitForImage(Callable<List<BufferedImage>> capture, SafeTemplateCache.Template template, float similarity,
+			Rectangle region, long timeoutMillis, long intervalMillis) throws Exception {
+		long deadline = System.nanoTime()+TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		long interval = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+		List<int[]> matched = null;
+		int skipped = 0;
+		try {
+			while(true) {
+				long frameStart = System.nanoTime();
+				List<BufferedImage> frames = capture.call();
+				List<int[]> signatures = new ArrayList<>();
+				boolean changed = matched==null || matched.size()!=frames.size() || skipped>=MAX_SKIPPED_FRAMES;
+				for(int x=0; x<frames.size(); x++) {
+					signatures.add(FrameDifference.signature(frames.get(x), region));
+					changed = changed || FrameDifference.changed(matched.get(x), signatures.get(x));
+				}
+				if(changed) {
+					for(BufferedImage frame:frames) {
+						if(findCached(frame, null, template, similarity, region)!=null)
+							return 1;
+					}
+					matched = signatures;
+					skipped = 0;
+				}else {
+					skipped++;
+				}
+				long now = System.nanoTime();
+				if(now-deadline>=0)
+					return 0;
+				long sleep = Math.min(deadline-now, interval-(now-frameStart));
+				if(sleep>0)
+					TimeUnit.NANOSECONDS.sleep(sleep);
+			}
+		}catch(InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return -1;
+		}
+	}
+
+	/**
+	 * Checks if each of the images stored at the passed in imagePaths exists inside the screen image based on the
+	 * passed in similarity value. The screen is only converted once and the templates are searched for in
+	 * parallel. The returned map has an entry for every distinct path in the order they were passed in, holding
+	 * 1 if the image was found, 0 if it was not found and -1 if an exception occurred while looking for that
+	 * image. If the screen or the collection is null or the similarity is outside of 0 to 1 then every path is
+	 * given -1, and an empty map is returned for a null collection.
+	 * @param screen -> BufferedImage
+	 * @param imagePaths -> Collection of String
+	 * @param similarity -> float
+	 * @return -> Map of String to Integer
+	 */
+	public static Map<String, Integer> safeImagesExist(BufferedImage screen, Collection<String> imagePaths, float similarity) {
+		if(imagePaths==null)
+			return new LinkedHashMap<>();
+		if(screen==null || similarity<0f || similarity>1f)
+			return allFailed(imagePaths);
+		long start = SAFE_IMAGES_EXIST.start();
+		Exception swallowed = null;
+		try {
+			return searchAll(Collections.singletonList(screen), imagePaths, similarity);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return allFailed(imagePaths);
+		}finally {
+			SAFE_IMAGES_EXIST.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * Performs the same action as safeImagesExist(BufferedImage, Collection, float) against a single screenshot
+	 * taken with the passed in WebDriver. If the WebDriver is null or the screenshot can't be taken then every
+	 * path is given -1.
+	 * @param driver -> WebDriver
+	 * @param imagePaths -> Collection of String
+	 * @param similarity -> float
+	 * @return -> Map of String to Integer
+	 */
+	public static Map<String, Integer> safeImagesExist(WebDriver driver, Collection<String> imagePaths, float similarity) {
+		if(imagePaths==null)
+			return new LinkedHashMap<>();
+		if(driver==null)
+			return allFailed(imagePaths);
+		return safeImagesExist(SafeWebElementScreenshot.safeCaptureScreenshot(driver), imagePaths, similarity);
+	}
+
+	/**
+	 * Searches every screen for every template in parallel. A template counts as found as soon as it is found on
+	 * one of the screens. The full pyramid of each screen is built at most once, and only if one of the templates
+	 * is not found around its last location.
+	 */
+	static Map<String, Integer> searchAll(List<BufferedImage> screens, Collection<String> imagePaths, float similarity) {
+		List<String> paths = new ArrayList<>(new LinkedHashSet<>(imagePaths));
+		List<Supplier<GrayPyramid>> pyramids = new ArrayList<>();
+		for(BufferedImage screen:screens) {
+			pyramids.add(sharedPyramid(screen));
+		}
+		int[] results = new int[paths.size()];
+		IntStream.range(0, paths.size()).parallel().forEach(x -> {
+			try {
+				SafeTemplateCache.Template template = SafeTemplateCache.load(paths.get(x));
+				results[x] = 0;
+				for(int screen=0; screen<screens.size(); screen++) {
+					if(findCached(screens.get(screen), pyramids.get(screen), template, similarity, null)!=null) {
+						results[x] = 1;
+						break;
+					}
+				}
+			}catch(Exception ex) {
+				results[x] = -1;
+			}
+		});
+		Map<String, Integer> found = new LinkedHashMap<>();
+		for(int x=0; x<paths.size(); x++) {
+			found.put(paths.get(x), results[x]);
+		}
+		return found;
+	}
+
+	/**
+	 * Searches the screen for a cached template inside the passed in region, or the whole screen if the region is
+	 * null. The area around where the template was last found is tried first, which only needs a pyramid of that
+	 * small part of the screen. Whenever the template is found its location is remembered for the next search.
+	 * If fullScreen is not null it is used instead of building a new pyramid when the whole screen is searched.
+	 */
+	static SafeImageMatch findCached(BufferedImage screen, Supplier<GrayPyramid> fullScreen, SafeTemplateCache.Template template,
+			float similarity, Rectangle region) {
+		Rectangle bounds = new Rectangle(0, 0, screen.getWidth(), screen.getHeight());
+		Rectangle area = region==null ? bounds : region.intersection(bounds);
+		GrayPyramid templatePyramid = SafeTemplateCache.pyramidOf(template);
+		SafeImageMatch match = null;
+		Rectangle lastHit = template.lastHit;
+		if(lastHit!=null) {
+			Rectangle near = new Rectangle(lastHit);
+			near.grow(Image_Search_Constants.LAST_HIT_MARGIN, Image_Search_Constants.LAST_HIT_MARGIN);
+			match = findInRegion(screen, templatePyramid, similarity, near.intersection(area));
+		}
+		if(match==null) {
+			if(area.equals(bounds))
+				match = SafeTemplateMatcher.find(fullScreen!=null ? fullScreen.get() : GrayPyramid.ofScreen(screen), templatePyramid, similarity);
+			else
+				match = findInRegion(screen, templatePyramid, similarity, area);
+		}
+		if(match!=null)
+			template.lastHit = match.getRectangle();
+		return match;
+	}
+
+	/**
+	 * Searches only the passed in region of the screen by building a pyramid of just that part of it. If the
+	 * region is empty or smaller than the template then null is returned.
+	 */
+	private static SafeImageMatch findInRegion(BufferedImage screen, GrayPyramid template, float similarity, Rectangle region) {
+		if(region.isEmpty() || region.width<template.widths[0] || region.height<template.heights[0])
+			return null;
+		BufferedImage part = screen.getSubimage(region.x, region.y, region.width, region.height);
+		SafeImageMatch match = SafeTemplateMatcher.find(GrayPyramid.ofScreen(part), template, similarity);
+		if(match==null)
+			return null;
+		return new SafeImageMatch(match.getX()+region.x, match.getY()+region.y, match.getWidth(), match.getHeight(), match.getScore());
+	}
+
+	/**
+	 * Returns a supplier that builds the pyramid of the passed in screen the first time it is asked for and hands
+	 * the same pyramid to every caller after that.
+	 */
+	private static Supplier<GrayPyramid> sharedPyramid(BufferedImage screen) {
+		GrayPyramid[] built = new GrayPyramid[1];
+		return () -> {
+			synchronized(built) {
+				if(built[0]==null)
+					built[0] = GrayPyramid.ofScreen(screen);
+				return built[0];
+			}
+		};
+	}
+
+	/**
+	 * Returns a map that gives -1 to every path.
+	 */
+	static Map<String, Integer> allFailed(Collection<String> imagePaths) {
+		Map<String, Integer> failed = new LinkedHashMap<>();
+		for(String path:imagePaths) {
+			failed.put(path, -1);
+		}
+		return failed;
+	}
+
+	/**
+	 * Attempts to find where the template image is inside the screen image. If either image is null then null is
+	 * returned. If an exception occurs during the process then null is returned. If no location reaches the passed
+	 * in similarity then null is returned. If the template is found then the best SafeImageMatch is returned.
+	 * @param screen -> BufferedImage
+	 * @param template -> BufferedImage
+	 * @param similarity -> float
+	 * @return -> SafeImageMatch
+	 */
+	public static SafeImageMatch safeFindImage(BufferedImage screen, BufferedImage template, float similarity) {
+		return safeFindImage(screen, template, similarity, null);
+	}
+
+	/**
+	 * Performs the same action as safeFindImage(BufferedImage, BufferedImage, float) but only searches inside the
+	 * passed in region of the screen. If the region is null then the whole screen is searched. The returned
+	 * location is still relative to the whole screen.
+	 * @param screen -> BufferedImage
+	 * @param template -> BufferedImage
+	 * @param similarity -> float
+	 * @param region -> Rectangle
+	 * @return -> SafeImageMatch
+	 */
+	public static SafeImageMatch safeFindImage(BufferedImage screen, BufferedImage template, float similarity, Rectangle region) {
+		if(screen==null || template==null)
+			return null;
+		long start = SAFE_FIND_IMAGE.start();
+		Exception swallowed = null;
+		try {
+			return find(screen, template, similarity, region);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return null;
+		}finally {
+			SAFE_FIND_IMAGE.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * Searches the passed in region of the screen, or the whole screen if it is null, and lets any exception through
+	 * to the caller so it can report it.
+	 */
+	private static SafeImageMatch find(BufferedImage screen, BufferedImage template, float similarity, Rectangle region) {
+		GrayPyramid templatePyramid = GrayPyramid.ofTemplate(template);
+		if(region==null)
+			return SafeTemplateMatcher.find(GrayPyramid.ofScreen(screen), templatePyramid, similarity);
+		return findInRegion(screen, templatePyramid, similarity, region.intersection(new Rectangle(0, 0, screen.getWidth(), screen.getHeight())));
+	}
+}
@@ -0,0 +1,309 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.sikuli.script.Image;
+import org.sikuli.script.ImagePath;
+import org.sikuli.script.Match;
+import org.sikuli.script.Pattern;
+import org.sikuli.script.Region;
+import org.sikuli.script.Screen;
+
+import safe_automation_utils.constants.Image_Search_Constants;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+
+/**
+ * 
+ * @author Arthur Reynolds
+ * created: 06/20/2019
+ * updated: 10/19/2026
+ * 
+ * Contains methods that provide a safe way to validate that an image exists on the screen based
+ * on an image file located on the computer. These methods need a physical display, SafeHeadlessImageExists
+ * provides the same checks against a screenshot for machines without one.
+ * 
+ * All methods in this class are static.
+ */
+public class SafeImageExists {
+
+	private static final SafeMethodProbe SAFE_IMAGE_EXISTS = SafeMetrics.probe("SafeImageExists.safeImageExists");
+	private static final SafeMethodProbe SAFE_WAIT_FOR_IMAGE = SafeMetrics.probe("SafeImageExists.safeWaitForImage");
+	private static final SafeMethodProbe SAFE_IMAGES_EXIST = SafeMetrics.probe("SafeImageExists.safeImagesExist");
+
+	/**
+	 * Checks if an image exists based on the similarity percentage of 95%. If the image
+	 * is not found on any monitor then 0 is returned. If an exception occurs during the process
+	 * then -1 is returned. If the image is found on one of the monitors then 1 is returned.
+	 * @param imagePattern -> Pattern
+	 * @return -> int
+	 */
+	public static int safeImageExists(Pattern imagePattern) {
+		return safeImageExists(imagePattern, Image_Search_Constants.DEFAULT_SIMILARITY);
+	}
+	
+	/**
+	 * Checks if an image exists based on the passed in similarity value which must be between 0 and 1.
+	 * If the image is not found on any monitor then 0 is returned. If an exception occurs during the process
+	 * then -1 is returned. If the image is found on one of the monitors then 1 is returned.
+	 * @param imagePattern -> Pattern
+	 * @param similarity -> float
+	 * @return -> int
+	 */
+	public static int safeImageExists(Pattern imagePattern, float similarity) {
+		long start = SAFE_IMAGE_EXISTS.start();
+		Exception swallowed = null;
+		try {
+			Screen s = null;
+			int numMonitors = Screen.getNumberScreens();
+			int currentMonitor = 0;
+			boolean found = false;
+			
+			while(found==false && currentMonitor<numMonitors) {
+				s=new Screen(currentMonitor);
+				if(null != s.exists(imagePattern.similar(similarity))) {
+					found=true;
+					return 1;
+				}else {
+					found=false;
+					currentMonitor++;
+				}
+			}
+			return 0;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_IMAGE_EXISTS.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as safeImageExists(Pattern) but takes in a String instead. The image is read
+	 * through SafeTemplateCache, so the file is only decoded again when it changes on disk. If the file can't
+	 * be read then -1 is returned.
+	 * @param imagePath -> String
+	 * @return -> int
+	 */
+	public static int safeImageExists(String imagePath) {
+		return safeImageExists(imagePath, Image_Search_Constants.DEFAULT_SIMILARITY);
+	}
+	
+	/**
+	 * Performs the same action as safeImageExists(Pattern, float) but takes in a String instead. The area around
+	 * where the image was last found on the screen is checked first, so the monitors are only searched completely
+	 * when the image moved or is gone.
+	 * @param imagePath -> String
+	 * @param similarity -> float
+	 * @return -> int
+	 */
+	public static int safeImageExists(String imagePath, float similarity) {
+		return safeImageExists(imagePath, similarity, null);
+	}
+	
+	/**
+	 * Performs the same action as safeImageExists(String, float) but only searches inside the passed in region,
+	 * given in screen coordinates. If the region is null then every monitor is searched.
+	 * @param imagePath -> String
+	 * @param similarity -> float
+	 * @param region -> Rectangle
+	 * @return -> int
+	 */
+	public static int safeImageExists(String imagePath, float similarity, Rectangle region) {
+		long start = SAFE_IMAGE_EXISTS.start();
+		Exception swallowed = null;
+		try {
+			SafeTemplateCache.Template template = loadTemplate(imagePath);
+			Pattern imagePattern = new Pattern(template.image).similar(similarity);
+			Rectangle lastHit = template.lastScreenHit;
+			if(lastHit!=null) {
+				Rectangle near = new Rectangle(lastHit);
+				near.grow(Image_Search_Constants.LAST_HIT_MARGIN, Image_Search_Constants.LAST_HIT_MARGIN);
+				if(region!=null)
+					near = near.intersection(region);
+				try {
+					//no waiting here, a miss just means falling back to the full search
+					if(!near.isEmpty() && remember(template, new Region(near.x, near.y, near.width, near.height).exists(imagePattern, 0)))
+						return 1;
+				}catch(Exception ex) {
+					//the last location may not be on a monitor anymore
+				}
+			}
+			if(region!=null)
+				return remember(template, new Region(region.x, region.y, region.width, region.height).exists(imagePattern)) ? 1 : 0;
+			int numMonitors = Screen.getNumberScreens();
+			for(int currentMonitor=0; currentMonitor<numMonitors; currentMonitor++) {
+				if(remember(template, new Screen(currentMonitor).exists(imagePattern)))
+					return 1;
+			}
+			return 0;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_IMAGE_EXISTS.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Returns the cached template of the passed in path, found the way Sikuli finds the path of a Pattern, through
+	 * the bundle path and the other ImagePath entries with .png added when it has no image extension. The path is
+	 * only taken as a plain file path or class path resource when Sikuli can't find it.
+	 */
+	private static SafeTemplateCache.Template loadTemplate(String imagePath) throws IOException {
+		URL url = null;
+		try {
+			if(imagePath!=null && !imagePath.isEmpty())
+				url = ImagePath.find(Image.getValidImageFilename(imagePath));
+		}catch(RuntimeException ex) {
+			//not found through ImagePath, fall back to the plain path
+		}
+		return url==null ? SafeTemplateCache.load(imagePath) : SafeTemplateCache.load(url);
+	}
+	
+	/**
+	 * Keeps the location of the passed in match with the template and returns whether there was a match.
+	 */
+	private static boolean remember(SafeTemplateCache.Template template, Match match) {
+		if(match==null)
+			return false;
+		template.lastScreenHit = new Rectangle(match.x, match.y, match.w, match.h);
+		return true;
+	}
+	
+	/**
+	 * Captures every monitor until the image is found on one of them or the timeout runs out, using the default
+	 * similarity of 95% and new captures every 100 milliseconds. If the Pattern has no image, the monitors can't
+	 * be captured or an exception occurs during the process then -1 is returned. If the image does not show up
+	 * before the timeout then 0 is returned. If the image is found then 1 is returned.
+	 * @param imagePattern -> Pattern
+	 * @param timeoutMillis -> long
+	 * @return -> int
+	 */
+	public static int safeWaitForImage(Pattern imagePattern, long timeoutMillis) {
+		return safeWaitForImage(imagePattern, Image_Search_Constants.DEFAULT_SIMILARITY, timeoutMillis,
+				Image_Search_Constants.DEFAULT_FRAME_INTERVAL_MILLIS);
+	}
+	
+	/**
+	 * Performs the same action as safeWaitForImage(Pattern, long) with the passed in similarity and time between
+	 * captures. The captures are searched with the same matching as SafeHeadlessImageExists, and only when they
+	 * differ from the last captures that were searched, so a screen that is not changing costs one capture per
+	 * interval and no matching. If the timeout is lower than 0 or the interval is lower than 1 then -1 is returned.
+	 * @param imagePattern -> Pattern
+	 * @param similarity -> float
+	 * @param timeoutMillis -> long
+	 * @param intervalMillis -> long
+	 * @return -> int
+	 */
+	public static int safeWaitForImage(Pattern imagePattern, float similarity, long timeoutMillis, long intervalMillis) {
+		if(imagePattern==null || imagePattern.getBImage()==null || similarity<0f || similarity>1f || timeoutMillis<0 || intervalMillis<1)
+			return -1;
+		long start = SAFE_WAIT_FOR_IMAGE.start();
+		Exception swallowed = null;
+		try {
+			return waitOnMonitors(SafeTemplateCache.uncached(imagePattern.getBImage()), similarity, timeoutMillis, intervalMillis);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_WAIT_FOR_IMAGE.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as safeWaitForImage(Pattern, long) but takes in a String instead.
+	 * @param imagePath -> String
+	 * @param timeoutMillis -> long
+	 * @return -> int
+	 */
+	public static int safeWaitForImage(String imagePath, long timeoutMillis) {
+		return safeWaitForImage(imagePath, Image_Search_Constants.DEFAULT_SIMILARITY, timeoutMillis,
+				Image_Search_Constants.DEFAULT_FRAME_INTERVAL_MILLIS);
+	}
+	
+	/**
+	 * Performs the same action as safeWaitForImage(Pattern, float, long, long) but takes in a String instead.
+	 * @param imagePath -> String
+	 * @param similarity -> float
+	 * @param timeoutMillis -> long
+	 * @param intervalMillis -> long
+	 * @return -> int
+	 */
+	public static int safeWaitForImage(String imagePath, float similarity, long timeoutMillis, long intervalMillis) {
+		if(similarity<0f || similarity>1f || timeoutMillis<0 || intervalMillis<1)
+			return -1;
+		long start = SAFE_WAIT_FOR_IMAGE.start();
+		Exception swallowed = null;
+		try {
+			return waitOnMonitors(loadTemplate(imagePath), similarity, timeoutMillis, intervalMillis);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_WAIT_FOR_IMAGE.stop(start, swallowed);
+		}
+	}
+	
+	private static int waitOnMonitors(SafeTemplateCache.Template template, float similarity, long timeoutMillis, long intervalMillis)
+			throws Exception {
+		return SafeHeadlessImageExists.waitForImage(() -> {
+			List<BufferedImage> frames = new ArrayList<>();
+			int numMonitors = Screen.getNumberScreens();
+			for(int currentMonitor=0; currentMonitor<numMonitors; currentMonitor++) {
+				frames.add(new Screen(currentMonitor).capture().getImage());
+			}
+			return frames;
+		}, template, similarity, null, timeoutMillis, intervalMillis);
+	}
+	
+	/**
+	 * Checks if each of the images stored at the passed in imagePaths exists on any monitor based on the passed
+	 * in similarity value. Every monitor is captured only once and all of the images are searched for in that
+	 * capture in parallel, using the same matching as SafeHeadlessImageExists. The returned map has an entry for
+	 * every distinct path in the order they were passed in, holding 1 if the image was found, 0 if it was not
+	 * found and -1 if an exception occurred while looking for that image. If the monitors can't be captured or
+	 * the similarity is outside of 0 to 1 then every path is given -1.
+	 * @param imagePaths -> Collection of String
+	 * @param similarity -> float
+	 * @return -> Map of String to Integer
+	 */
+	public static Map<String, Integer> safeImagesExist(Collection<String> imagePaths, float similarity) {
+		if(imagePaths==null)
+			return new LinkedHashMap<>();
+		if(similarity<0f || similarity>1f)
+			return SafeHeadlessImageExists.allFailed(imagePaths);
+		long start = SAFE_IMAGES_EXIST.start();
+		Exception swallowed = null;
+		try {
+			List<BufferedImage> screens = new ArrayList<>();
+			int numMonitors = Screen.getNumberScreens();
+			for(int currentMonitor=0; currentMonitor<numMonitors; currentMonitor++) {
+				screens.add(new Screen(currentMonitor).capture().getImage());
+			}
+			return SafeHeadlessImageExists.searchAll(screens, imagePaths, similarity);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return SafeHeadlessImageExists.allFailed(imagePaths);
+		}finally {
+			SAFE_IMAGES_EXIST.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as safeImagesExist(Collection, float) based on the similarity percentage of 95%.
+	 * @param imagePaths -> Collection of String
+	 * @return -> Map of String to Integer
+	 */
+	public static Map<String, Integer> safeImagesExist(Collection<String> imagePaths) {
+		return safeImagesExist(imagePaths, Image_Search_Constants.DEFAULT_SIMILARITY);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.Rectangle;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * The location where a template image was found inside a screen image together with its similarity score.
+ * The score is the normalized cross correlation of the two images and ranges from -1 to 1 where 1 is identical.
+ */
+public final class SafeImageMatch {
+
+	private final int x;
+	private final int y;
+	private final int width;
+	private final int height;
+	private final double score;
+
+	SafeImageMatch(int x, int y, int width, int height, double score) {
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+		this.score = score;
+	}
+
+	public int getX() {
+		return x;
+	}
+
+	public int getY() {
+		return y;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+	public Rectangle getRectangle() {
+		return new Rectangle(x, y, width, height);
+	}
+}
@@ -0,0 +1,268 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Keeps decoded template images in memory so the image validation methods that take a file path only read and
+ * decode each file once. A path is taken as a file path first and as a class path resource when no such file
+ * exists. SafeImageExists resolves its paths through Sikuli's ImagePath itself and passes the URL it finds, so
+ * nothing here needs Sikuli and SafeHeadlessImageExists works without it. Templates in files are looked up by
+ * their absolute path together with the file's modification time and size, so a template that is replaced on
+ * disk is read again on the next call. Templates in a jar or on the web are read once. The grayscale pyramid
+ * used by SafeHeadlessImageExists is built the first time it is needed and kept with the image, together with
+ * where the template was last found so the next search can look there first.
+ *
+ * The cache is bounded by the number of bytes its images and pyramids take. When it goes over the limit the
+ * templates that were used least recently are removed first. A single template bigger than the limit is still
+ * returned to the caller, it is just not kept.
+ *
+ * All methods in this class are static.
+ */
+public final class SafeTemplateCache {
+
+	/**
+	 * The default number of bytes the cache may hold.
+	 */
+	public static final long DEFAULT_MAX_BYTES = 64L*1024*1024;
+
+	private static final LinkedHashMap<String, Template> TEMPLATES = new LinkedHashMap<>(16, 0.75f, true);
+	private static long maxBytes = DEFAULT_MAX_BYTES;
+	private static long cachedBytes;
+	private static long hitCount;
+	private static long missCount;
+
+	private SafeTemplateCache() {
+	}
+
+	/**
+	 * Returns the decoded image stored at the passed in path, reading it from disk only if it is not cached or
+	 * the file changed since it was cached.
+	 * @param imagePath -> String
+	 * @return -> BufferedImage
+	 * @throws IOException -> if the file can't be read or decoded
+	 */
+	static BufferedImage loadImage(String imagePath) throws IOException {
+		return load(imagePath).image;
+	}
+
+	/**
+	 * Wraps an image that did not come from a file, such as the image of a Sikuli Pattern, so it can be used
+	 * wherever a cached template is expected. The template is not kept in the cache.
+	 * @param image -> BufferedImage
+	 * @return -> Template
+	 */
+	static Template uncached(BufferedImage image) {
+		return new Template(null, 0, 0, image);
+	}
+
+	/**
+	 * Returns the grayscale template pyramid of the image stored at the passed in path, building it only if it
+	 * is not cached yet.
+	 * @param imagePath -> String
+	 * @return -> GrayPyramid
+	 * @throws IOException -> if the file can't be read or decoded
+	 */
+	static GrayPyramid loadPyramid(String imagePath) throws IOException {
+		return pyramidOf(load(imagePath));
+	}
+
+	/**
+	 * Returns the grayscale template pyramid of the passed in cached template, building it only if it is not
+	 * cached yet.
+	 * @param template -> Template
+	 * @return -> GrayPyramid
+	 */
+	static GrayPyramid pyramidOf(Template template) {
+		GrayPyramid pyramid = template.pyramid;
+		if(pyramid!=null)
+			return pyramid;
+		pyramid = GrayPyramid.ofTemplate(template.image);
+		synchronized(SafeTemplateCache.class) {
+			if(template.pyramid==null) {
+				template.pyramid = pyramid;
+				if(template.key!=null && TEMPLATES.get(template.key)==template) {
+					template.bytes += pyramid.getByteSize();
+					cachedBytes += pyramid.getByteSize();
+					trim();
+				}
+			}
+			return template.pyramid;
+		}
+	}
+
+	/**
+	 * Returns the cached template stored at the passed in path, reading it only if it is not cached or the file
+	 * changed since it was cached. If there is no file at the path then it is looked up as a class path resource.
+	 * @param imagePath -> String
+	 * @return -> Template
+	 * @throws IOException -> if the file can't be found, read or decoded
+	 */
+	static Template load(String imagePath) throws IOException {
+		if(imagePath==null || imagePath.isEmpty())
+			throw new IOException("imagePath must be set");
+		Path path = Paths.get(imagePath).toAbsolutePath().normalize();
+		if(Files.isRegularFile(path))
+			return load(null, path);
+		URL resource = SafeTemplateCache.class.getClassLoader().getResource(imagePath.startsWith("/") ? imagePath.substring(1) : imagePath);
+		if(resource==null)
+			throw new NoSuchFileException(imagePath);
+		return load(resource);
+	}
+
+	/**
+	 * Returns the cached template stored at the passed in URL. A file URL is cached the same as its path, any
+	 * other URL is read once.
+	 * @param url -> URL
+	 * @return -> Template
+	 * @throws IOException -> if the URL can't be read or decoded
+	 */
+	static Template load(URL url) throws IOException {
+		if(url==null)
+			throw new IOException("url must be set");
+		Path path = pathOf(url);
+		return path==null ? load(url, null) : load(null, path);
+	}
+
+	/**
+	 * Reads the template from the path if it is not null and from the url otherwise.
+	 */
+	private static Template load(URL url, Path path) throws IOException {
+		String key = path==null ? url.toExternalForm() : path.toString();
+		long modified = path==null ? 0 : Files.getLastModifiedTime(path).toMillis();
+		long size = path==null ? 0 : Files.size(path);
+		synchronized(SafeTemplateCache.class) {
+			Template cached = TEMPLATES.get(key);
+			if(cached!=null && cached.modified==modified && cached.size==size) {
+				hitCount++;
+				return cached;
+			}
+			missCount++;
+		}
+		BufferedImage image = path==null ? ImageIO.read(url) : ImageIO.read(path.toFile());
+		if(image==null)
+			throw new IOException("no image reader for " + key);
+		Template template = new Template(key, modified, size, image);
+		synchronized(SafeTemplateCache.class) {
+			Template replaced = TEMPLATES.put(key, template);
+			if(replaced!=null)
+				cachedBytes -= replaced.bytes;
+			cachedBytes += template.bytes;
+			trim();
+		}
+		return template;
+	}
+
+	/**
+	 * Returns the file the passed in URL points to, or null if it is not a file.
+	 */
+	private static Path pathOf(URL url) {
+		if(!"file".equals(url.getProtocol()))
+			return null;
+		try {
+			return Paths.get(url.toURI()).toAbsolutePath().normalize();
+		}catch(URISyntaxException | IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes the least recently used templates until the cache is within its byte limit.
+	 */
+	private static void trim() {
+		Iterator<Template> iterator = TEMPLATES.values().iterator();
+		while(cachedBytes>maxBytes && iterator.hasNext()) {
+			cachedBytes -= iterator.next().bytes;
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Sets the number of bytes the cache may hold and removes templates until it fits. If the value is lower than
+	 * 0 then it is treated as 0, which turns the cache off.
+	 * @param bytes -> long
+	 */
+	public static synchronized void setMaxBytes(long bytes) {
+		maxBytes = Math.max(0, bytes);
+		trim();
+	}
+
+	public static synchronized long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public static synchronized long getCachedBytes() {
+		return cachedBytes;
+	}
+
+	public static synchronized int getCachedCount() {
+		return TEMPLATES.size();
+	}
+
+	/**
+	 * Returns the number of lookups that were answered from memory.
+	 * @return -> long
+	 */
+	public static synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of lookups that had to read the file from disk.
+	 * @return -> long
+	 */
+	public static synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Removes every template from the cache and resets the hit and miss counters.
+	 */
+	public static synchronized void clear() {
+		TEMPLATES.clear();
+		cachedBytes = 0;
+		hitCount = 0;
+		missCount = 0;
+	}
+
+	/**
+	 * A decoded template and the values it was cached under. lastHit is where the template was last found in
+	 * a captured image and lastScreenHit where Sikuli last found it in screen coordinates. Both are only ever used
+	 * as a hint of where to look first.
+	 */
+	static final class Template {
+		private final String key;
+		private final long modified;
+		private final long size;
+		final BufferedImage image;
+		volatile Rectangle lastHit;
+		volatile Rectangle lastScreenHit;
+		private volatile GrayPyramid pyramid;
+		private long bytes;
+
+		private Template(String key, long modified, long size, BufferedImage image) {
+			this.key = key;
+			this.modified = modified;
+			this.size = size;
+			this.image = image;
+			//the decoded pixels are what actually take the memory, the encoded file size is not a good estimate
+			this.bytes = (long)image.getWidth()*image.getHeight()*image.getColorModel().getPixelSize()/8;
+		}
+	}
+}
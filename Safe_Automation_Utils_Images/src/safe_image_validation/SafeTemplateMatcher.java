@@ -0,0 +1,239 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Finds a template inside a screen using normalized cross correlation on grayscale image pyramids. The whole
+ * screen is only scanned on the coarsest level both pyramids share, where it is a fraction of the size, and the
+ * best peaks of the whole level are followed down one level at a time by only checking a few pixels around where
+ * they landed. A peak is followed because it is among the best of its level and not because its coarse score
+ * passed a threshold, since blurring can push the coarse score of the real position below any fixed margin. The
+ * coarse scan is split into rows that run in parallel on the common fork join pool once there is enough work to
+ * make it worth it.
+ *
+ * All methods in this class are static.
+ */
+final class SafeTemplateMatcher {
+
+	/**
+	 * How many pixels around the projected position are checked on each finer level.
+	 */
+	private static final int REFINE_RADIUS = 2;
+
+	/**
+	 * The number of coarse peaks that are followed down to full size. Text and repeated icons produce many near
+	 * identical spots on the coarse level, so this is kept well above the number of real matches.
+	 */
+	private static final int MAX_CANDIDATES = 64;
+
+	/**
+	 * The number of best scoring positions of the coarse level the peaks are picked from. Only positions that are
+	 * not lower than the one to their right and higher than the one to their left are counted, and a kept peak
+	 * can hide at most three of those in each of the rows it covers, so this many always hold the MAX_CANDIDATES
+	 * best peaks.
+	 */
+	private static final int MAX_POSITIONS = MAX_CANDIDATES*(1+3*(2*REFINE_RADIUS+1));
+
+	/**
+	 * How far below the best peak of a finer level a peak may score and still be followed to the next level. Each
+	 * level is sharper than the one above, so the real position closes in on the best score as it goes down and
+	 * only peaks that clearly lost are dropped.
+	 */
+	private static final double LEVEL_MARGIN = 0.25;
+
+	/**
+	 * Below this many pixel operations the coarse scan runs on the calling thread.
+	 */
+	private static final long PARALLEL_WORK = 2_000_000L;
+
+	/**
+	 * Windows whose variance per pixel is below this value are treated as a flat color.
+	 */
+	private static final double FLAT_VARIANCE = 1.0;
+
+	/**
+	 * Searches the screen pyramid for the template pyramid and returns the best match if its score is at least the
+	 * passed in similarity. If the template is bigger than the screen or no position is similar enough then null
+	 * is returned.
+	 * @param screen -> GrayPyramid
+	 * @param template -> GrayPyramid
+	 * @param similarity -> double
+	 * @return -> SafeImageMatch
+	 */
+	static SafeImageMatch find(GrayPyramid screen, GrayPyramid template, double similarity) {
+		if(template.widths[0]>screen.widths[0] || template.heights[0]>screen.heights[0])
+			return null;
+		int top = Math.min(screen.levels, template.levels)-1;
+		//a level where the template no longer fits can happen when the screen is barely bigger than the template
+		while(top>0 && (template.widths[top]>screen.widths[top] || template.heights[top]>screen.heights[top]))
+			top--;
+		List<Candidate> candidates = scan(screen, template, top);
+		for(int level=top-1; level>=0; level--) {
+			List<Candidate> refined = new ArrayList<>(candidates.size());
+			double levelBest = -1;
+			for(Candidate candidate:candidates) {
+				Candidate moved = refine(screen, template, level, candidate.x*2, candidate.y*2);
+				refined.add(moved);
+				levelBest = Math.max(levelBest, moved.score);
+			}
+			candidates = new ArrayList<>(refined.size());
+			for(Candidate candidate:refined) {
+				if(candidate.score>=levelBest-LEVEL_MARGIN)
+					candidates.add(candidate);
+			}
+		}
+		Candidate best = null;
+		for(Candidate candidate:candidates) {
+			if(best==null || candidate.score>best.score)
+				best = candidate;
+		}
+		if(best==null || best.score<similarity)
+			return null;
+		return new SafeImageMatch(best.x, best.y, template.widths[0], template.heights[0], best.score);
+	}
+
+	/**
+	 * Scores every position on the passed in level and returns its MAX_CANDIDATES best peaks, best first, keeping
+	 * only one position per neighbourhood that a single refine step covers. Positions that score 0 or lower are
+	 * never a peak.
+	 */
+	private static List<Candidate> scan(GrayPyramid screen, GrayPyramid template, int level) {
+		int maxX = screen.widths[level]-template.widths[level];
+		int maxY = screen.heights[level]-template.heights[level];
+		long work = (long)(maxX+1)*(maxY+1)*template.widths[level]*template.heights[level];
+		IntStream rows = IntStream.rangeClosed(0, maxY);
+		if(work>=PARALLEL_WORK)
+			rows = rows.parallel();
+		BestPositions positions = rows.collect(BestPositions::new, (best, y) -> {
+			double[] scores = new double[maxX+1];
+			for(int x=0; x<=maxX; x++) {
+				scores[x] = score(screen, template, level, x, y);
+			}
+			for(int x=0; x<=maxX; x++) {
+				boolean peak = scores[x]>0 && (x==0 || scores[x]>scores[x-1]) && (x==maxX || scores[x]>=scores[x+1]);
+				if(peak)
+					best.add(new Candidate(x, y, scores[x]));
+			}
+		}, BestPositions::addAll);
+		List<Candidate> found = new ArrayList<>(positions.queue);
+		found.sort(Comparator.comparingDouble((Candidate c) -> c.score).reversed());
+		List<Candidate> kept = new ArrayList<>();
+		for(Candidate candidate:found) {
+			boolean separate = true;
+			for(Candidate other:kept) {
+				if(Math.abs(other.x-candidate.x)<=REFINE_RADIUS && Math.abs(other.y-candidate.y)<=REFINE_RADIUS) {
+					separate = false;
+					break;
+				}
+			}
+			if(separate) {
+				kept.add(candidate);
+				if(kept.size()==MAX_CANDIDATES)
+					break;
+			}
+		}
+		return kept;
+	}
+
+	/**
+	 * Returns the best scoring position within REFINE_RADIUS pixels of the passed in position on the passed in level.
+	 */
+	private static Candidate refine(GrayPyramid screen, GrayPyramid template, int level, int centerX, int centerY) {
+		int maxX = screen.widths[level]-template.widths[level];
+		int maxY = screen.heights[level]-template.heights[level];
+		Candidate best = null;
+		for(int y=Math.max(0, centerY-REFINE_RADIUS); y<=Math.min(maxY, centerY+REFINE_RADIUS); y++) {
+			for(int x=Math.max(0, centerX-REFINE_RADIUS); x<=Math.min(maxX, centerX+REFINE_RADIUS); x++) {
+				double score = score(screen, template, level, x, y);
+				if(best==null || score>best.score)
+					best = new Candidate(x, y, score);
+			}
+		}
+		return best==null ? new Candidate(Math.min(Math.max(centerX, 0), maxX), Math.min(Math.max(centerY, 0), maxY), -1) : best;
+	}
+
+	/**
+	 * Returns the normalized cross correlation of the template and the window of the screen at x, y. The screen
+	 * window mean and variance are collected in the same pass as the cross term. If the template or the window is
+	 * a flat color the correlation is undefined, so two flat areas score by how close their colors are and a flat
+	 * area never matches a textured one.
+	 */
+	static double score(GrayPyramid screen, GrayPyramid template, int level, int x, int y) {
+		byte[] pixels = screen.gray[level];
+		int screenWidth = screen.widths[level];
+		float[] centered = template.zeroMean[level];
+		int templateWidth = template.widths[level];
+		int templateHeight = template.heights[level];
+		long sum = 0;
+		long squares = 0;
+		double cross = 0;
+		for(int ty=0; ty<templateHeight; ty++) {
+			int row = (y+ty)*screenWidth+x;
+			int templateRow = ty*templateWidth;
+			for(int tx=0; tx<templateWidth; tx++) {
+				int value = pixels[row+tx]&0xFF;
+				sum += value;
+				squares += value*value;
+				cross += value*centered[templateRow+tx];
+			}
+		}
+		int count = templateWidth*templateHeight;
+		double variance = squares-(double)sum*sum/count;
+		double templateVariance = template.deviation[level];
+		boolean flatWindow = variance<FLAT_VARIANCE*count;
+		boolean flatTemplate = templateVariance<FLAT_VARIANCE*count;
+		if(flatWindow || flatTemplate) {
+			if(flatWindow && flatTemplate)
+				return 1-Math.abs(sum/(double)count-template.mean[level])/255.0;
+			return 0;
+		}
+		//rounding in the float template values can push a perfect match slightly past 1
+		return Math.min(1, cross/Math.sqrt(variance*templateVariance));
+	}
+
+	/**
+	 * Keeps the MAX_POSITIONS best scoring positions of the rows it was given, across all rows.
+	 */
+	private static final class BestPositions {
+		private final PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.score));
+
+		private void add(Candidate candidate) {
+			if(queue.size()<MAX_POSITIONS) {
+				queue.add(candidate);
+			}else if(candidate.score>queue.peek().score) {
+				queue.poll();
+				queue.add(candidate);
+			}
+		}
+
+		private void addAll(BestPositions other) {
+			for(Candidate candidate:other.queue) {
+				add(candidate);
+			}
+		}
+	}
+
+	/**
+	 * A scored position on a single pyramid level.
+	 */
+	private static final class Candidate {
+		private final int x;
+		private final int y;
+		private final double score;
+
+		private Candidate(int x, int y, double score) {
+			this.x = x;
+			this.y = y;
+			this.score = score;
+		}
+	}
+}
@@ -0,0 +1,272 @@
+package safe_automation_utils.safe_image_validation;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+import safe_automation_utils.safe_screenshots.SafeWebElementScreenshot;
+import safe_automation_utils.safe_utils.HelperUtils;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Contains methods that provide a safe way to compare a screenshot against a baseline image. The images are
+ * split into tiles that are compared in parallel on the common fork join pool, and every tile stops as soon as
+ * the shared mismatch count goes over the budget in the SafeCompareOptions.
+ *
+ * All methods in this class are static.
+ */
+public final class SafeVisualCompare {
+
+	private static final SafeMethodProbe SAFE_COMPARE_IMAGES = SafeMetrics.probe("SafeVisualCompare.safeCompareImages");
+	private static final SafeMethodProbe SAFE_COMPARE_WEB_ELEMENT_TO_BASELINE = SafeMetrics.probe("SafeVisualCompare.safeCompareWebElementToBaseline");
+	private static final SafeMethodProbe SAFE_COMPARE_WEB_ELEMENT_TO_BASELINE_BY_STRING = SafeMetrics.probe("SafeVisualCompare.safeCompareWebElementToBaselineByString");
+
+	private static final byte MASK_MISMATCH = (byte)0xFF;
+
+	/**
+	 * Attempts to compare the actual BufferedImage against the baseline BufferedImage using the passed in options.
+	 * If either image or the options are null then null is returned. If an exception occurs during the process
+	 * then null is returned. If the comparison completes then the SafeCompareResult is returned. Images of
+	 * different sizes never match and are not compared pixel by pixel.
+	 * @param actual -> BufferedImage
+	 * @param baseline -> BufferedImage
+	 * @param options -> SafeCompareOptions
+	 * @return -> SafeCompareResult
+	 */
+	public static SafeCompareResult safeCompareImages(BufferedImage actual, BufferedImage baseline, SafeCompareOptions options) {
+		if(actual==null || baseline==null || options==null)
+			return null;
+		long start = SAFE_COMPARE_IMAGES.start();
+		Exception swallowed = null;
+		try {
+			int width = actual.getWidth();
+			int height = actual.getHeight();
+			if(width!=baseline.getWidth() || height!=baseline.getHeight())
+				return new SafeCompareResult(false, true, 0, 0, options.getMismatchBudget(), null);
+			BufferedImage diffMask = options.isDiffMask() ? new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY) : null;
+			CompareJob job = new CompareJob(actual, baseline, options, diffMask);
+			int tileSize = options.getTileSize();
+			List<TileTask> tiles = new ArrayList<>();
+			for(int y=0; y<height; y+=tileSize) {
+				for(int x=0; x<width; x+=tileSize) {
+					tiles.add(new TileTask(job, new Rectangle(x, y, Math.min(tileSize, width-x), Math.min(tileSize, height-y))));
+				}
+			}
+			ForkJoinTask.invokeAll(tiles);
+			return new SafeCompareResult(true, !job.stopped, job.mismatches.get(), job.compared.get(),
+					options.getMismatchBudget(), diffMask);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return null;
+		}finally {
+			SAFE_COMPARE_IMAGES.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * Attempts to compare a fresh screenshot of the passed in WebElement against the baseline image stored at the
+	 * baselinePath String value. If the images don't match and the diffMaskPath String value is not blank then the
+	 * diff mask is written there as a png. If the WebDriver, WebElement or options are null or the baselinePath String
+	 * object is null or blank then -1 is returned. If an exception occurs during the process then -1 is returned. If
+	 * the images don't match then 0 is returned. If the images match then 1 is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @param baselinePath -> String
+	 * @param options -> SafeCompareOptions
+	 * @param diffMaskPath -> String
+	 * @return -> int
+	 */
+	public static int safeCompareWebElementToBaseline(WebDriver driver, WebElement element, String baselinePath,
+			SafeCompareOptions options, String diffMaskPath) {
+		if(driver==null || element==null || baselinePath.isEmpty() || options==null)
+			return -1;
+		long start = SAFE_COMPARE_WEB_ELEMENT_TO_BASELINE.start();
+		Exception swallowed = null;
+		try {
+			BufferedImage baseline = ImageIO.read(new File(baselinePath));
+			BufferedImage actual = SafeWebElementScreenshot.safeCaptureWebElement(driver, element);
+			SafeCompareResult result = safeCompareImages(actual, baseline, options);
+			if(result==null)
+				return -1;
+			if(result.isMatch())
+				return 1;
+			if(diffMaskPath!=null && !diffMaskPath.isEmpty() && result.getDiffMask()!=null)
+				ImageIO.write(result.getDiffMask(), "png", new File(diffMaskPath));
+			return 0;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_COMPARE_WEB_ELEMENT_TO_BASELINE.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * Performs the same action as safeCompareWebElementToBaseline(WebDriver, WebElement, String, SafeCompareOptions,
+	 * String) for the WebElement that matches the passed in source String value. If the source String object or
+	 * sourceType String object are null or blank then -1 is returned. If the WebElement is not found then -1 is
+	 * returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param baselinePath -> String
+	 * @param options -> SafeCompareOptions
+	 * @param diffMaskPath -> String
+	 * @return -> int
+	 */
+	public static int safeCompareWebElementToBaselineByString(WebDriver driver, String source, String sourceType,
+			String baselinePath, SafeCompareOptions options, String diffMaskPath) {
+		if(driver==null || source.isEmpty() || sourceType.isEmpty())
+			return -1;
+		long start = SAFE_COMPARE_WEB_ELEMENT_TO_BASELINE_BY_STRING.start();
+		Exception swallowed = null;
+		try {
+			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
+			return safeCompareWebElementToBaseline(driver, sourceElement, baselinePath, options, diffMaskPath);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return -1;
+		}finally {
+			SAFE_COMPARE_WEB_ELEMENT_TO_BASELINE_BY_STRING.stop(start, swallowed);
+		}
+	}
+
+	/**
+	 * The state shared by every tile of a single comparison.
+	 */
+	private static final class CompareJob {
+		private final BufferedImage actual;
+		private final BufferedImage baseline;
+		private final int tolerance;
+		private final long budget;
+		private final boolean earlyExit;
+		private final List<Rectangle> ignoreRegions;
+		private final byte[] mask;
+		private final int maskWidth;
+		private final AtomicLong mismatches = new AtomicLong();
+		private final AtomicLong compared = new AtomicLong();
+		private volatile boolean stopped;
+
+		private CompareJob(BufferedImage actual, BufferedImage baseline, SafeCompareOptions options, BufferedImage diffMask) {
+			this.actual = actual;
+			this.baseline = baseline;
+			this.tolerance = options.getTolerance();
+			this.budget = options.getMismatchBudget();
+			this.earlyExit = options.isEarlyExit();
+			this.ignoreRegions = options.getIgnoreRegions();
+			this.mask = diffMask==null ? null : ((DataBufferByte)diffMask.getRaster().getDataBuffer()).getData();
+			this.maskWidth = actual.getWidth();
+		}
+	}
+
+	/**
+	 * Compares a single tile. The tile reads its own pixels so the conversion to RGB also runs in parallel, and
+	 * the mask is written directly since tiles never share a mask byte.
+	 */
+	private static final class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final CompareJob job;
+		private final Rectangle tile;
+
+		private TileTask(CompareJob job, Rectangle tile) {
+			this.job = job;
+			this.tile = tile;
+		}
+
+		@Override
+		protected void compute() {
+			if(job.stopped)
+				return;
+			List<Rectangle> ignored = new ArrayList<>();
+			for(Rectangle region:job.ignoreRegions) {
+				if(region.contains(tile))
+					return;
+				if(region.intersects(tile))
+					ignored.add(region);
+			}
+			int width = tile.width;
+			int[] actualPixels = readTile(job.actual, tile);
+			int[] baselinePixels = readTile(job.baseline, tile);
+			int tolerance = job.tolerance;
+			long tileCompared = 0;
+			for(int row=0; row<tile.height; row++) {
+				if(job.stopped)
+					break;
+				int y = tile.y + row;
+				long rowMismatches = 0;
+				for(int col=0; col<width; col++) {
+					int x = tile.x + col;
+					if(!ignored.isEmpty() && isIgnored(ignored, x, y))
+						continue;
+					tileCompared++;
+					int a = actualPixels[row*width+col];
+					int b = baselinePixels[row*width+col];
+					if(a==b)
+						continue;
+					if(Math.abs(((a>>16)&0xFF)-((b>>16)&0xFF))>tolerance || Math.abs(((a>>8)&0xFF)-((b>>8)&0xFF))>tolerance
+							|| Math.abs((a&0xFF)-(b&0xFF))>tolerance) {
+						rowMismatches++;
+						if(job.mask!=null)
+							job.mask[y*job.maskWidth+x] = MASK_MISMATCH;
+					}
+				}
+				if(rowMismatches>0 && job.mismatches.addAndGet(rowMismatches)>job.budget && job.earlyExit)
+					job.stopped = true;
+			}
+			job.compared.addAndGet(tileCompared);
+		}
+
+		/**
+		 * Reads the pixels of the tile as RGB ints. The image types decoded from driver screenshots are copied out
+		 * of the raster in bulk, since getRGB converts every pixel through the color model which is several times
+		 * slower. The alpha bits are not filled in for those types which is fine since only the color channels
+		 * are compared.
+		 */
+		private static int[] readTile(BufferedImage image, Rectangle tile) {
+			int count = tile.width*tile.height;
+			switch(image.getType()) {
+				case BufferedImage.TYPE_INT_RGB:
+				case BufferedImage.TYPE_INT_ARGB:
+					return (int[])image.getRaster().getDataElements(tile.x, tile.y, tile.width, tile.height, null);
+				case BufferedImage.TYPE_3BYTE_BGR:
+				case BufferedImage.TYPE_4BYTE_ABGR:
+					//the data elements are returned in band order so every pixel starts with red, green and blue
+					byte[] bands = (byte[])image.getRaster().getDataElements(tile.x, tile.y, tile.width, tile.height, null);
+					int stride = bands.length/count;
+					int[] pixels = new int[count];
+					for(int x=0, offset=0; x<count; x++, offset+=stride) {
+						pixels[x] = ((bands[offset]&0xFF)<<16) | ((bands[offset+1]&0xFF)<<8) | (bands[offset+2]&0xFF);
+					}
+					return pixels;
+				default:
+					return image.getRGB(tile.x, tile.y, tile.width, tile.height, null, 0, tile.width);
+			}
+		}
+
+		private static boolean isIgnored(List<Rectangle> regions, int x, int y) {
+			for(Rectangle region:regions) {
+				if(region.contains(x, y))
+					return true;
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package safe_automation_utils.safe_image_validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Checks that SafeHeadlessImageExists searches template files without Sikuli on the class path, the way the
+ * README promises for tests that exclude sikulixapi, and that it reports a failed search apart from a miss.
+ */
+public class SafeHeadlessImageExistsTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void searchesTemplateFilesWithoutSikuli() throws Exception {
+		BufferedImage screen = screen();
+		File template = folder.newFile("button.png");
+		ImageIO.write(screen.getSubimage(40, 30, 24, 16), "png", template);
+		ClassLoader loader = new WithoutSikuli(getClass().getClassLoader());
+		Class<?> headless = loader.loadClass(SafeHeadlessImageExists.class.getName());
+
+		Method exists = headless.getMethod("safeImageExists", BufferedImage.class, String.class, float.class);
+		assertEquals(1, exists.invoke(null, screen, template.getPath(), 0.95f));
+		Method allExist = headless.getMethod("safeImagesExist", BufferedImage.class, java.util.Collection.class, float.class);
+		Map<?, ?> found = (Map<?, ?>)allExist.invoke(null, screen, Collections.singletonList(template.getPath()), 0.95f);
+		assertEquals(1, found.get(template.getPath()));
+	}
+
+	@Test
+	public void isolatesSikuli() {
+		try {
+			new WithoutSikuli(getClass().getClassLoader()).loadClass("org.sikuli.script.Image");
+			fail("org.sikuli.script.Image was loaded");
+		}catch(ClassNotFoundException ex) {
+			//expected, the check above would pass without it otherwise
+		}
+	}
+
+	@Test
+	public void reportsExceptionsApartFromMisses() {
+		BufferedImage broken = new BufferedImage(200, 120, BufferedImage.TYPE_INT_RGB) {
+			@Override
+			public int[] getRGB(int startX, int startY, int w, int h, int[] rgbArray, int offset, int scansize) {
+				throw new IllegalStateException("unreadable");
+			}
+		};
+		BufferedImage template = screen().getSubimage(40, 30, 24, 16);
+		assertEquals(-1, SafeHeadlessImageExists.safeImageExists(broken, template, 0.95f));
+		assertNull(SafeHeadlessImageExists.safeFindImage(broken, template, 0.95f));
+		assertEquals(0, SafeHeadlessImageExists.safeImageExists(new BufferedImage(200, 120, BufferedImage.TYPE_INT_RGB), template, 0.95f));
+	}
+
+	private static BufferedImage screen() {
+		BufferedImage screen = new BufferedImage(200, 120, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = screen.createGraphics();
+		graphics.setColor(Color.WHITE);
+		graphics.fillRect(0, 0, 200, 120);
+		graphics.setColor(Color.BLUE);
+		graphics.fillRect(44, 34, 16, 8);
+		graphics.setColor(Color.RED);
+		graphics.drawLine(40, 30, 63, 45);
+		graphics.dispose();
+		return screen;
+	}
+
+	/**
+	 * Defines the safe_image_validation classes itself, so everything they link against is looked up through this
+	 * loader, and hides every Sikuli class from them.
+	 */
+	private static final class WithoutSikuli extends ClassLoader {
+
+		private static final String PACKAGE = SafeHeadlessImageExists.class.getPackage().getName() + ".";
+
+		WithoutSikuli(ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override
+		protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if(name.startsWith("org.sikuli."))
+				throw new ClassNotFoundException(name);
+			if(!name.startsWith(PACKAGE) || name.endsWith("Test") || name.contains("Test$"))
+				return super.loadClass(name, resolve);
+			Class<?> loaded = findLoadedClass(name);
+			if(loaded==null) {
+				byte[] bytes = read(name);
+				loaded = defineClass(name, bytes, 0, bytes.length);
+			}
+			if(resolve)
+				resolveClass(loaded);
+			return loaded;
+		}
+
+		private byte[] read(String name) throws ClassNotFoundException {
+			try(InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+				if(in==null)
+					throw new ClassNotFoundException(name);
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] buffer = new byte[8192];
+				for(int read = in.read(buffer); read>=0; read = in.read(buffer))
+					out.write(buffer, 0, read);
+				return out.toByteArray();
+			}catch(IOException ex) {
+				throw new ClassNotFoundException(name, ex);
+			}
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package safe_automation_utils.safe_image_validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Crops templates out of generated screens and checks that SafeTemplateMatcher finds them at exactly the position
+ * they were cropped from.
+ */
+public class SafeTemplateMatcherTest {
+
+	@Test
+	public void findsTemplatesCroppedAtOddOffsets() {
+		BufferedImage screen = blocks(new Random(42), 640, 400);
+		//halving with a plain 2x2 average lost every one of these
+		int[][] crops = {{613, 157, 18, 23}, {403, 215, 18, 16}, {349, 81, 33, 18}, {539, 147, 24, 18},
+				{63, 283, 26, 16}, {553, 143, 25, 19}, {473, 169, 16, 52}};
+		for(int[] crop:crops) {
+			assertFound(screen, crop[0], crop[1], crop[2], crop[3]);
+		}
+	}
+
+	@Test
+	public void findsTemplatesWhoseCoarseScoreIsLow() {
+		//on noise the coarse score of these crops falls far below the requested similarity
+		assertFound(noise(1882), 31, 103, 27, 25);
+		assertFound(noise(3380), 155, 109, 31, 29);
+		assertFound(noise(4734), 25, 3, 24, 51);
+	}
+
+	@Test
+	public void findsTemplateBehindDecoysInItsRow() {
+		//the stripes to the left score higher than the template on the coarse level at hundreds of positions of the
+		//same row, while only the template itself keeps its detail on the finer levels
+		Random random = new Random(3);
+		int size = 40;
+		int x = 601;
+		int y = 101;
+		BufferedImage screen = new BufferedImage(720, 240, BufferedImage.TYPE_INT_RGB);
+		for(int row=0; row<screen.getHeight(); row++) {
+			for(int column=0; column<screen.getWidth(); column++) {
+				screen.setRGB(column, row, gray(128+random.nextInt(81)-40));
+			}
+		}
+		for(int row=y; row<y+size; row++) {
+			int stripe = (int)(80*Math.sin(2*Math.PI*(row-y)/16));
+			for(int column=0; column<540; column++) {
+				screen.setRGB(column, row, gray(128+stripe));
+			}
+			for(int column=x; column<x+size; column++) {
+				screen.setRGB(column, row, gray(128+stripe+random.nextInt(81)-40));
+			}
+		}
+		assertFound(screen, x, y, size, size);
+	}
+
+	private static void assertFound(BufferedImage screen, int x, int y, int width, int height) {
+		BufferedImage template = screen.getSubimage(x, y, width, height);
+		SafeImageMatch match = SafeTemplateMatcher.find(GrayPyramid.ofScreen(screen), GrayPyramid.ofTemplate(template), 0.9);
+		String crop = width + "x" + height + " at " + x + "," + y;
+		assertNotNull(crop, match);
+		assertEquals(crop, x, match.getX());
+		assertEquals(crop, y, match.getY());
+	}
+
+	private static BufferedImage blocks(Random random, int width, int height) {
+		BufferedImage screen = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = screen.createGraphics();
+		for(int x=0; x<1500; x++) {
+			graphics.setColor(new Color(random.nextInt(0x1000000)));
+			graphics.fillRect(random.nextInt(width), random.nextInt(height), 2+random.nextInt(30), 2+random.nextInt(30));
+		}
+		graphics.dispose();
+		return screen;
+	}
+
+	/**
+	 * Builds the 240x160 noise screen of the passed in seed the same way the crops above were found, where the
+	 * seed first picked the size and position of the crop.
+	 */
+	private static BufferedImage noise(long seed) {
+		Random random = new Random(seed);
+		int width = 24+random.nextInt(40);
+		int height = 24+random.nextInt(40);
+		random.nextInt(240-width);
+		random.nextInt(160-height);
+		BufferedImage screen = new BufferedImage(240, 160, BufferedImage.TYPE_INT_RGB);
+		for(int y=0; y<screen.getHeight(); y++) {
+			for(int x=0; x<screen.getWidth(); x++) {
+				screen.setRGB(x, y, random.nextInt(0x1000000));
+			}
+		}
+		return screen;
+	}
+
+	private static int gray(int value) {
+		int clamped = Math.max(0, Math.min(255, value));
+		return clamped*0x010101;
+	}
+}
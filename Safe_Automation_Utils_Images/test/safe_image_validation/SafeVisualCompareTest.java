@@ -0,0 +1,96 @@
+package safe_automation_utils.safe_image_validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Checks that SafeVisualCompare stops once the mismatch budget is exceeded and that it never compares the
+ * pixels inside an ignore region, including regions that only cover part of a tile.
+ */
+public class SafeVisualCompareTest {
+
+	private static final int SIZE = 256;
+	private static final SafeCompareOptions OPTIONS = SafeCompareOptions.DEFAULT.withTileSize(16);
+
+	@Test
+	public void stopsOnceTheBudgetIsExceeded() {
+		BufferedImage baseline = filled(Color.WHITE);
+		BufferedImage actual = filled(Color.BLACK);
+		SafeCompareResult result = SafeVisualCompare.safeCompareImages(actual, baseline, OPTIONS.withMismatchBudget(100));
+		assertFalse(result.isMatch());
+		assertFalse(result.isComplete());
+		assertTrue(result.getMismatchedPixels()>100);
+		assertTrue("compared " + result.getComparedPixels(), result.getComparedPixels()<SIZE*SIZE);
+	}
+
+	@Test
+	public void comparesEveryPixelWithoutEarlyExit() {
+		BufferedImage baseline = filled(Color.WHITE);
+		BufferedImage actual = filled(Color.BLACK);
+		SafeCompareResult result = SafeVisualCompare.safeCompareImages(actual, baseline,
+				OPTIONS.withMismatchBudget(100).withEarlyExit(false));
+		assertFalse(result.isMatch());
+		assertTrue(result.isComplete());
+		assertEquals(SIZE*SIZE, result.getMismatchedPixels());
+		assertEquals(SIZE*SIZE, result.getComparedPixels());
+	}
+
+	@Test
+	public void matchesWithinTheBudget() {
+		BufferedImage baseline = filled(Color.WHITE);
+		BufferedImage actual = filled(Color.WHITE);
+		paint(actual, new Rectangle(100, 100, 10, 10), Color.BLACK);
+		assertTrue(SafeVisualCompare.safeCompareImages(actual, baseline, OPTIONS.withMismatchBudget(100)).isMatch());
+		SafeCompareResult result = SafeVisualCompare.safeCompareImages(actual, baseline, OPTIONS.withMismatchBudget(99));
+		assertFalse(result.isMatch());
+		assertEquals(100, result.getMismatchedPixels());
+	}
+
+	@Test
+	public void skipsIgnoreRegions() {
+		//the first region covers whole tiles, the second one straddles four tiles without covering any of them
+		Rectangle whole = new Rectangle(32, 32, 32, 32);
+		Rectangle straddling = new Rectangle(150, 150, 20, 12);
+		BufferedImage baseline = filled(Color.WHITE);
+		BufferedImage actual = filled(Color.WHITE);
+		paint(actual, whole, Color.BLACK);
+		paint(actual, straddling, Color.BLACK);
+		actual.setRGB(200, 10, 0x000000);
+		SafeCompareResult result = SafeVisualCompare.safeCompareImages(actual, baseline,
+				OPTIONS.withIgnoreRegion(whole).withIgnoreRegion(straddling).withMismatchBudget(1));
+		assertTrue(result.isMatch());
+		assertTrue(result.isComplete());
+		assertEquals(1, result.getMismatchedPixels());
+		assertEquals(SIZE*SIZE - 32*32 - 20*12, result.getComparedPixels());
+		BufferedImage mask = result.getDiffMask();
+		assertEquals(0xFFFFFF, mask.getRGB(200, 10) & 0xFFFFFF);
+		assertEquals(0, mask.getRGB(40, 40) & 0xFFFFFF);
+		assertEquals(0, mask.getRGB(160, 155) & 0xFFFFFF);
+	}
+
+	private static BufferedImage filled(Color color) {
+		BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+		paint(image, new Rectangle(0, 0, SIZE, SIZE), color);
+		return image;
+	}
+
+	private static void paint(BufferedImage image, Rectangle region, Color color) {
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(color);
+		graphics.fill(region);
+		graphics.dispose();
+	}
+}
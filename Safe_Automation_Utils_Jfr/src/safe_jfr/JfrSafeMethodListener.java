@@ -0,0 +1,97 @@
+package safe_automation_utils.safe_jfr;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import jdk.jfr.EventType;
+import safe_automation_utils.safe_metrics.SafeMethodListener;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Writes a SafeOperationEvent for every safe method call, so the time spent in the library shows up in a Java
+ * Flight Recorder recording next to GC, network and CPU events. It is registered through META-INF/services, so
+ * having this module on the classpath is all that is needed.
+ *
+ * Every thread keeps the events of the calls it is in the middle of. A locator is given to the innermost call,
+ * and a call that did not use a locator itself takes the one of the last call nested in it, so
+ * SafeClick.safeClickByString shows the locator HelperUtils.locateWebElement was given. While no recording has the
+ * event enabled no event is created, and a call costs a read of the enabled state of the event type when it starts
+ * and a thread local lookup of an empty stack when it finishes.
+ */
+public final class JfrSafeMethodListener implements SafeMethodListener {
+
+	private static final ThreadLocal<ArrayDeque<SafeOperationEvent>> OPEN_EVENTS = ThreadLocal.withInitial(ArrayDeque::new);
+	private static final EventType EVENT_TYPE = eventType();
+
+	@Override
+	public void methodStarted(String methodName) {
+		if(EVENT_TYPE==null || !EVENT_TYPE.isEnabled())
+			return;
+		SafeOperationEvent event = new SafeOperationEvent();
+		event.operation = methodName;
+		event.begin();
+		OPEN_EVENTS.get().push(event);
+	}
+
+	@Override
+	public void locatorUsed(String locatorType, String locator) {
+		SafeOperationEvent event = OPEN_EVENTS.get().peek();
+		if(event==null)
+			return;
+		event.locatorType = locatorType;
+		event.locator = locator;
+	}
+
+	@Override
+	public void methodFinished(String methodName, String outcome, Throwable swallowed) {
+		ArrayDeque<SafeOperationEvent> open = OPEN_EVENTS.get();
+		SafeOperationEvent event = pop(open, methodName);
+		if(event==null)
+			return;
+		event.end();
+		SafeOperationEvent caller = open.peek();
+		if(caller!=null && caller.locator==null) {
+			caller.locatorType = event.locatorType;
+			caller.locator = event.locator;
+		}
+		if(event.shouldCommit()) {
+			event.outcome = outcome;
+			event.exception = swallowed==null ? null : swallowed.getClass().getName();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Returns the event type of SafeOperationEvent, or null if the JVM has no Flight Recorder.
+	 */
+	private static EventType eventType() {
+		try {
+			return EventType.getEventType(SafeOperationEvent.class);
+		}catch(RuntimeException | InternalError ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes and returns the innermost open event of the passed in method, dropping any event opened after it
+	 * whose method never finished. If the method has no open event then nothing is removed and null is returned.
+	 */
+	private static SafeOperationEvent pop(ArrayDeque<SafeOperationEvent> open, String methodName) {
+		Iterator<SafeOperationEvent> events = open.iterator();
+		int depth = 0;
+		while(events.hasNext()) {
+			depth++;
+			if(events.next().operation.equals(methodName)) {
+				for(int x=1; x<depth; x++) {
+					open.pop();
+				}
+				return open.pop();
+			}
+		}
+		return null;
+	}
+}
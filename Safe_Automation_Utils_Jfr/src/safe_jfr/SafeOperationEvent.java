@@ -0,0 +1,55 @@
+package safe_automation_utils.safe_jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * The Java Flight Recorder event written for a single call of a safe method or HelperUtils.locateWebElement.
+ * By default only calls taking 20 ms or longer are written, which is about the time of a single command to a
+ * local browser, so a recording holds the slow steps of a run and not every element lookup. The threshold
+ * is the event setting safe_automation_utils.SafeOperation#threshold and can be changed in a .jfc file or
+ * with Recording.enable. Stack traces are off since the operation name already says where the call came from.
+ */
+@Name(SafeOperationEvent.NAME)
+@Label("Safe Operation")
+@Category({"Safe Automation Utils"})
+@Description("A call of a safe method of Safe_Automation_Utils")
+@Threshold("20 ms")
+@StackTrace(false)
+public final class SafeOperationEvent extends Event {
+
+	/**
+	 * The name of the event type in a recording.
+	 */
+	public static final String NAME = "safe_automation_utils.SafeOperation";
+
+	@Label("Operation")
+	@Description("The class and method that was called")
+	String operation;
+
+	@Label("Locator Type")
+	@Description("The type of locator used to find the element, if one was used")
+	String locatorType;
+
+	@Label("Locator")
+	@Description("The locator used to find the element, if one was used")
+	String locator;
+
+	@Label("Outcome")
+	@Description("COMPLETED if no exception was swallowed, otherwise why the call failed")
+	String outcome;
+
+	@Label("Exception")
+	@Description("The class of the exception that was swallowed")
+	String exception;
+}
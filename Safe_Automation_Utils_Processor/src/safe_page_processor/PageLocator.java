@@ -0,0 +1,71 @@
+package safe_automation_utils.safe_page_processor;
+
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_page_objects.SafeLocator;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A single SafeLocator field of a SafePage class together with the names of what is generated for it.
+ */
+final class PageLocator {
+
+	final String fieldName;
+	final String type;
+	final SafeLocator.Kind kind;
+	/**
+	 * The name of the element method, for example userName for the field USER_NAME.
+	 */
+	final String methodName;
+	/**
+	 * The method name starting with an upper case letter, for the names of the other accessors.
+	 */
+	final String capitalized;
+
+	PageLocator(String fieldName, String type, SafeLocator.Kind kind) {
+		this.fieldName = fieldName;
+		this.type = type;
+		this.kind = kind;
+		this.methodName = toMethodName(fieldName);
+		this.capitalized = Character.toUpperCase(methodName.charAt(0)) + methodName.substring(1);
+	}
+
+	/**
+	 * Returns the factory method of By for the locator type.
+	 */
+	String byMethod() {
+		switch(type) {
+			case Locator_Type_Constants.XPATH:
+				return "xpath";
+			case Locator_Type_Constants.CLASSNAME:
+				return "className";
+			case Locator_Type_Constants.CSSSELECTOR:
+				return "cssSelector";
+			default:
+				return "id";
+		}
+	}
+
+	/**
+	 * Turns a constant name like USER_NAME into userName and leaves names that already are camel case alone,
+	 * apart from lower casing their first letter.
+	 */
+	static String toMethodName(String fieldName) {
+		if(!fieldName.equals(fieldName.toUpperCase()))
+			return Character.toLowerCase(fieldName.charAt(0)) + fieldName.substring(1);
+		StringBuilder name = new StringBuilder();
+		boolean upperNext = false;
+		for(char letter:fieldName.toCharArray()) {
+			if(letter=='_') {
+				upperNext = name.length()>0;
+				continue;
+			}
+			name.append(upperNext ? letter : Character.toLowerCase(letter));
+			upperNext = false;
+		}
+		return name.length()==0 ? fieldName : name.toString();
+	}
+}
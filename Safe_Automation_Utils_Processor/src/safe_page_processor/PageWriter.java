@@ -0,0 +1,156 @@
+package safe_automation_utils.safe_page_processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import safe_automation_utils.safe_page_objects.SafeLocator;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Writes the source of the page object for the locators of one SafePage class.
+ */
+final class PageWriter {
+
+	private final String packageName;
+	private final String pageName;
+	private final String specName;
+	private final List<PageLocator> locators;
+	private final StringBuilder source = new StringBuilder();
+
+	PageWriter(String packageName, String pageName, String specName, List<PageLocator> locators) {
+		this.packageName = packageName;
+		this.pageName = pageName;
+		this.specName = specName;
+		this.locators = locators;
+	}
+
+	/**
+	 * Returns the names of every method generated for the locator.
+	 */
+	static List<String> methodNames(PageLocator locator) {
+		List<String> names = new ArrayList<>();
+		names.add(locator.methodName);
+		names.add("click" + locator.capitalized);
+		names.add("get" + locator.capitalized + "Text");
+		if(locator.kind==SafeLocator.Kind.TEXT_FIELD) {
+			names.add("set" + locator.capitalized + "Text");
+			names.add("get" + locator.capitalized + "Value");
+		}else if(locator.kind==SafeLocator.Kind.SELECT) {
+			names.add("select" + locator.capitalized + "ByVisibleText");
+			names.add("select" + locator.capitalized + "ByValue");
+			names.add("select" + locator.capitalized + "ByIndex");
+			names.add("get" + locator.capitalized + "SelectedText");
+		}
+		return names;
+	}
+
+	String write() {
+		if(!packageName.isEmpty())
+			line(0, "package " + packageName + ";").line(0, "");
+		for(String imported:imports())
+			line(0, "import " + imported + ";");
+		line(0, "");
+		line(0, "/**");
+		line(0, " * Generated by SafePageProcessor from " + specName + ", do not edit.");
+		line(0, " */");
+		line(0, "public final class " + pageName + " {");
+		line(0, "");
+		for(PageLocator locator:locators)
+			line(1, "public static final By " + locator.fieldName + " = By." + locator.byMethod() + "(" + specName + "." + locator.fieldName + ");");
+		line(0, "");
+		line(1, "private final WebDriver driver;");
+		line(0, "");
+		line(1, "public " + pageName + "(WebDriver driver) {");
+		line(2, "this.driver = driver;");
+		line(1, "}");
+		line(0, "");
+		line(1, "public WebDriver getDriver() {");
+		line(2, "return driver;");
+		line(1, "}");
+		for(PageLocator locator:locators)
+			writeMethods(locator);
+		line(0, "}");
+		return source.toString();
+	}
+
+	private Set<String> imports() {
+		Set<String> imports = new TreeSet<>();
+		imports.add("org.openqa.selenium.By");
+		imports.add("org.openqa.selenium.WebDriver");
+		imports.add("org.openqa.selenium.WebElement");
+		imports.add("safe_automation_utils.safe_get_webelement.SafeGetBy");
+		imports.add("safe_automation_utils.safe_utils.SafeResult");
+		imports.add("safe_automation_utils.safe_webelement_action.SafeClick");
+		imports.add("safe_automation_utils.safe_webelement_text.SafeTextWebElement");
+		for(PageLocator locator:locators) {
+			if(locator.kind==SafeLocator.Kind.TEXT_FIELD) {
+				imports.add("org.openqa.selenium.support.ui.WebDriverWait");
+			}else if(locator.kind==SafeLocator.Kind.SELECT) {
+				imports.add("org.openqa.selenium.support.ui.Select");
+				imports.add("safe_automation_utils.safe_select_action.SafeSelectActions");
+				imports.add("safe_automation_utils.safe_utils.HelperUtils");
+			}
+		}
+		return imports;
+	}
+
+	private void writeMethods(PageLocator locator) {
+		String name = locator.methodName;
+		String capitalized = locator.capitalized;
+
+		line(0, "");
+		line(1, "public WebElement " + name + "() {");
+		line(2, "return SafeGetBy.safeGetBy(driver, " + locator.fieldName + ");");
+		line(1, "}");
+		line(0, "");
+		line(1, "public SafeResult click" + capitalized + "() {");
+		line(2, "WebElement element = " + name + "();");
+		line(2, "return element==null ? SafeResult.NOT_FOUND : SafeClick.safeClickWebElementResult(element);");
+		line(1, "}");
+		line(0, "");
+		line(1, "public String get" + capitalized + "Text() {");
+		line(2, "return SafeTextWebElement.safeGetTextFromTextWebElement(" + name + "());");
+		line(1, "}");
+
+		if(locator.kind==SafeLocator.Kind.TEXT_FIELD) {
+			line(0, "");
+			line(1, "public SafeResult set" + capitalized + "Text(String text, WebDriverWait wait) {");
+			line(2, "WebElement element = " + name + "();");
+			line(2, "return element==null ? SafeResult.NOT_FOUND : SafeTextWebElement.safeSetTextToTextWebElementResult(driver, element, text, wait);");
+			line(1, "}");
+			line(0, "");
+			line(1, "public String get" + capitalized + "Value() {");
+			line(2, "return SafeTextWebElement.safeGetValueFromTextWebElement(" + name + "());");
+			line(1, "}");
+		}else if(locator.kind==SafeLocator.Kind.SELECT) {
+			writeSelect(locator, "ByVisibleText", "String text", "safeSetSelectOptionByVisibleTextResult", "text");
+			writeSelect(locator, "ByValue", "String value", "safeSetSelectOptionByValueResult", "value");
+			writeSelect(locator, "ByIndex", "int index", "safeSetSelectOptionByIndexResult", "index");
+			line(0, "");
+			line(1, "public String get" + capitalized + "SelectedText() {");
+			line(2, "return SafeSelectActions.safeGetFirstSelectedOptionText(HelperUtils.convertWebElementToSelectObject(" + name + "()));");
+			line(1, "}");
+		}
+	}
+
+	private void writeSelect(PageLocator locator, String suffix, String parameter, String action, String argument) {
+		line(0, "");
+		line(1, "public SafeResult select" + locator.capitalized + suffix + "(" + parameter + ") {");
+		line(2, "Select select = HelperUtils.convertWebElementToSelectObject(" + locator.methodName + "());");
+		line(2, "return select==null ? SafeResult.NOT_FOUND : SafeSelectActions." + action + "(select, " + argument + ");");
+		line(1, "}");
+	}
+
+	private PageWriter line(int indent, String text) {
+		for(int i = 0; i<indent && !text.isEmpty(); i++)
+			source.append('\t');
+		source.append(text).append('\n');
+		return this;
+	}
+}
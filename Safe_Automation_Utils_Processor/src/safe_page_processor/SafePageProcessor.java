@@ -0,0 +1,248 @@
+package safe_automation_utils.safe_page_processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import safe_automation_utils.constants.Locator_Type_Constants;
+import safe_automation_utils.safe_page_objects.SafeLocator;
+import safe_automation_utils.safe_page_objects.SafePage;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Generates a page object for every class annotated with SafePage. Each SafeLocator field is checked while the
+ * tests compile, so a locator with an unknown type, a blank value, an XPath that does not parse or a class name
+ * holding more than one class fails the build instead of the test. The generated class only calls the safe
+ * methods of this library, so nothing is looked up by reflection and no proxies are created when the tests run.
+ *
+ * Nothing is generated for a class with an error, the compiler reports every error of it at the field.
+ */
+public final class SafePageProcessor extends AbstractProcessor {
+
+	private static final Set<String> LOCATOR_TYPES = new HashSet<>();
+	static {
+		LOCATOR_TYPES.add(Locator_Type_Constants.XPATH);
+		LOCATOR_TYPES.add(Locator_Type_Constants.CLASSNAME);
+		LOCATOR_TYPES.add(Locator_Type_Constants.CSSSELECTOR);
+		LOCATOR_TYPES.add(Locator_Type_Constants.ID);
+	}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		Set<String> types = new LinkedHashSet<>();
+		types.add(SafePage.class.getCanonicalName());
+		types.add(SafeLocator.class.getCanonicalName());
+		return types;
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for(Element field:roundEnv.getElementsAnnotatedWith(SafeLocator.class)) {
+			if(field.getEnclosingElement().getAnnotation(SafePage.class)==null)
+				error(field, "@SafeLocator fields must be declared in a class annotated with @SafePage");
+		}
+		for(Element page:roundEnv.getElementsAnnotatedWith(SafePage.class)) {
+			if(page.getKind()!=ElementKind.CLASS && page.getKind()!=ElementKind.INTERFACE) {
+				error(page, "@SafePage can only be placed on a class or an interface");
+				continue;
+			}
+			processPage((TypeElement) page);
+		}
+		return true;
+	}
+
+	private void processPage(TypeElement page) {
+		boolean valid = true;
+		if(page.getModifiers().contains(Modifier.PRIVATE)) {
+			error(page, "a @SafePage class can not be private, the generated page object has to read its locators");
+			valid = false;
+		}
+		String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+		String pageName = page.getAnnotation(SafePage.class).value().trim();
+		if(pageName.isEmpty())
+			pageName = page.getSimpleName() + "Page";
+		if(!SourceVersion.isIdentifier(pageName) || SourceVersion.isKeyword(pageName)) {
+			error(page, "\"" + pageName + "\" is not a valid class name");
+			valid = false;
+		}else if(pageName.equals(page.getSimpleName().toString())) {
+			error(page, "the generated page object can not have the same name as the class annotated with @SafePage");
+			valid = false;
+		}
+
+		List<PageLocator> locators = new ArrayList<>();
+		Set<String> methodNames = new HashSet<>();
+		methodNames.add("getDriver");
+		for(Element member:page.getEnclosedElements()) {
+			SafeLocator annotation = member.getAnnotation(SafeLocator.class);
+			if(annotation==null)
+				continue;
+			PageLocator locator = checkLocator((VariableElement) member, annotation);
+			if(locator==null) {
+				valid = false;
+				continue;
+			}
+			for(String methodName:PageWriter.methodNames(locator)) {
+				if(!methodNames.add(methodName)) {
+					error(member, "the generated method " + methodName + " clashes with a method generated for another locator");
+					valid = false;
+					break;
+				}
+			}
+			locators.add(locator);
+		}
+		if(locators.isEmpty() && valid) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@SafePage class has no @SafeLocator fields", page);
+		}
+		if(!valid)
+			return;
+
+		String specName = nameInPackage(page, packageName);
+		String qualifiedName = packageName.isEmpty() ? pageName : packageName + "." + pageName;
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, page);
+			try(Writer writer = file.openWriter()) {
+				writer.write(new PageWriter(packageName, pageName, specName, locators).write());
+			}
+		}catch(IOException ex) {
+			error(page, "could not write " + qualifiedName + ": " + ex.getMessage());
+		}
+	}
+
+	/**
+	 * Returns the locator of the field, or null after reporting why the field can not be used.
+	 */
+	private PageLocator checkLocator(VariableElement field, SafeLocator annotation) {
+		Set<Modifier> modifiers = field.getModifiers();
+		Object value = field.getConstantValue();
+		if(!modifiers.contains(Modifier.STATIC) || !modifiers.contains(Modifier.FINAL) || !(value instanceof String)) {
+			error(field, "@SafeLocator fields must be static final String constants");
+			return null;
+		}
+		if(modifiers.contains(Modifier.PRIVATE)) {
+			error(field, "@SafeLocator fields can not be private, the generated page object has to read them");
+			return null;
+		}
+		String type = annotation.type();
+		if(!LOCATOR_TYPES.contains(type)) {
+			error(field, "\"" + type + "\" is not a locator type, use one of the values of Locator_Type_Constants");
+			return null;
+		}
+		String locator = (String) value;
+		if(locator.trim().isEmpty()) {
+			error(field, "the locator is blank");
+			return null;
+		}
+		String problem = checkLocatorValue(type, locator);
+		if(problem!=null) {
+			error(field, problem);
+			return null;
+		}
+		PageLocator pageLocator = new PageLocator(field.getSimpleName().toString(), type, annotation.kind());
+		if(!SourceVersion.isIdentifier(pageLocator.methodName) || SourceVersion.isKeyword(pageLocator.methodName)) {
+			error(field, "the field name gives the method name " + pageLocator.methodName + ", which is a keyword");
+			return null;
+		}
+		return pageLocator;
+	}
+
+	/**
+	 * Returns why the locator can not find anything with the passed in type, or null if it looks valid.
+	 */
+	static String checkLocatorValue(String type, String locator) {
+		switch(type) {
+			case Locator_Type_Constants.XPATH:
+				try {
+					XPathFactory.newInstance().newXPath().compile(locator);
+					return null;
+				}catch(XPathExpressionException ex) {
+					return "the XPath \"" + locator + "\" does not parse";
+				}
+			case Locator_Type_Constants.CLASSNAME:
+				for(char letter:locator.trim().toCharArray()) {
+					if(Character.isWhitespace(letter))
+						return "the class name \"" + locator + "\" holds more than one class, use a CssSelector instead";
+				}
+				return null;
+			case Locator_Type_Constants.CSSSELECTOR:
+				return isBalanced(locator) ? null : "the CSS selector \"" + locator + "\" has an unclosed bracket, parenthesis or quote";
+			default:
+				return null;
+		}
+	}
+
+	private static boolean isBalanced(String selector) {
+		StringBuilder open = new StringBuilder();
+		char quote = 0;
+		for(int i = 0; i<selector.length(); i++) {
+			char letter = selector.charAt(i);
+			if(letter=='\\') {
+				i++;
+				continue;
+			}
+			if(quote!=0) {
+				if(letter==quote)
+					quote = 0;
+				continue;
+			}
+			switch(letter) {
+				case '"':
+				case '\'':
+					quote = letter;
+					break;
+				case '[':
+				case '(':
+					open.append(letter);
+					break;
+				case ']':
+				case ')':
+					if(open.length()==0 || open.charAt(open.length()-1)!=(letter==']' ? '[' : '('))
+						return false;
+					open.setLength(open.length()-1);
+					break;
+				default:
+					break;
+			}
+		}
+		return quote==0 && open.length()==0;
+	}
+
+	/**
+	 * Returns the name of the class relative to its package, with the names of the classes it is nested in.
+	 */
+	private static String nameInPackage(TypeElement page, String packageName) {
+		String qualifiedName = page.getQualifiedName().toString();
+		return packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length()+1);
+	}
+
+	private void error(Element element, String message) {
+		Messager messager = processingEnv.getMessager();
+		messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
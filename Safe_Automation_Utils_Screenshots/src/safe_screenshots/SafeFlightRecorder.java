@@ -0,0 +1,208 @@
+package safe_automation_utils.safe_screenshots;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Keeps the most recent screenshots in memory and only writes them to disk when something goes wrong. Captures
+ * are kept as encoded image bytes in a ring buffer that is capped by the total number of bytes, so the oldest
+ * captures are dropped as soon as a new one would go over the limit.
+ *
+ * The verify methods take the value returned by any of the safe methods and hand it straight back. If the value
+ * reports a failure (false, 0 or lower, or null) then the buffer is dumped to the dump folder first. dump can
+ * also be called directly at any time.
+ */
+public final class SafeFlightRecorder {
+
+	private final Path dumpPath;
+	private final long maxBytes;
+	private final ArrayDeque<Capture> captures = new ArrayDeque<>();
+	private long bufferedBytes;
+	private long captureCount;
+	private int dumpCount;
+
+	/**
+	 * Creates a recorder that keeps at most maxBytes bytes of captures and writes them to the dumpPath folder.
+	 * @param dumpPath -> String
+	 * @param maxBytes -> long
+	 */
+	public SafeFlightRecorder(String dumpPath, long maxBytes) {
+		if(dumpPath==null || dumpPath.isEmpty() || maxBytes<1)
+			throw new IllegalArgumentException("dumpPath must be set and maxBytes must be positive");
+		this.dumpPath = Paths.get(dumpPath);
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Attempts to take a screenshot and keep it in the buffer under the passed in label, using the png bytes
+	 * returned by the driver as they are. If the WebDriver is null then 0 is returned. If the capture alone is
+	 * bigger than the byte limit then it is not kept and -1 is returned. If an exception occurs during the process
+	 * then 0 is returned. If the capture is kept then 1 is returned.
+	 * @param driver -> WebDriver
+	 * @param label -> String
+	 * @return -> int
+	 */
+	public int record(WebDriver driver, String label) {
+		return record(driver, label, SafeImageEncoderProfile.PNG_LOSSLESS);
+	}
+
+	/**
+	 * Performs the same action as record(WebDriver, String) but encodes the capture with the passed in profile
+	 * before it is kept, so a lossy or scaled profile fits many more captures into the same number of bytes.
+	 * If the profile is null then 0 is returned.
+	 * @param driver -> WebDriver
+	 * @param label -> String
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> int
+	 */
+	public int record(WebDriver driver, String label, SafeImageEncoderProfile profile) {
+		if(driver==null || profile==null)
+			return 0;
+		try {
+			byte[] image = ((TakesScreenshot)driver).getScreenshotAs(OutputType.BYTES);
+			if(!profile.matchesDriverOutput()) {
+				ByteArrayOutputStream encoded = new ByteArrayOutputStream(image.length);
+				profile.write(SafeWebElementScreenshot.decodeScreenshot(image), encoded);
+				image = encoded.toByteArray();
+			}
+			if(image.length>maxBytes)
+				return -1;
+			synchronized(this) {
+				captures.addLast(new Capture(++captureCount, System.currentTimeMillis(), label, profile.getFileExtension(), image));
+				bufferedBytes += image.length;
+				while(bufferedBytes>maxBytes)
+					bufferedBytes -= captures.removeFirst().image.length;
+			}
+			return 1;
+		}catch(Exception ex) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the passed in result unchanged. If the result is false then the buffer is dumped first.
+	 * @param result -> boolean
+	 * @return -> boolean
+	 */
+	public boolean verify(boolean result) {
+		if(!result)
+			dump();
+		return result;
+	}
+
+	/**
+	 * Returns the passed in result unchanged. If the result is 0 or lower then the buffer is dumped first.
+	 * @param result -> int
+	 * @return -> int
+	 */
+	public int verify(int result) {
+		if(result<=0)
+			dump();
+		return result;
+	}
+
+	/**
+	 * Returns the passed in result unchanged. If the result is null then the buffer is dumped first.
+	 * @param result -> T
+	 * @return -> T
+	 */
+	public <T> T verify(T result) {
+		if(result==null)
+			dump();
+		return result;
+	}
+
+	/**
+	 * Attempts to write every capture in the buffer to the dump folder and empties the buffer. The files are
+	 * named after the dump number, the capture number, the time the capture was taken and its label. If an
+	 * exception occurs during the process then -1 is returned and the captures that were not written stay in the
+	 * buffer. If the process is successful then the number of files written is returned.
+	 * @return -> int
+	 */
+	public int dump() {
+		List<Capture> toWrite;
+		int dumpNumber;
+		synchronized(this) {
+			toWrite = new ArrayList<>(captures);
+			captures.clear();
+			bufferedBytes = 0;
+			dumpNumber = ++dumpCount;
+		}
+		int written = 0;
+		try {
+			Files.createDirectories(dumpPath);
+			for(Capture capture:toWrite) {
+				String fileName = "dump" + dumpNumber + "_" + capture.number + "_" + capture.timestamp
+						+ (capture.label==null || capture.label.isEmpty() ? "" : "_" + capture.label.replaceAll("[^A-Za-z0-9._-]", "_"))
+						+ capture.extension;
+				Files.write(dumpPath.resolve(fileName), capture.image, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+				written++;
+			}
+			return written;
+		}catch(Exception ex) {
+			synchronized(this) {
+				for(int x=toWrite.size()-1; x>=written; x--) {
+					captures.addFirst(toWrite.get(x));
+					bufferedBytes += toWrite.get(x).image.length;
+				}
+				while(bufferedBytes>maxBytes)
+					bufferedBytes -= captures.removeFirst().image.length;
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * Removes every capture from the buffer without writing it.
+	 */
+	public synchronized void clear() {
+		captures.clear();
+		bufferedBytes = 0;
+	}
+
+	public synchronized int getBufferedCount() {
+		return captures.size();
+	}
+
+	public synchronized long getBufferedBytes() {
+		return bufferedBytes;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * A single encoded capture held in the buffer.
+	 */
+	private static final class Capture {
+		private final long number;
+		private final long timestamp;
+		private final String label;
+		private final String extension;
+		private final byte[] image;
+
+		private Capture(long number, long timestamp, String label, String extension, byte[] image) {
+			this.number = number;
+			this.timestamp = timestamp;
+			this.label = label;
+			this.extension = extension;
+			this.image = image;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package safe_automation_utils.safe_screenshots;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Describes how a screenshot is encoded before it is written to disk. A profile is made up of the image format,
+ * the compression quality that is handed to the ImageWriteParam, an optional scale that is applied before
+ * encoding and whether the image is converted to grayscale.
+ *
+ * PNG_LOSSLESS matches the output the library always produced and is the default profile. PNG_FAST uses the
+ * fastest deflate level which is much cheaper to encode for slightly bigger files. jpeg(float) creates lossy
+ * profiles that are best suited to routine step captures. Profiles are immutable so the with methods return a
+ * new profile.
+ *
+ * The profile does not change the file name that is passed in, so the file name should use the extension
+ * returned by getFileExtension().
+ */
+public final class SafeImageEncoderProfile {
+
+	private static final float DEFAULT_QUALITY = -1f;
+
+	/**
+	 * Lossless png using the default settings of the png writer.
+	 */
+	public static final SafeImageEncoderProfile PNG_LOSSLESS = new SafeImageEncoderProfile("png", DEFAULT_QUALITY, 1.0, false);
+
+	/**
+	 * Lossless png using the fastest deflate level.
+	 */
+	public static final SafeImageEncoderProfile PNG_FAST = new SafeImageEncoderProfile("png", 0.9f, 1.0, false);
+
+	private final String formatName;
+	private final float compressionQuality;
+	private final double scale;
+	private final boolean grayscale;
+
+	private SafeImageEncoderProfile(String formatName, float compressionQuality, double scale, boolean grayscale) {
+		this.formatName = formatName;
+		this.compressionQuality = compressionQuality;
+		this.scale = scale;
+		this.grayscale = grayscale;
+	}
+
+	/**
+	 * Creates a jpeg profile that uses the passed in quality value. The quality value must be between 0 and 1
+	 * where 1 is the best quality and biggest file.
+	 * @param quality -> float
+	 * @return -> SafeImageEncoderProfile
+	 */
+	public static SafeImageEncoderProfile jpeg(float quality) {
+		if(quality<0f || quality>1f)
+			throw new IllegalArgumentException("quality must be between 0 and 1");
+		return new SafeImageEncoderProfile("jpg", quality, 1.0, false);
+	}
+
+	/**
+	 * Returns a copy of this profile that scales the image by the passed in value before it is encoded. The
+	 * scale must be greater than 0 and no more than 1.
+	 * @param scale -> double
+	 * @return -> SafeImageEncoderProfile
+	 */
+	public SafeImageEncoderProfile withScale(double scale) {
+		if(scale<=0 || scale>1)
+			throw new IllegalArgumentException("scale must be greater than 0 and no more than 1");
+		return new SafeImageEncoderProfile(formatName, compressionQuality, scale, grayscale);
+	}
+
+	/**
+	 * Returns a copy of this profile that converts the image to grayscale before it is encoded.
+	 * @param grayscale -> boolean
+	 * @return -> SafeImageEncoderProfile
+	 */
+	public SafeImageEncoderProfile withGrayscale(boolean grayscale) {
+		return new SafeImageEncoderProfile(formatName, compressionQuality, scale, grayscale);
+	}
+
+	public String getFormatName() {
+		return formatName;
+	}
+
+	public String getFileExtension() {
+		return "." + formatName;
+	}
+
+	public float getCompressionQuality() {
+		return compressionQuality;
+	}
+
+	public double getScale() {
+		return scale;
+	}
+
+	public boolean isGrayscale() {
+		return grayscale;
+	}
+
+	/**
+	 * Returns true if the png bytes returned by the driver already match this profile and can be written
+	 * without decoding and encoding them again.
+	 * @return -> boolean
+	 */
+	boolean matchesDriverOutput() {
+		return "png".equals(formatName) && compressionQuality==DEFAULT_QUALITY && scale==1.0 && !grayscale;
+	}
+
+	/**
+	 * Applies the scale and grayscale settings to the passed in image and encodes the result to the passed in
+	 * OutputStream using the compression quality of this profile. If the image writer does not support setting
+	 * the compression then its defaults are used. The OutputStream is not closed.
+	 * @param image -> BufferedImage
+	 * @param out -> OutputStream
+	 * @throws IOException
+	 */
+	void write(BufferedImage image, OutputStream out) throws IOException {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+		if(!writers.hasNext())
+			throw new IOException("No " + formatName + " writer is available");
+		ImageWriter writer = writers.next();
+		try(ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if(compressionQuality!=DEFAULT_QUALITY && param.canWriteCompressed()) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				if(param.getCompressionType()==null)
+					param.setCompressionType(param.getCompressionTypes()[0]);
+				param.setCompressionQuality(compressionQuality);
+			}
+			writer.setOutput(imageOut);
+			writer.write(null, new IIOImage(prepare(image), null, null), param);
+		}finally {
+			writer.dispose();
+		}
+	}
+
+	/**
+	 * Scales and converts the passed in image so it matches this profile. Jpeg does not support an alpha channel
+	 * so images with one are drawn onto a white background. If nothing has to change then the same image is
+	 * returned.
+	 * @param image -> BufferedImage
+	 * @return -> BufferedImage
+	 */
+	private BufferedImage prepare(BufferedImage image) {
+		int type;
+		if(grayscale)
+			type = BufferedImage.TYPE_BYTE_GRAY;
+		else if(!"png".equals(formatName) && image.getColorModel().hasAlpha())
+			type = BufferedImage.TYPE_INT_RGB;
+		else if(scale!=1.0)
+			type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		else
+			return image;
+		int width = Math.max(1, (int)Math.round(image.getWidth()*scale));
+		int height = Math.max(1, (int)Math.round(image.getHeight()*scale));
+		BufferedImage prepared = new BufferedImage(width, height, type);
+		Graphics2D graphics = prepared.createGraphics();
+		try {
+			if(!prepared.getColorModel().hasAlpha()) {
+				graphics.setColor(Color.WHITE);
+				graphics.fillRect(0, 0, width, height);
+			}
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(image, 0, 0, width, height, null);
+		}finally {
+			graphics.dispose();
+		}
+		return prepared;
+	}
+}
@@ -0,0 +1,177 @@
+package safe_automation_utils.safe_screenshots;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * A content addressed store for screenshots. Every image is hashed over its raw pixel data and each unique image
+ * is only written once to the objects folder under its hash. The file names that are passed in are recorded as
+ * references in the index.txt file in the root folder, one "fileName TAB objectFileName" line per screenshot, so
+ * no logical screenshot is lost even though identical images share the same file.
+ *
+ * The store follows the same return values as SafeWebElementScreenshot, 1 is returned when the screenshot was
+ * stored, -1 is returned when the file name is already in the index and 0 is returned when the process fails.
+ */
+public final class SafeScreenshotStore {
+
+	private static final String OBJECTS_FOLDER = "objects";
+	private static final String INDEX_FILE = "index.txt";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final Path objectsPath;
+	private final Path indexFile;
+	private final Map<String, String> index = new HashMap<>();
+
+	private SafeScreenshotStore(Path rootPath) {
+		this.objectsPath = rootPath.resolve(OBJECTS_FOLDER);
+		this.indexFile = rootPath.resolve(INDEX_FILE);
+	}
+
+	/**
+	 * Opens the store located in the passed in rootPath String value, creating the folders if they don't exist
+	 * yet and loading the index if one was written before. If the rootPath String object is null or blank then
+	 * null is returned. If an exception occurs during the process then null is returned. If the store is
+	 * opened successfully then it is returned.
+	 * @param rootPath -> String
+	 * @return -> SafeScreenshotStore
+	 */
+	public static SafeScreenshotStore safeOpen(String rootPath) {
+		if(rootPath==null || rootPath.isEmpty())
+			return null;
+		try {
+			SafeScreenshotStore store = new SafeScreenshotStore(Paths.get(rootPath));
+			Files.createDirectories(store.objectsPath);
+			if(Files.exists(store.indexFile)) {
+				for(String line:Files.readAllLines(store.indexFile, StandardCharsets.UTF_8)) {
+					int separator = line.indexOf('\t');
+					if(separator>0)
+						store.index.put(line.substring(0, separator), line.substring(separator+1));
+				}
+			}
+			return store;
+		}catch(Exception ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Attempts to store the passed in image under the passed in fileName using the passed in profile. If the
+	 * image has been stored before with the same profile then only the reference is added to the index. If any
+	 * of the parameters are null or blank or the fileName contains a tab or line break then 0 is returned. If the
+	 * fileName is already in the index then -1 is returned. If an exception occurs during the process then 0 is
+	 * returned. If the screenshot is stored successfully then 1 is returned.
+	 * @param image -> BufferedImage
+	 * @param fileName -> String
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> int
+	 */
+	public int safeStore(BufferedImage image, String fileName, SafeImageEncoderProfile profile) {
+		if(image==null || fileName==null || fileName.isEmpty() || profile==null)
+			return 0;
+		if(fileName.indexOf('\t')>=0 || fileName.indexOf('\n')>=0 || fileName.indexOf('\r')>=0)
+			return 0;
+		try {
+			synchronized(this) {
+				if(index.containsKey(fileName))
+					return -1;
+			}
+			//hashing happens outside of the lock since it is the expensive part
+			String objectName = hashPixels(image, profile) + profile.getFileExtension();
+			Path objectFile = objectsPath.resolve(objectName);
+			synchronized(this) {
+				if(index.containsKey(fileName))
+					return -1;
+				if(!Files.exists(objectFile)) {
+					try {
+						SafeWebElementScreenshot.writeImage(image, objectFile, profile);
+					}catch(FileAlreadyExistsException ex) {
+						//another store instance wrote the same image first
+					}
+				}
+				Files.write(indexFile, (fileName + "\t" + objectName + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+						StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+				index.put(fileName, objectName);
+			}
+			return 1;
+		}catch(Exception ex) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the Path of the stored image that the passed in fileName refers to. If the fileName is null or is
+	 * not in the index then null is returned.
+	 * @param fileName -> String
+	 * @return -> Path
+	 */
+	public synchronized Path resolve(String fileName) {
+		String objectName = fileName==null ? null : index.get(fileName);
+		return objectName==null ? null : objectsPath.resolve(objectName);
+	}
+
+	/**
+	 * Returns the number of file names recorded in the index.
+	 * @return -> int
+	 */
+	public synchronized int getReferenceCount() {
+		return index.size();
+	}
+
+	/**
+	 * Returns the number of unique images the index refers to.
+	 * @return -> int
+	 */
+	public synchronized int getObjectCount() {
+		return (int)index.values().stream().distinct().count();
+	}
+
+	/**
+	 * Hashes the dimensions and the ARGB pixel values of the passed in image together with the profile settings,
+	 * so the same pixels written with a different profile are stored as a separate object. The pixels are read
+	 * one row at a time to avoid copying the whole image.
+	 * @param image -> BufferedImage
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> String
+	 * @throws Exception
+	 */
+	private static String hashPixels(BufferedImage image, SafeImageEncoderProfile profile) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		int width = image.getWidth();
+		int height = image.getHeight();
+		ByteBuffer header = ByteBuffer.allocate(24);
+		header.putInt(width).putInt(height).putFloat(profile.getCompressionQuality()).putDouble(profile.getScale())
+				.putInt(profile.isGrayscale() ? 1 : 0);
+		header.flip();
+		digest.update(header);
+		digest.update(profile.getFormatName().getBytes(StandardCharsets.UTF_8));
+		int[] row = new int[width];
+		ByteBuffer rowBytes = ByteBuffer.allocate(width*4);
+		for(int y=0; y<height; y++) {
+			image.getRGB(0, y, width, 1, row, 0, width);
+			rowBytes.clear();
+			rowBytes.asIntBuffer().put(row);
+			digest.update(rowBytes);
+		}
+		byte[] hash = digest.digest();
+		char[] hex = new char[hash.length*2];
+		for(int x=0; x<hash.length; x++) {
+			hex[x*2] = HEX[(hash[x]>>4) & 0xF];
+			hex[x*2+1] = HEX[hash[x] & 0xF];
+		}
+		return new String(hex);
+	}
+}
@@ -0,0 +1,272 @@
+package safe_automation_utils.safe_screenshots;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Writes screenshots to disk on a pool of worker threads so that decoding, cropping and encoding the
+ * images does not happen on the test thread. Captures are held in a bounded queue and the QueueFullPolicy
+ * that is passed in decides what happens when that queue is full.
+ *
+ * Every submitted capture returns a CompletableFuture that completes with the same int values that the
+ * SafeWebElementScreenshot methods return. 1 is returned when the file was written, -1 is returned when the
+ * file already exists and 0 is returned when an exception occurs. -2 is returned when the capture was dropped
+ * because the queue was full or the writer was already shut down.
+ *
+ * awaitAll should be called at the end of a suite so that every queued capture is written before the JVM exits.
+ */
+public final class SafeScreenshotWriter {
+
+	/**
+	 * The different ways the writer can react when a capture is submitted while the queue is full.
+	 * BLOCK waits on the test thread until the queue has space. DROP_OLDEST removes the oldest queued capture
+	 * and completes it with -2. RUN_SYNCHRONOUSLY writes the capture on the test thread instead.
+	 */
+	public enum QueueFullPolicy {
+		BLOCK,
+		DROP_OLDEST,
+		RUN_SYNCHRONOUSLY
+	}
+
+	private static final AtomicInteger WRITER_COUNT = new AtomicInteger();
+
+	private final ThreadPoolExecutor executor;
+	private final Set<CompletableFuture<Integer>> pending = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Creates a writer that uses workerThreads threads to write the captures and holds at most queueCapacity
+	 * captures that have not been picked up by a worker yet. The worker threads are daemon threads so they do
+	 * not keep the JVM alive, which is why awaitAll should be called before the suite ends.
+	 * @param workerThreads -> int
+	 * @param queueCapacity -> int
+	 * @param policy -> QueueFullPolicy
+	 */
+	public SafeScreenshotWriter(int workerThreads, int queueCapacity, QueueFullPolicy policy) {
+		if(workerThreads<1 || queueCapacity<1 || policy==null)
+			throw new IllegalArgumentException("workerThreads and queueCapacity must be positive and policy must be set");
+		int writerNumber = WRITER_COUNT.incrementAndGet();
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "safe-screenshot-writer-" + writerNumber + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity), threadFactory, queueFullHandler(policy));
+	}
+
+	/**
+	 * Queues the passed in image to be encoded with the default profile of SafeWebElementScreenshot and written
+	 * to the imageFile Path.
+	 * @param image -> BufferedImage
+	 * @param imageFile -> Path
+	 * @return -> CompletableFuture<Integer>
+	 */
+	public CompletableFuture<Integer> submit(BufferedImage image, Path imageFile) {
+		return submit(image, imageFile, SafeWebElementScreenshot.getDefaultEncoderProfile());
+	}
+
+	/**
+	 * Queues the passed in image to be encoded with the passed in profile and written to the imageFile Path.
+	 * @param image -> BufferedImage
+	 * @param imageFile -> Path
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> CompletableFuture<Integer>
+	 */
+	public CompletableFuture<Integer> submit(BufferedImage image, Path imageFile, SafeImageEncoderProfile profile) {
+		return submit(new PendingCapture(null, image, null, imageFile, profile));
+	}
+
+	/**
+	 * Queues the raw screenshot bytes returned by the driver to be written to the imageFile Path. If crop is
+	 * null then the bytes are written as they are, otherwise they are decoded and only the crop Rectangle of
+	 * the screenshot is encoded and written. Decoding and cropping both happen on the worker thread. The
+	 * default profile of SafeWebElementScreenshot is used to encode the image.
+	 * @param screenshot -> byte[]
+	 * @param crop -> Rectangle
+	 * @param imageFile -> Path
+	 * @return -> CompletableFuture<Integer>
+	 */
+	public CompletableFuture<Integer> submit(byte[] screenshot, Rectangle crop, Path imageFile) {
+		return submit(screenshot, crop, imageFile, SafeWebElementScreenshot.getDefaultEncoderProfile());
+	}
+
+	/**
+	 * Performs the same action as submit(byte[], Rectangle, Path) but encodes the image with the passed in profile.
+	 * @param screenshot -> byte[]
+	 * @param crop -> Rectangle
+	 * @param imageFile -> Path
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> CompletableFuture<Integer>
+	 */
+	public CompletableFuture<Integer> submit(byte[] screenshot, Rectangle crop, Path imageFile, SafeImageEncoderProfile profile) {
+		return submit(new PendingCapture(screenshot, null, crop, imageFile, profile));
+	}
+
+	/**
+	 * Returns the number of captures that have been submitted but not completed yet.
+	 * @return -> int
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Waits until every capture that was submitted before or during this call has completed. If all captures
+	 * completed within the timeout then true is returned. If the timeout passes first or the waiting thread is
+	 * interrupted then false is returned.
+	 * @param timeout -> long
+	 * @param unit -> TimeUnit
+	 * @return -> boolean
+	 */
+	public boolean awaitAll(long timeout, TimeUnit unit) {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		try {
+			while(!pending.isEmpty()) {
+				long remaining = deadline - System.nanoTime();
+				if(remaining<=0)
+					return false;
+				CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).get(remaining, TimeUnit.NANOSECONDS);
+			}
+			return true;
+		}catch(TimeoutException ex) {
+			return false;
+		}catch(InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}catch(Exception ex) {
+			//the futures never complete exceptionally so this only happens if the wait itself failed
+			return pending.isEmpty();
+		}
+	}
+
+	/**
+	 * Stops accepting new captures, waits for the queued captures to be written and then stops the worker
+	 * threads. Captures submitted after this call complete with -2. If every queued capture was written within
+	 * the timeout then true is returned, otherwise the captures that are still queued are completed with -2 and
+	 * false is returned.
+	 * @param timeout -> long
+	 * @param unit -> TimeUnit
+	 * @return -> boolean
+	 */
+	public boolean close(long timeout, TimeUnit unit) {
+		executor.shutdown();
+		boolean written = awaitAll(timeout, unit);
+		if(!written) {
+			for(Runnable queued:executor.shutdownNow()) {
+				if(queued instanceof PendingCapture)
+					((PendingCapture)queued).result.complete(-2);
+			}
+		}
+		return written;
+	}
+
+	private CompletableFuture<Integer> submit(PendingCapture capture) {
+		if(capture.imageFile==null || capture.profile==null || (capture.image==null && capture.screenshot==null)) {
+			capture.result.complete(0);
+			return capture.result;
+		}
+		pending.add(capture.result);
+		capture.result.whenComplete((code, ex) -> pending.remove(capture.result));
+		try {
+			executor.execute(capture);
+		}catch(RejectedExecutionException ex) {
+			capture.result.complete(-2);
+		}
+		return capture.result;
+	}
+
+	private static RejectedExecutionHandler queueFullHandler(QueueFullPolicy policy) {
+		switch(policy) {
+			case DROP_OLDEST:
+				return (runnable, executor) -> {
+					if(executor.isShutdown())
+						throw new RejectedExecutionException("Writer is closed");
+					Runnable oldest = executor.getQueue().poll();
+					if(oldest instanceof PendingCapture)
+						((PendingCapture)oldest).result.complete(-2);
+					executor.execute(runnable);
+				};
+			case RUN_SYNCHRONOUSLY:
+				return (runnable, executor) -> {
+					if(executor.isShutdown())
+						throw new RejectedExecutionException("Writer is closed");
+					runnable.run();
+				};
+			case BLOCK:
+			default:
+				return (runnable, executor) -> {
+					if(executor.isShutdown())
+						throw new RejectedExecutionException("Writer is closed");
+					try {
+						executor.getQueue().put(runnable);
+					}catch(InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						throw new RejectedExecutionException("Interrupted while waiting for queue space", ex);
+					}
+				};
+		}
+	}
+
+	/**
+	 * A single capture waiting to be written. The result future is completed exactly once by whichever
+	 * of the worker, the drop policy or the rejection happens first.
+	 */
+	private static final class PendingCapture implements Runnable {
+		private final byte[] screenshot;
+		private final BufferedImage image;
+		private final Rectangle crop;
+		private final Path imageFile;
+		private final SafeImageEncoderProfile profile;
+		private final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+		private PendingCapture(byte[] screenshot, BufferedImage image, Rectangle crop, Path imageFile,
+				SafeImageEncoderProfile profile) {
+			this.screenshot = screenshot;
+			this.image = image;
+			this.crop = crop;
+			this.imageFile = imageFile;
+			this.profile = profile;
+		}
+
+		@Override
+		public void run() {
+			if(result.isDone())
+				return;
+			try {
+				if(image==null && crop==null) {
+					SafeWebElementScreenshot.writeScreenshot(screenshot, imageFile, profile);
+				}else {
+					BufferedImage output = image;
+					if(output==null)
+						output = SafeWebElementScreenshot.decodeScreenshot(screenshot).getSubimage(crop.x, crop.y,
+								crop.width, crop.height);
+					SafeWebElementScreenshot.writeImage(output, imageFile, profile);
+				}
+				result.complete(1);
+			}catch(FileAlreadyExistsException ex) {
+				result.complete(-1);
+			}catch(Exception ex) {
+				result.complete(0);
+			}
+		}
+	}
+}
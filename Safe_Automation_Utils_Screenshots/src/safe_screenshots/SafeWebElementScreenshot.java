@@ -0,0 +1,735 @@
+package safe_automation_utils.safe_screenshots;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import safe_automation_utils.safe_get_webelement_property.SafeGetProperties;
+import safe_automation_utils.safe_metrics.SafeMethodProbe;
+import safe_automation_utils.safe_metrics.SafeMetrics;
+import safe_automation_utils.safe_utils.HelperUtils;
+
+/**
+ * 
+ * @author Arthur Reynolds
+ * created: 06/10/2019
+ * updated: 10/19/2026
+ * 
+ * Contains methods that involve the screenshot functionality in relation to the WebElement objects.
+ * Screenshots are requested from the driver as raw bytes, decoded and cropped in memory and then written
+ * to the destination path exactly once. The Async methods hand the encoding and writing off to a
+ * SafeScreenshotWriter so that it does not happen on the test thread.
+ * 
+ * How the images are encoded is controlled by a SafeImageEncoderProfile. The methods that don't take a profile
+ * use the default profile which is PNG_LOSSLESS unless it is changed through setDefaultEncoderProfile.
+ * 
+ * All methods in this class are static.
+ */
+public final class SafeWebElementScreenshot {
+
+	private static final SafeMethodProbe SAFE_TAKE_SCREENSHOT = SafeMetrics.probe("SafeWebElementScreenshot.safeTakeScreenshot");
+	private static final SafeMethodProbe SAFE_TAKE_FULL_PAGE_SCREENSHOT = SafeMetrics.probe("SafeWebElementScreenshot.safeTakeFullPageScreenshot");
+	private static final SafeMethodProbe SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT = SafeMetrics.probe("SafeWebElementScreenshot.safeTakeScreenshotOfWebElement");
+	private static final SafeMethodProbe SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT_BY_STRING = SafeMetrics.probe("SafeWebElementScreenshot.safeTakeScreenshotOfWebElementByString");
+	private static final SafeMethodProbe SAFE_TAKE_SCREENSHOT_ASYNC = SafeMetrics.probe("SafeWebElementScreenshot.safeTakeScreenshotAsync");
+	private static final SafeMethodProbe SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT_ASYNC = SafeMetrics.probe("SafeWebElementScreenshot.safeTakeScreenshotOfWebElementAsync");
+	private static final SafeMethodProbe SAFE_CAPTURE_SCREENSHOT = SafeMetrics.probe("SafeWebElementScreenshot.safeCaptureScreenshot");
+	private static final SafeMethodProbe SAFE_CAPTURE_WEB_ELEMENT = SafeMetrics.probe("SafeWebElementScreenshot.safeCaptureWebElement");
+
+	/**
+	 * Scrolls the element into view only when it is not already fully visible and returns its bounding rectangle,
+	 * the device pixel ratio, the scroll offsets and the viewport height.
+	 */
+	private static final String ELEMENT_BOUNDS_SCRIPT = "var e=arguments[0];var r=e.getBoundingClientRect();"
+			+ "if(r.top<0||r.left<0||r.bottom>window.innerHeight||r.right>window.innerWidth){"
+			+ "e.scrollIntoView({block:'nearest',inline:'nearest'});r=e.getBoundingClientRect();}"
+			+ "return [r.left,r.top,r.width,r.height,window.devicePixelRatio||1,window.pageXOffset,window.pageYOffset,"
+			+ "window.innerHeight];";
+
+	/**
+	 * Returns the height of the document, the height of the viewport and the current vertical scroll offset.
+	 */
+	private static final String PAGE_SIZE_SCRIPT = "var d=document.documentElement,b=document.body;"
+			+ "return [Math.max(d.scrollHeight,b?b.scrollHeight:0),window.innerHeight,window.pageYOffset];";
+
+	/**
+	 * Scrolls vertically to the passed in offset and returns the offset the browser actually scrolled to.
+	 */
+	private static final String SCROLL_SCRIPT = "window.scrollTo(window.pageXOffset,arguments[0]);return window.pageYOffset;";
+
+	private static volatile SafeImageEncoderProfile defaultEncoderProfile = SafeImageEncoderProfile.PNG_LOSSLESS;
+
+	/**
+	 * Sets the SafeImageEncoderProfile that is used by every method that doesn't take a profile. If the profile
+	 * is null then the default is reset to PNG_LOSSLESS.
+	 * @param profile -> SafeImageEncoderProfile
+	 */
+	public static void setDefaultEncoderProfile(SafeImageEncoderProfile profile) {
+		defaultEncoderProfile = profile==null ? SafeImageEncoderProfile.PNG_LOSSLESS : profile;
+	}
+
+	/**
+	 * Returns the SafeImageEncoderProfile that is used by every method that doesn't take a profile.
+	 * @return -> SafeImageEncoderProfile
+	 */
+	public static SafeImageEncoderProfile getDefaultEncoderProfile() {
+		return defaultEncoderProfile;
+	}
+
+	/**
+	 * Attempts to take a screenshot of the current screen and save that file to the passed in savePath location
+	 * under the passed in fileName value. If the WebDriver object is null or if the savePath String object or 
+	 * fileName String object is null or blank then 0 is returned. If an exception occurs during the process
+	 * then 0 is returned. If a file already exists in the passed in savePath location under the passed in fileName
+	 * value then -1 is returned. If the screenshot is created successfully then 1 is returned.
+	 * @param driver -> WebDriver
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @return -> int
+	 */
+	public static int safeTakeScreenshot(WebDriver driver, String savePath, String fileName) {
+		return safeTakeScreenshot(driver, savePath, fileName, defaultEncoderProfile);
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshot(WebDriver, String, String) but encodes the screenshot using
+	 * the passed in SafeImageEncoderProfile. If the profile is null then 0 is returned.
+	 * @param driver -> WebDriver
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> int
+	 */
+	public static int safeTakeScreenshot(WebDriver driver, String savePath, String fileName, SafeImageEncoderProfile profile) {
+		if(driver==null || savePath.isEmpty() || fileName.isEmpty() || profile==null)
+			return 0;
+		long start = SAFE_TAKE_SCREENSHOT.start();
+		Exception swallowed = null;
+		try {
+			//checks to see if the file alreadly exists
+			Path imageFile = Paths.get(savePath, fileName);
+			if(Files.exists(imageFile))
+				return -1;
+			byte[] screenshot = ((TakesScreenshot)driver).getScreenshotAs(OutputType.BYTES);
+			writeScreenshot(screenshot, imageFile, profile);
+			return 1;
+		}catch(FileAlreadyExistsException ex) {
+			swallowed = ex;
+			return -1;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return 0;
+		}finally {
+			SAFE_TAKE_SCREENSHOT.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Attempts to take a screenshot of the entire page, including the parts below the fold, and save it to the
+	 * passed in savePath location under the passed in fileName value as a png. The page is scrolled one viewport
+	 * at a time and every capture is written to the file row by row, so only a single viewport is ever held in
+	 * memory no matter how long the page is. The scroll position is restored afterwards. The encoder profile is
+	 * not used since the image is never held in memory as a whole. If the WebDriver object is null or can't run
+	 * javascript or if the savePath String object or fileName String object is null or blank then 0 is returned.
+	 * If an exception occurs during the process then 0 is returned. If a file already exists in the passed in
+	 * savePath location under the passed in fileName value then -1 is returned. If the screenshot is created
+	 * successfully then 1 is returned.
+	 * @param driver -> WebDriver
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @return -> int
+	 */
+	public static int safeTakeFullPageScreenshot(WebDriver driver, String savePath, String fileName) {
+		if(!(driver instanceof JavascriptExecutor) || savePath.isEmpty() || fileName.isEmpty())
+			return 0;
+		JavascriptExecutor executor = (JavascriptExecutor)driver;
+		Path imageFile = Paths.get(savePath, fileName);
+		List<?> page = null;
+		long start = SAFE_TAKE_FULL_PAGE_SCREENSHOT.start();
+		Exception swallowed = null;
+		try {
+			if(Files.exists(imageFile))
+				return -1;
+			page = (List<?>)executor.executeScript(PAGE_SIZE_SCRIPT);
+			long pageHeight = ((Number)page.get(0)).longValue();
+			long viewportHeight = ((Number)page.get(1)).longValue();
+			if(pageHeight<1 || viewportHeight<1)
+				return 0;
+			executor.executeScript(SCROLL_SCRIPT, 0);
+			BufferedImage tile = captureScreenshot(driver);
+			//the first capture tells how many image rows a css pixel takes up
+			double scale = tile.getHeight()/(double)viewportHeight;
+			int width = tile.getWidth();
+			int height = (int)Math.round(pageHeight*scale);
+			if(tile.getHeight()>=height)
+				height = tile.getHeight();
+			int[] row = new int[width];
+			try(StreamingPngWriter png = new StreamingPngWriter(new BufferedOutputStream(Files.newOutputStream(imageFile,
+					StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)), width, height)) {
+				long scrolledTo = 0;
+				while(true) {
+					//image row of the page where this capture starts
+					int tileTop = (int)Math.round(scrolledTo*scale);
+					int from = png.getRowsWritten()-tileTop;
+					int to = Math.min(tile.getHeight(), height-tileTop);
+					int tileWidth = Math.min(width, tile.getWidth());
+					//a narrower capture leaves the rest of its rows white instead of the pixels of the last one
+					Arrays.fill(row, tileWidth, width, 0xFFFFFF);
+					for(int y=Math.max(0, from); y<to; y++) {
+						tile.getRGB(0, y, tileWidth, 1, row, 0, width);
+						png.writeRow(row);
+					}
+					if(png.getRowsWritten()>=height)
+						break;
+					tile = null;
+					long next = ((Number)executor.executeScript(SCROLL_SCRIPT, scrolledTo+viewportHeight)).longValue();
+					if(next<=scrolledTo) {
+						//the page stopped scrolling before its reported height so the rest is filled with white
+						Arrays.fill(row, 0xFFFFFF);
+						while(png.getRowsWritten()<height)
+							png.writeRow(row);
+						break;
+					}
+					scrolledTo = next;
+					tile = captureScreenshot(driver);
+				}
+			}
+			return 1;
+		}catch(FileAlreadyExistsException ex) {
+			swallowed = ex;
+			return -1;
+		}catch(Exception ex) {
+			swallowed = ex;
+			try {
+				Files.deleteIfExists(imageFile);
+			}catch(IOException deleteEx) {
+				//nothing else can be done if the partial file can't be removed
+			}
+			return 0;
+		}finally {
+			if(page!=null) {
+				try {
+					executor.executeScript(SCROLL_SCRIPT, page.get(2));
+				}catch(Exception ex) {
+					//restoring the scroll position is best effort
+				}
+			}
+			SAFE_TAKE_FULL_PAGE_SCREENSHOT.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Attempts to take a screenshot of the passed in WebElement and save it off to the specified path String value
+	 * and naming it the fileName String value that is passed in. If the WebDriver or WebElement is null or the
+	 * savePath String object or fileName String object is null or blank, then 0 is returned. If an exception
+	 * occurs during the process then 0 is returned as well. If the file that was passed in already exists in the
+	 * path that was passed in then -1 is returned. If the screenshot is created successfully then 1 is returned
+	 * to indicate that it was successful.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @return -> int
+	 */
+	public static int safeTakeScreenshotOfWebElement(WebDriver driver, WebElement element, String savePath, String fileName) {
+		return safeTakeScreenshotOfWebElement(driver, element, savePath, fileName, defaultEncoderProfile);
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshotOfWebElement(WebDriver, WebElement, String, String) but encodes
+	 * the screenshot using the passed in SafeImageEncoderProfile. If the profile is null then 0 is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> int
+	 */
+	public static int safeTakeScreenshotOfWebElement(WebDriver driver, WebElement element, String savePath, String fileName,
+			SafeImageEncoderProfile profile) {
+		if(driver==null || element==null || savePath.isEmpty() || fileName.isEmpty() || profile==null)
+			return 0;
+		long start = SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT.start();
+		Exception swallowed = null;
+		try {
+			//checks to see if the file alreadly exists
+			Path imageFile = Paths.get(savePath, fileName);
+			if(Files.exists(imageFile))
+				return -1;
+			//get entire page screenshot decoded in memory and cropped to the webelement
+			BufferedImage elementScreenshot = captureWebElement(driver, element);
+			//write the webelement screenshot to disk
+			writeImage(elementScreenshot, imageFile, profile);
+			return 1;
+		}catch(FileAlreadyExistsException ex) {
+			swallowed = ex;
+			return -1;
+		}catch(Exception ex) {
+			swallowed = ex;
+			return 0;
+		}finally {
+			SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Attempts to take a screenshot of the WebElement that matches the passed in source String value and
+	 * save it off to the specified path String value and naming it the fileName String value that is 
+	 * passed in. If the WebDriver or WebElement is null or the savePath String object or 
+	 * fileName String object is null or blank, then 0 is returned. If an exception
+	 * occurs during the process then 0 is returned as well. If the file that was passed in already exists in the
+	 * path that was passed in then -1 is returned. If the screenshot is created successfully then 1 is returned
+	 * to indicate that it was successful.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @return -> int
+	 */
+	public static int safeTakeScreenshotOfWebElementByString(WebDriver driver, String source, String sourceType, String savePath,
+			String fileName) {
+		return safeTakeScreenshotOfWebElementByString(driver, source, sourceType, savePath, fileName, defaultEncoderProfile);
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshotOfWebElementByString(WebDriver, String, String, String, String)
+	 * but encodes the screenshot using the passed in SafeImageEncoderProfile. If the profile is null then 0 is returned.
+	 * @param driver -> WebDriver
+	 * @param source -> String
+	 * @param sourceType -> String
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> int
+	 */
+	public static int safeTakeScreenshotOfWebElementByString(WebDriver driver, String source, String sourceType, String savePath,
+			String fileName, SafeImageEncoderProfile profile) {
+		if(driver==null || source.isEmpty() || sourceType.isEmpty() || savePath.isEmpty() || fileName.isEmpty() || profile==null)
+			return 0;
+		long start = SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT_BY_STRING.start();
+		Exception swallowed = null;
+		try {
+			WebElement sourceElement = HelperUtils.locateWebElement(driver, source, sourceType);
+			return safeTakeScreenshotOfWebElement(driver, sourceElement, savePath, fileName, profile);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return 0;
+		}finally {
+			SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT_BY_STRING.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshot(WebDriver, String, String) but stores the screenshot in the
+	 * passed in SafeScreenshotStore under the fileName String value, so a screenshot that is identical to one that
+	 * was already stored is only recorded as a reference. If the SafeScreenshotStore is null then 0 is returned.
+	 * If the fileName is already in the store then -1 is returned.
+	 * @param driver -> WebDriver
+	 * @param store -> SafeScreenshotStore
+	 * @param fileName -> String
+	 * @return -> int
+	 */
+	public static int safeTakeScreenshot(WebDriver driver, SafeScreenshotStore store, String fileName) {
+		if(driver==null || store==null || fileName.isEmpty())
+			return 0;
+		long start = SAFE_TAKE_SCREENSHOT.start();
+		Exception swallowed = null;
+		try {
+			if(store.resolve(fileName)!=null)
+				return -1;
+			return store.safeStore(captureScreenshot(driver), fileName, defaultEncoderProfile);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return 0;
+		}finally {
+			SAFE_TAKE_SCREENSHOT.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshotOfWebElement(WebDriver, WebElement, String, String) but stores the
+	 * screenshot in the passed in SafeScreenshotStore under the fileName String value, so a screenshot that is
+	 * identical to one that was already stored is only recorded as a reference. If the SafeScreenshotStore is null
+	 * then 0 is returned. If the fileName is already in the store then -1 is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @param store -> SafeScreenshotStore
+	 * @param fileName -> String
+	 * @return -> int
+	 */
+	public static int safeTakeScreenshotOfWebElement(WebDriver driver, WebElement element, SafeScreenshotStore store,
+			String fileName) {
+		if(driver==null || element==null || store==null || fileName.isEmpty())
+			return 0;
+		long start = SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT.start();
+		Exception swallowed = null;
+		try {
+			if(store.resolve(fileName)!=null)
+				return -1;
+			BufferedImage elementScreenshot = captureWebElement(driver, element);
+			return store.safeStore(elementScreenshot, fileName, defaultEncoderProfile);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return 0;
+		}finally {
+			SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshot(WebDriver, String, String) but only the driver call happens
+	 * on the calling thread. Writing the file is handed to the passed in SafeScreenshotWriter and the returned
+	 * CompletableFuture completes with the same values once the file is written. If the SafeScreenshotWriter is
+	 * null then a future that is already completed with 0 is returned.
+	 * @param writer -> SafeScreenshotWriter
+	 * @param driver -> WebDriver
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @return -> CompletableFuture<Integer>
+	 */
+	public static CompletableFuture<Integer> safeTakeScreenshotAsync(SafeScreenshotWriter writer, WebDriver driver,
+			String savePath, String fileName) {
+		return safeTakeScreenshotAsync(writer, driver, savePath, fileName, defaultEncoderProfile);
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshotAsync(SafeScreenshotWriter, WebDriver, String, String) but
+	 * encodes the screenshot using the passed in SafeImageEncoderProfile. If the profile is null then a future that
+	 * is already completed with 0 is returned.
+	 * @param writer -> SafeScreenshotWriter
+	 * @param driver -> WebDriver
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> CompletableFuture<Integer>
+	 */
+	public static CompletableFuture<Integer> safeTakeScreenshotAsync(SafeScreenshotWriter writer, WebDriver driver,
+			String savePath, String fileName, SafeImageEncoderProfile profile) {
+		if(writer==null || driver==null || savePath.isEmpty() || fileName.isEmpty() || profile==null)
+			return CompletableFuture.completedFuture(0);
+		long start = SAFE_TAKE_SCREENSHOT_ASYNC.start();
+		Exception swallowed = null;
+		try {
+			Path imageFile = Paths.get(savePath, fileName);
+			if(Files.exists(imageFile))
+				return CompletableFuture.completedFuture(-1);
+			byte[] screenshot = ((TakesScreenshot)driver).getScreenshotAs(OutputType.BYTES);
+			return writer.submit(screenshot, null, imageFile, profile);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return CompletableFuture.completedFuture(0);
+		}finally {
+			SAFE_TAKE_SCREENSHOT_ASYNC.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshotOfWebElement(WebDriver, WebElement, String, String) but only
+	 * the driver calls happen on the calling thread. Decoding, cropping and encoding the screenshot is handed to
+	 * the passed in SafeScreenshotWriter and the returned CompletableFuture completes with the same values once
+	 * the file is written. If the SafeScreenshotWriter is null then a future that is already completed with 0
+	 * is returned.
+	 * @param writer -> SafeScreenshotWriter
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @return -> CompletableFuture<Integer>
+	 */
+	public static CompletableFuture<Integer> safeTakeScreenshotOfWebElementAsync(SafeScreenshotWriter writer, WebDriver driver,
+			WebElement element, String savePath, String fileName) {
+		return safeTakeScreenshotOfWebElementAsync(writer, driver, element, savePath, fileName, defaultEncoderProfile);
+	}
+	
+	/**
+	 * Performs the same action as safeTakeScreenshotOfWebElementAsync(SafeScreenshotWriter, WebDriver, WebElement,
+	 * String, String) but encodes the screenshot using the passed in SafeImageEncoderProfile. If the profile is null
+	 * then a future that is already completed with 0 is returned.
+	 * @param writer -> SafeScreenshotWriter
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @param savePath -> String
+	 * @param fileName -> String
+	 * @param profile -> SafeImageEncoderProfile
+	 * @return -> CompletableFuture<Integer>
+	 */
+	public static CompletableFuture<Integer> safeTakeScreenshotOfWebElementAsync(SafeScreenshotWriter writer, WebDriver driver,
+			WebElement element, String savePath, String fileName, SafeImageEncoderProfile profile) {
+		if(writer==null || driver==null || element==null || savePath.isEmpty() || fileName.isEmpty() || profile==null)
+			return CompletableFuture.completedFuture(0);
+		long start = SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT_ASYNC.start();
+		Exception swallowed = null;
+		try {
+			Path imageFile = Paths.get(savePath, fileName);
+			if(Files.exists(imageFile))
+				return CompletableFuture.completedFuture(-1);
+			ElementBounds bounds = locateWebElementBounds(driver, element);
+			byte[] screenshot = ((TakesScreenshot)driver).getScreenshotAs(OutputType.BYTES);
+			//the png header holds the screenshot size so the crop can be worked out without decoding the image here
+			Rectangle crop = bounds.toCrop(pngWidth(screenshot), pngHeight(screenshot));
+			return writer.submit(screenshot, crop, imageFile, profile);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return CompletableFuture.completedFuture(0);
+		}finally {
+			SAFE_TAKE_SCREENSHOT_OF_WEB_ELEMENT_ASYNC.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Attempts to take a screenshot of the current screen and return it as an in memory BufferedImage without
+	 * writing anything to disk. If the WebDriver is null then null is returned. If an exception occurs during the
+	 * process then null is returned. If the screenshot is taken successfully then the BufferedImage is returned.
+	 * @param driver -> WebDriver
+	 * @return -> BufferedImage
+	 */
+	public static BufferedImage safeCaptureScreenshot(WebDriver driver) {
+		if(driver==null)
+			return null;
+		long start = SAFE_CAPTURE_SCREENSHOT.start();
+		Exception swallowed = null;
+		try {
+			return captureScreenshot(driver);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return null;
+		}finally {
+			SAFE_CAPTURE_SCREENSHOT.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Attempts to take a screenshot of the passed in WebElement and return it as an in memory BufferedImage without
+	 * writing anything to disk. If the WebDriver or WebElement is null then null is returned. If an exception occurs
+	 * during the process then null is returned. If the screenshot is taken successfully then the BufferedImage of
+	 * the WebElement is returned.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @return -> BufferedImage
+	 */
+	public static BufferedImage safeCaptureWebElement(WebDriver driver, WebElement element) {
+		if(driver==null || element==null)
+			return null;
+		long start = SAFE_CAPTURE_WEB_ELEMENT.start();
+		Exception swallowed = null;
+		try {
+			return captureWebElement(driver, element);
+		}catch(Exception ex) {
+			swallowed = ex;
+			return null;
+		}finally {
+			SAFE_CAPTURE_WEB_ELEMENT.stop(start, swallowed);
+		}
+	}
+	
+	/**
+	 * Requests the current screen from the driver as png bytes and decodes them in memory without
+	 * going through a temporary file. An IOException is thrown if the bytes could not be decoded.
+	 * @param driver -> WebDriver
+	 * @return -> BufferedImage
+	 * @throws IOException
+	 */
+	static BufferedImage captureScreenshot(WebDriver driver) throws IOException {
+		return decodeScreenshot(((TakesScreenshot)driver).getScreenshotAs(OutputType.BYTES));
+	}
+	
+	/**
+	 * Scrolls the passed in WebElement into view if needed, takes a screenshot and crops it down to the WebElement.
+	 * The returned image shares its pixels with the screenshot.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @return -> BufferedImage
+	 * @throws IOException
+	 */
+	static BufferedImage captureWebElement(WebDriver driver, WebElement element) throws IOException {
+		ElementBounds bounds = locateWebElementBounds(driver, element);
+		BufferedImage screenshot = captureScreenshot(driver);
+		Rectangle crop = bounds.toCrop(screenshot.getWidth(), screenshot.getHeight());
+		return screenshot.getSubimage(crop.x, crop.y, crop.width, crop.height);
+	}
+	
+	/**
+	 * Finds where the passed in WebElement is drawn. If the driver can run javascript then the WebElement is
+	 * scrolled into view first when it is outside of the viewport, since most drivers only capture the viewport,
+	 * and its bounding rectangle and the device pixel ratio are read in a single call. Otherwise the location and
+	 * size of the WebElement on the page are used as they are.
+	 * @param driver -> WebDriver
+	 * @param element -> WebElement
+	 * @return -> ElementBounds
+	 * @throws IOException
+	 */
+	static ElementBounds locateWebElementBounds(WebDriver driver, WebElement element) throws IOException {
+		if(driver instanceof JavascriptExecutor) {
+			Object result = ((JavascriptExecutor)driver).executeScript(ELEMENT_BOUNDS_SCRIPT, element);
+			if(result instanceof List && ((List<?>)result).size()==8) {
+				List<?> values = (List<?>)result;
+				double[] numbers = new double[values.size()];
+				for(int x=0; x<numbers.length; x++) {
+					numbers[x] = ((Number)values.get(x)).doubleValue();
+				}
+				return new ElementBounds(numbers[0], numbers[1], numbers[2], numbers[3], numbers[4], numbers[5],
+						numbers[6], numbers[7]);
+			}
+		}
+		Point point = SafeGetProperties.safeGetLocationOfWebElement(element);
+		Dimension dimension = SafeGetProperties.safeGetWebElementSize(element);
+		if(point==null || dimension==null)
+			throw new IOException("WebElement location could not be read");
+		//the location is already relative to the page so it is used as it is
+		return new ElementBounds(point.getX(), point.getY(), dimension.getWidth(), dimension.getHeight(), 1, 0, 0, 0);
+	}
+	
+	/**
+	 * Reads the image width from the header of the passed in png bytes.
+	 * @param png -> byte[]
+	 * @return -> int
+	 * @throws IOException
+	 */
+	static int pngWidth(byte[] png) throws IOException {
+		return readPngHeaderInt(png, 16);
+	}
+	
+	/**
+	 * Reads the image height from the header of the passed in png bytes.
+	 * @param png -> byte[]
+	 * @return -> int
+	 * @throws IOException
+	 */
+	static int pngHeight(byte[] png) throws IOException {
+		return readPngHeaderInt(png, 20);
+	}
+	
+	private static int readPngHeaderInt(byte[] png, int offset) throws IOException {
+		if(png==null || png.length<24 || png[12]!='I' || png[13]!='H' || png[14]!='D' || png[15]!='R')
+			throw new IOException("Screenshot is not a png");
+		return ((png[offset]&0xFF)<<24) | ((png[offset+1]&0xFF)<<16) | ((png[offset+2]&0xFF)<<8) | (png[offset+3]&0xFF);
+	}
+	
+	/**
+	 * Decodes the passed in screenshot bytes in memory. An IOException is thrown if the bytes are not
+	 * a readable image.
+	 * @param screenshot -> byte[]
+	 * @return -> BufferedImage
+	 * @throws IOException
+	 */
+	static BufferedImage decodeScreenshot(byte[] screenshot) throws IOException {
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(screenshot));
+		if(image==null)
+			throw new IOException("Screenshot bytes could not be decoded");
+		return image;
+	}
+	
+	/**
+	 * Writes the png bytes returned by the driver to the passed in imageFile Path. If the profile matches the
+	 * driver output then the bytes are written as they are, otherwise they are decoded and encoded again
+	 * using the profile.
+	 * @param screenshot -> byte[]
+	 * @param imageFile -> Path
+	 * @param profile -> SafeImageEncoderProfile
+	 * @throws IOException
+	 */
+	static void writeScreenshot(byte[] screenshot, Path imageFile, SafeImageEncoderProfile profile) throws IOException {
+		if(profile.matchesDriverOutput())
+			Files.write(imageFile, screenshot, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		else
+			writeImage(decodeScreenshot(screenshot), imageFile, profile);
+	}
+	
+	/**
+	 * Encodes the passed in BufferedImage using the passed in profile and writes it to the passed in imageFile
+	 * Path. The file is created as part of the write so a FileAlreadyExistsException is thrown if it already
+	 * exists. If the encoding fails after the file was created then the partially written file is removed again.
+	 * @param image -> BufferedImage
+	 * @param imageFile -> Path
+	 * @param profile -> SafeImageEncoderProfile
+	 * @throws IOException
+	 */
+	static void writeImage(BufferedImage image, Path imageFile, SafeImageEncoderProfile profile) throws IOException {
+		OutputStream out = Files.newOutputStream(imageFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		try {
+			try {
+				profile.write(image, out);
+			}finally {
+				out.close();
+			}
+		}catch(IOException | RuntimeException ex) {
+			Files.deleteIfExists(imageFile);
+			throw ex;
+		}
+	}
+	
+	/**
+	 * The location of a WebElement as reported by the browser. The x and y values are relative to the viewport
+	 * when the viewport height is known and relative to the page otherwise. The scale is the device pixel ratio.
+	 */
+	static final class ElementBounds {
+		private final double x;
+		private final double y;
+		private final double width;
+		private final double height;
+		private final double scale;
+		private final double scrollX;
+		private final double scrollY;
+		private final double viewportHeight;
+		
+		ElementBounds(double x, double y, double width, double height, double scale, double scrollX, double scrollY,
+				double viewportHeight) {
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.scale = scale<=0 ? 1 : scale;
+			this.scrollX = scrollX;
+			this.scrollY = scrollY;
+			this.viewportHeight = viewportHeight;
+		}
+		
+		/**
+		 * Converts the bounds to the pixel Rectangle to crop out of a screenshot of the passed in size and clamps it
+		 * to the screenshot, so a WebElement that is partly outside of the capture is cut off instead of failing.
+		 * If the screenshot is taller than the viewport then the driver captured the whole page and the scroll
+		 * offsets are added back. An IOException is thrown if the WebElement is not inside the screenshot at all.
+		 * @param imageWidth -> int
+		 * @param imageHeight -> int
+		 * @return -> Rectangle
+		 * @throws IOException
+		 */
+		Rectangle toCrop(int imageWidth, int imageHeight) throws IOException {
+			double left = x;
+			double top = y;
+			if(viewportHeight>0 && imageHeight>Math.ceil(viewportHeight*scale)+1) {
+				left += scrollX;
+				top += scrollY;
+			}
+			int cropX = (int)Math.floor(left*scale);
+			int cropY = (int)Math.floor(top*scale);
+			Rectangle crop = new Rectangle(cropX, cropY, (int)Math.ceil((left+width)*scale)-cropX,
+					(int)Math.ceil((top+height)*scale)-cropY).intersection(new Rectangle(0, 0, imageWidth, imageHeight));
+			if(crop.isEmpty())
+				throw new IOException("WebElement is outside of the screenshot");
+			return crop;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package safe_automation_utils.safe_screenshots;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Writes an 8 bit RGB png one row at a time so images that are too big to hold in memory can still be written.
+ * Only the compressed data of the current IDAT chunk is buffered. Every row uses the Sub filter which is cheap
+ * to compute and compresses the flat areas of web pages well.
+ */
+final class StreamingPngWriter implements Closeable {
+
+	private static final byte[] SIGNATURE = {(byte)0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+	private static final int CHUNK_SIZE = 64*1024;
+
+	private final DataOutputStream out;
+	private final int width;
+	private final int height;
+	private final byte[] filteredRow;
+	private final DeflaterOutputStream imageData;
+	private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+	private int rowsWritten;
+
+	/**
+	 * Writes the png signature and header for an image of the passed in size to the passed in OutputStream.
+	 * @param out -> OutputStream
+	 * @param width -> int
+	 * @param height -> int
+	 * @throws IOException
+	 */
+	StreamingPngWriter(OutputStream out, int width, int height) throws IOException {
+		if(width<1 || height<1)
+			throw new IOException("Image size must be positive");
+		this.out = new DataOutputStream(out);
+		this.width = width;
+		this.height = height;
+		this.filteredRow = new byte[1 + width*3];
+		this.out.write(SIGNATURE);
+		byte[] headerData = new byte[13];
+		headerData[0] = (byte)(width>>>24);
+		headerData[1] = (byte)(width>>>16);
+		headerData[2] = (byte)(width>>>8);
+		headerData[3] = (byte)width;
+		headerData[4] = (byte)(height>>>24);
+		headerData[5] = (byte)(height>>>16);
+		headerData[6] = (byte)(height>>>8);
+		headerData[7] = (byte)height;
+		//8 bits per channel, truecolor, deflate, adaptive filtering, no interlace
+		headerData[8] = 8;
+		headerData[9] = 2;
+		writeChunk("IHDR", headerData, headerData.length);
+		this.imageData = new DeflaterOutputStream(new ChunkOutputStream(), deflater, CHUNK_SIZE);
+	}
+
+	/**
+	 * Returns the number of rows written so far.
+	 * @return -> int
+	 */
+	int getRowsWritten() {
+		return rowsWritten;
+	}
+
+	/**
+	 * Writes the next row of the image. The row holds RGB int values and must be at least as long as the width.
+	 * @param rgb -> int[]
+	 * @throws IOException
+	 */
+	void writeRow(int[] rgb) throws IOException {
+		if(rowsWritten>=height)
+			throw new IOException("All rows have already been written");
+		filteredRow[0] = 1;
+		int previous = 0;
+		for(int x=0, offset=1; x<width; x++, offset+=3) {
+			int pixel = rgb[x];
+			filteredRow[offset] = (byte)((pixel>>16) - (previous>>16));
+			filteredRow[offset+1] = (byte)((pixel>>8) - (previous>>8));
+			filteredRow[offset+2] = (byte)(pixel - previous);
+			previous = pixel;
+		}
+		imageData.write(filteredRow);
+		rowsWritten++;
+	}
+
+	/**
+	 * Finishes the compressed image data and writes the end chunk. An IOException is thrown if fewer rows than
+	 * the height were written. The underlying OutputStream is closed either way.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if(rowsWritten!=height)
+				throw new IOException("Only " + rowsWritten + " of " + height + " rows were written");
+			imageData.finish();
+			imageData.flush();
+			writeChunk("IEND", new byte[0], 0);
+		}finally {
+			deflater.end();
+			out.close();
+		}
+	}
+
+	private void writeChunk(String type, byte[] data, int length) throws IOException {
+		byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+		CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data, 0, length);
+		out.writeInt(length);
+		out.write(typeBytes);
+		out.write(data, 0, length);
+		out.writeInt((int)crc.getValue());
+	}
+
+	/**
+	 * Collects the compressed image data and writes it out as IDAT chunks of at most CHUNK_SIZE bytes.
+	 */
+	private final class ChunkOutputStream extends OutputStream {
+		private final byte[] buffer = new byte[CHUNK_SIZE];
+		private int count;
+
+		@Override
+		public void write(int b) throws IOException {
+			if(count==buffer.length)
+				flush();
+			buffer[count++] = (byte)b;
+		}
+
+		@Override
+		public void write(byte[] data, int offset, int length) throws IOException {
+			while(length>0) {
+				if(count==buffer.length)
+					flush();
+				int copied = Math.min(length, buffer.length-count);
+				System.arraycopy(data, offset, buffer, count, copied);
+				count += copied;
+				offset += copied;
+				length -= copied;
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if(count>0) {
+				writeChunk("IDAT", buffer, count);
+				count = 0;
+			}
+		}
+	}
+}
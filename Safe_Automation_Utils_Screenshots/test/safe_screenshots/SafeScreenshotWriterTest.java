@@ -0,0 +1,142 @@
+package safe_automation_utils.safe_screenshots;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.SampleModel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import safe_automation_utils.safe_screenshots.SafeScreenshotWriter.QueueFullPolicy;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Fills the queue of a writer with a single worker and a queue of one while the worker is held on a capture, and
+ * checks what every QueueFullPolicy does with the next capture.
+ */
+public class SafeScreenshotWriterTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final HeldImage held = new HeldImage();
+	private SafeScreenshotWriter writer;
+
+	@After
+	public void release() {
+		held.release.countDown();
+		if(writer!=null)
+			writer.close(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void dropOldestCompletesTheQueuedCaptureWithMinusTwo() throws Exception {
+		writer = new SafeScreenshotWriter(1, 1, QueueFullPolicy.DROP_OLDEST);
+		CompletableFuture<Integer> first = hold();
+		CompletableFuture<Integer> queued = writer.submit(image(), file("queued.png"));
+		CompletableFuture<Integer> next = writer.submit(image(), file("next.png"));
+		assertEquals(-2, (int)queued.get(0, TimeUnit.SECONDS));
+		held.release.countDown();
+		assertEquals(1, (int)first.get(10, TimeUnit.SECONDS));
+		assertEquals(1, (int)next.get(10, TimeUnit.SECONDS));
+		assertFalse(Files.exists(file("queued.png")));
+		assertTrue(Files.exists(file("next.png")));
+	}
+
+	@Test
+	public void runSynchronouslyWritesOnTheCallingThread() throws Exception {
+		writer = new SafeScreenshotWriter(1, 1, QueueFullPolicy.RUN_SYNCHRONOUSLY);
+		CompletableFuture<Integer> first = hold();
+		CompletableFuture<Integer> queued = writer.submit(image(), file("queued.png"));
+		CompletableFuture<Integer> next = writer.submit(image(), file("next.png"));
+		//the worker is still held, so only the calling thread can have written it
+		assertTrue(next.isDone());
+		assertEquals(1, (int)next.get());
+		assertFalse(queued.isDone());
+		held.release.countDown();
+		assertEquals(1, (int)first.get(10, TimeUnit.SECONDS));
+		assertEquals(1, (int)queued.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void blockWaitsForQueueSpace() throws Exception {
+		writer = new SafeScreenshotWriter(1, 1, QueueFullPolicy.BLOCK);
+		CompletableFuture<Integer> first = hold();
+		CompletableFuture<Integer> queued = writer.submit(image(), file("queued.png"));
+		CompletableFuture<CompletableFuture<Integer>> submitted = CompletableFuture.supplyAsync(() -> writer.submit(image(), file("next.png")));
+		Thread.sleep(200);
+		assertFalse(submitted.isDone());
+		held.release.countDown();
+		CompletableFuture<Integer> next = submitted.get(10, TimeUnit.SECONDS);
+		assertEquals(1, (int)first.get(10, TimeUnit.SECONDS));
+		assertEquals(1, (int)queued.get(10, TimeUnit.SECONDS));
+		assertEquals(1, (int)next.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void reportsExistingFilesAndClosedWriters() throws Exception {
+		writer = new SafeScreenshotWriter(1, 1, QueueFullPolicy.BLOCK);
+		Path existing = folder.newFile("existing.png").toPath();
+		assertEquals(-1, (int)writer.submit(image(), existing).get(10, TimeUnit.SECONDS));
+		assertTrue(writer.close(10, TimeUnit.SECONDS));
+		assertEquals(-2, (int)writer.submit(image(), file("closed.png")).get(0, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Submits the held image and waits until the worker is inside it.
+	 */
+	private CompletableFuture<Integer> hold() throws Exception {
+		CompletableFuture<Integer> result = writer.submit(held, file("held.png"));
+		assertTrue(held.entered.await(10, TimeUnit.SECONDS));
+		return result;
+	}
+
+	private Path file(String name) {
+		return folder.getRoot().toPath().resolve(name);
+	}
+
+	private static BufferedImage image() {
+		return new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+	}
+
+	/**
+	 * An image the encoder waits on until it is released, which keeps the worker busy for as long as a test needs.
+	 */
+	private static final class HeldImage extends BufferedImage {
+
+		private final CountDownLatch entered = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		HeldImage() {
+			super(8, 8, BufferedImage.TYPE_INT_RGB);
+		}
+
+		@Override
+		public SampleModel getSampleModel() {
+			//the latches are still null while the super constructor runs
+			if(entered!=null) {
+				entered.countDown();
+				try {
+					release.await();
+				}catch(InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return super.getSampleModel();
+		}
+	}
+}
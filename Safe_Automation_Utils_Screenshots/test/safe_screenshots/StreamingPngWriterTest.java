@@ -0,0 +1,87 @@
+package safe_automation_utils.safe_screenshots;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Arthur Reynolds
+ * created: 10/19/2026
+ * updated: 10/19/2026
+ *
+ * Writes images with StreamingPngWriter and reads them back with ImageIO, which checks the chunk CRCs, the
+ * filters and the compressed data along the way.
+ */
+public class StreamingPngWriterTest {
+
+	@Test
+	public void noiseSpanningSeveralChunksReadsBackUnchanged() throws IOException {
+		//noise hardly compresses, so 300x200 pixels need several 64 KB IDAT chunks
+		int[][] rows = new int[200][300];
+		Random random = new Random(7);
+		for(int[] row:rows) {
+			for(int x=0; x<row.length; x++) {
+				row[x] = random.nextInt(0x1000000);
+			}
+		}
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		try(StreamingPngWriter writer = new StreamingPngWriter(png, 300, 200)) {
+			for(int[] row:rows) {
+				writer.writeRow(row);
+			}
+		}
+		assertTrue(png.size()>2*64*1024);
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(png.toByteArray()));
+		assertEquals(300, image.getWidth());
+		assertEquals(200, image.getHeight());
+		for(int y=0; y<rows.length; y++) {
+			for(int x=0; x<rows[y].length; x++) {
+				assertEquals("pixel " + x + "," + y, rows[y][x], image.getRGB(x, y) & 0xFFFFFF);
+			}
+		}
+	}
+
+	@Test
+	public void ignoresAlphaAndTheRestOfALongerRow() throws IOException {
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		try(StreamingPngWriter writer = new StreamingPngWriter(png, 2, 1)) {
+			writer.writeRow(new int[] {0xFF102030, 0x00FFFFFF, 0x123456});
+		}
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(png.toByteArray()));
+		assertEquals(2, image.getWidth());
+		assertEquals(0x102030, image.getRGB(0, 0) & 0xFFFFFF);
+		assertEquals(0xFFFFFF, image.getRGB(1, 0) & 0xFFFFFF);
+	}
+
+	@Test
+	public void refusesTooFewAndTooManyRows() throws IOException {
+		StreamingPngWriter writer = new StreamingPngWriter(new ByteArrayOutputStream(), 4, 2);
+		writer.writeRow(new int[4]);
+		try {
+			writer.close();
+			fail("closed after 1 of 2 rows");
+		}catch(IOException ex) {
+			//expected
+		}
+		writer = new StreamingPngWriter(new ByteArrayOutputStream(), 4, 1);
+		writer.writeRow(new int[4]);
+		try {
+			writer.writeRow(new int[4]);
+			fail("wrote a second row into an image of 1");
+		}catch(IOException ex) {
+			//expected
+		}
+		writer.close();
+	}
+}